@@ -0,0 +1,148 @@
+package io.sphere.sdk.client.metrics;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.SphereClientDecorator;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.client.SphereRequestUtils;
+import io.sphere.sdk.client.SphereServiceException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A decorator for {@link SphereClient}s which records the latencies of the {@link RequestPhase}s
+ * of each request into HdrHistograms, separated by endpoint and HTTP status code.
+ *
+ * <p>In contrast to {@link SimpleMetricsSphereClient} it does not publish an event per request
+ * but aggregates the latencies in nanoseconds, so percentiles can be read directly with {@link #getSnapshots()}
+ * or exported with {@link MicrometerHistogramMetricsBinder}.</p>
+ *
+ * <p>Besides the cumulative latencies the client keeps a sliding window of the recent latencies, by default
+ * of one minute, which is read with {@link #getWindowSnapshots()}.</p>
+ *
+ * {@include.example io.sphere.sdk.client.metrics.HistogramMetricsSphereClientDemo}
+ */
+public final class HistogramMetricsSphereClient extends SphereClientDecorator implements SphereClient {
+    private static final int MAX_STATUS_CODE = 600;
+    private static final int WINDOW_SLOTS = 6;
+    private final ConcurrentHashMap<String, AtomicReferenceArray<LatencySeries>> seriesByEndpoint = new ConcurrentHashMap<>();
+    private final List<Consumer<LatencySeries>> seriesListeners = new CopyOnWriteArrayList<>();
+
+    private final long windowNanos;
+
+    private HistogramMetricsSphereClient(final SphereClient delegate, final Duration window) {
+        super(delegate);
+        this.windowNanos = window.toNanos();
+    }
+
+    public static HistogramMetricsSphereClient of(final SphereClient delegate) {
+        return of(delegate, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Creates a client with a custom length of the sliding window.
+     *
+     * @param delegate the client to wrap
+     * @param window the duration of the sliding window, it advances in steps of a sixth of it
+     * @return decorated client
+     */
+    public static HistogramMetricsSphereClient of(final SphereClient delegate, final Duration window) {
+        return new HistogramMetricsSphereClient(delegate, window);
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final long startNanos = System.nanoTime();
+        final PhaseTimingSphereRequest<T> timingRequest = new PhaseTimingSphereRequest<>(sphereRequest, startNanos);
+        final CompletionStage<T> completionStage = super.execute(timingRequest);
+        completionStage.whenComplete((result, error) -> record(sphereRequest, timingRequest, startNanos, error));
+        return completionStage;
+    }
+
+    /**
+     * Creates snapshots of the latencies recorded since the creation of this client.
+     *
+     * @return one snapshot per combination of endpoint and status code
+     */
+    public List<LatencySnapshot> getSnapshots() {
+        final List<LatencySnapshot> snapshots = new ArrayList<>();
+        forEachSeries(series -> snapshots.add(series.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Creates snapshots of the latencies recorded in the sliding window.
+     *
+     * @return one snapshot per combination of endpoint and status code, the counts are the ones of the window
+     */
+    public List<LatencySnapshot> getWindowSnapshots() {
+        final List<LatencySnapshot> snapshots = new ArrayList<>();
+        forEachSeries(series -> snapshots.add(series.snapshotOfWindow()));
+        return snapshots;
+    }
+
+    void forEachSeries(final Consumer<LatencySeries> consumer) {
+        seriesByEndpoint.values().forEach(seriesArray -> {
+            for (int i = 0; i < seriesArray.length(); i++) {
+                final LatencySeries series = seriesArray.get(i);
+                if (series != null) {
+                    consumer.accept(series);
+                }
+            }
+        });
+    }
+
+    /**
+     * Registers a listener which is called for every combination of endpoint and status code
+     * which is used for the first time.
+     */
+    void addSeriesListener(final Consumer<LatencySeries> listener) {
+        seriesListeners.add(listener);
+    }
+
+    private void record(final SphereRequest<?> sphereRequest, final PhaseTimingSphereRequest<?> timingRequest, final long startNanos, final Throwable error) {
+        final long endNanos = System.nanoTime();
+        final int statusCode = error == null ? timingRequest.getStatusCode() : statusCodeOf(error);
+        final LatencySeries series = getSeries(SphereRequestUtils.endpointPath(sphereRequest), statusCode);
+        series.get(RequestPhase.TOTAL).record(endNanos - startNanos);
+        final long serializationNanos = timingRequest.getSerializationNanos();
+        if (serializationNanos >= 0) {
+            series.get(RequestPhase.SERIALIZATION).record(serializationNanos);
+        }
+        series.get(RequestPhase.HTTP).record(timingRequest.getHttpNanos(endNanos));
+        final long deserializationNanos = timingRequest.getDeserializationNanos();
+        if (deserializationNanos >= 0) {
+            series.get(RequestPhase.DESERIALIZATION).record(deserializationNanos);
+        }
+    }
+
+    private LatencySeries getSeries(final String endpoint, final int statusCode) {
+        final int index = statusCode >= 0 && statusCode < MAX_STATUS_CODE ? statusCode : 0;
+        final AtomicReferenceArray<LatencySeries> seriesArray = seriesByEndpoint.computeIfAbsent(endpoint, e -> new AtomicReferenceArray<>(MAX_STATUS_CODE));
+        final LatencySeries existing = seriesArray.get(index);
+        if (existing != null) {
+            return existing;
+        }
+        final LatencySeries created = new LatencySeries(endpoint, index, windowNanos, WINDOW_SLOTS);
+        if (seriesArray.compareAndSet(index, null, created)) {
+            seriesListeners.forEach(listener -> listener.accept(created));
+            return created;
+        } else {
+            return seriesArray.get(index);
+        }
+    }
+
+    private static int statusCodeOf(final Throwable error) {
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof SphereServiceException && ((SphereServiceException) cause).getStatusCode() != null
+                ? ((SphereServiceException) cause).getStatusCode()
+                : 0;
+    }
+}
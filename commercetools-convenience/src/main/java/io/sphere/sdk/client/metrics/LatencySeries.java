@@ -0,0 +1,50 @@
+package io.sphere.sdk.client.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The histograms of all phases for one combination of endpoint and status code.
+ */
+final class LatencySeries {
+    private final String endpoint;
+    private final int statusCode;
+    private final PhaseHistogram[] histograms;
+
+    LatencySeries(final String endpoint, final int statusCode, final long windowNanos, final int windowSlots) {
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.histograms = new PhaseHistogram[RequestPhase.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new PhaseHistogram(windowNanos, windowSlots);
+        }
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    PhaseHistogram get(final RequestPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    LatencySnapshot snapshot() {
+        final Map<RequestPhase, org.HdrHistogram.Histogram> copies = new EnumMap<>(RequestPhase.class);
+        for (final RequestPhase phase : RequestPhase.values()) {
+            copies.put(phase, get(phase).copy());
+        }
+        return new LatencySnapshot(endpoint, statusCode, copies);
+    }
+
+    LatencySnapshot snapshotOfWindow() {
+        final Map<RequestPhase, org.HdrHistogram.Histogram> copies = new EnumMap<>(RequestPhase.class);
+        for (final RequestPhase phase : RequestPhase.values()) {
+            copies.put(phase, get(phase).copyOfWindow());
+        }
+        return new LatencySnapshot(endpoint, statusCode, copies);
+    }
+}
@@ -0,0 +1,66 @@
+package io.sphere.sdk.client.metrics;
+
+import io.sphere.sdk.models.Base;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the latencies of all requests to one endpoint which resulted in the same status code,
+ * recorded by {@link HistogramMetricsSphereClient}. All values are in nanoseconds.
+ */
+public final class LatencySnapshot extends Base {
+    private final String endpoint;
+    private final int statusCode;
+    private final Map<RequestPhase, Histogram> histograms;
+
+    LatencySnapshot(final String endpoint, final int statusCode, final Map<RequestPhase, Histogram> histograms) {
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.histograms = histograms;
+    }
+
+    /**
+     * The endpoint like "/product-projections", see {@link io.sphere.sdk.client.SphereRequestUtils#endpointPath(io.sphere.sdk.client.SphereRequest)}.
+     *
+     * @return endpoint path
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * The HTTP status code or 0 if the request failed without a response from the platform.
+     *
+     * @return status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getCount(final RequestPhase phase) {
+        return histograms.get(phase).getTotalCount();
+    }
+
+    public long getValueAtPercentile(final RequestPhase phase, final double percentile) {
+        return histograms.get(phase).getValueAtPercentile(percentile);
+    }
+
+    public double getMean(final RequestPhase phase) {
+        return histograms.get(phase).getMean();
+    }
+
+    public long getMax(final RequestPhase phase) {
+        return histograms.get(phase).getMaxValue();
+    }
+
+    /**
+     * A copy of the underlying histogram for further analysis.
+     *
+     * @param phase the phase of the execution
+     * @return histogram with values in nanoseconds
+     */
+    public Histogram getHistogram(final RequestPhase phase) {
+        return histograms.get(phase).copy();
+    }
+}
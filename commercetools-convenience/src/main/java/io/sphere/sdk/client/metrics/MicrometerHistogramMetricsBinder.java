@@ -0,0 +1,63 @@
+package io.sphere.sdk.client.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the latencies recorded by a {@link HistogramMetricsSphereClient} to a Micrometer {@link MeterRegistry}.
+ *
+ * <p>For every endpoint, status code and {@link RequestPhase} there is a counter "commercetools.client.requests"
+ * and gauges "commercetools.client.latency" in milliseconds for the configured percentiles.
+ * The counter is cumulative, the percentiles are the ones of the sliding window of the client,
+ * so they follow changes of the latencies.
+ * Requires the optional dependency {@code io.micrometer:micrometer-core}.</p>
+ */
+public final class MicrometerHistogramMetricsBinder implements MeterBinder {
+    private final HistogramMetricsSphereClient client;
+    private final double[] percentiles;
+
+    private MicrometerHistogramMetricsBinder(final HistogramMetricsSphereClient client, final double[] percentiles) {
+        this.client = client;
+        this.percentiles = percentiles;
+    }
+
+    /**
+     * Creates a binder.
+     *
+     * @param client the client which records the latencies
+     * @param percentiles percentiles to export, for example 50.0, 95.0 and 99.0
+     * @return binder
+     */
+    public static MicrometerHistogramMetricsBinder of(final HistogramMetricsSphereClient client, final double... percentiles) {
+        return new MicrometerHistogramMetricsBinder(client, percentiles.clone());
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        client.addSeriesListener(series -> register(registry, series));
+        client.forEachSeries(series -> register(registry, series));
+    }
+
+    private void register(final MeterRegistry registry, final LatencySeries series) {
+        for (final RequestPhase phase : RequestPhase.values()) {
+            final PhaseHistogram histogram = series.get(phase);
+            final Tags tags = Tags.of("endpoint", series.getEndpoint(),
+                    "status", Integer.toString(series.getStatusCode()),
+                    "phase", phase.name().toLowerCase());
+            FunctionCounter.builder("commercetools.client.requests", histogram, PhaseHistogram::getTotalCount)
+                    .tags(tags)
+                    .register(registry);
+            for (final double percentile : percentiles) {
+                Gauge.builder("commercetools.client.latency", histogram, h -> h.getValueAtPercentileOfWindow(percentile) / TimeUnit.MILLISECONDS.toNanos(1))
+                        .tags(tags.and("percentile", Double.toString(percentile)))
+                        .baseUnit("milliseconds")
+                        .register(registry);
+            }
+        }
+    }
+}
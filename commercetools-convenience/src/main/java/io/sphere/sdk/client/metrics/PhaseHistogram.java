@@ -0,0 +1,71 @@
+package io.sphere.sdk.client.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies of one phase, recorded wait-free and merged when read into a cumulative histogram
+ * and into a ring of interval histograms which form a sliding window. Recorded values are assigned to the slot
+ * of the window which is current when they are read, so the window is exact as long as it is read regularly.
+ */
+final class PhaseHistogram {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram cumulative = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram[] window;
+    private final long slotNanos;
+    private int currentSlot = 0;
+    private long currentSlotStartNanos = System.nanoTime();
+    private Histogram interval = null;
+
+    PhaseHistogram(final long windowNanos, final int slots) {
+        this.slotNanos = Math.max(1, windowNanos / slots);
+        this.window = new Histogram[slots];
+        for (int i = 0; i < slots; i++) {
+            window[i] = new Histogram(SIGNIFICANT_DIGITS);
+        }
+    }
+
+    void record(final long nanos) {
+        recorder.recordValue(Math.max(0, nanos));
+    }
+
+    synchronized Histogram copy() {
+        drain();
+        return cumulative.copy();
+    }
+
+    synchronized Histogram copyOfWindow() {
+        drain();
+        final Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+        for (final Histogram slot : window) {
+            merged.add(slot);
+        }
+        return merged;
+    }
+
+    synchronized long getTotalCount() {
+        drain();
+        return cumulative.getTotalCount();
+    }
+
+    synchronized double getValueAtPercentileOfWindow(final double percentile) {
+        return copyOfWindow().getValueAtPercentile(percentile);
+    }
+
+    private void drain() {
+        rotate(System.nanoTime());
+        interval = recorder.getIntervalHistogram(interval);
+        cumulative.add(interval);
+        window[currentSlot].add(interval);
+    }
+
+    private void rotate(final long nowNanos) {
+        final long elapsedSlots = (nowNanos - currentSlotStartNanos) / slotNanos;
+        for (long i = 0; i < Math.min(elapsedSlots, window.length); i++) {
+            currentSlot = (currentSlot + 1) % window.length;
+            window[currentSlot].reset();
+        }
+        currentSlotStartNanos += elapsedSlots * slotNanos;
+    }
+}
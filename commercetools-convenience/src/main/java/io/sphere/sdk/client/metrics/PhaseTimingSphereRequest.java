@@ -0,0 +1,68 @@
+package io.sphere.sdk.client.metrics;
+
+import io.sphere.sdk.client.HttpRequestIntent;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.client.SphereRequestDecorator;
+import io.sphere.sdk.http.HttpResponse;
+
+import javax.annotation.Nullable;
+
+/**
+ * Like {@link MetricSphereRequest} but only stores the timestamps of the phases instead of publishing events,
+ * so one execution allocates nothing but this object.
+ */
+final class PhaseTimingSphereRequest<T> extends SphereRequestDecorator<T> {
+    private volatile long serializationNanos = -1;
+    private volatile long serializationEndNanos;
+    private volatile long deserializationStartNanos;
+    private volatile long deserializationEndNanos;
+    private volatile int statusCode;
+
+    PhaseTimingSphereRequest(final SphereRequest<T> delegate, final long startNanos) {
+        super(delegate);
+        this.serializationEndNanos = startNanos;
+    }
+
+    @Override
+    public HttpRequestIntent httpRequestIntent() {
+        final long start = System.nanoTime();
+        final HttpRequestIntent result = super.httpRequestIntent();
+        //only the first call is the one for sending the request, further calls are for example for error messages
+        if (serializationNanos < 0) {
+            final long end = System.nanoTime();
+            serializationEndNanos = end;
+            serializationNanos = end - start;
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public T deserialize(final HttpResponse httpResponse) {
+        deserializationStartNanos = System.nanoTime();
+        statusCode = httpResponse.getStatusCode() == null ? 0 : httpResponse.getStatusCode();
+        final T result = super.deserialize(httpResponse);
+        deserializationEndNanos = System.nanoTime();
+        return result;
+    }
+
+    long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    /**
+     * The time between the serialization and the deserialization or the end of the execution if there is no deserialization.
+     */
+    long getHttpNanos(final long endNanos) {
+        final long httpEnd = deserializationStartNanos != 0 ? deserializationStartNanos : endNanos;
+        return Math.max(0, httpEnd - serializationEndNanos);
+    }
+
+    long getDeserializationNanos() {
+        return deserializationStartNanos != 0 ? deserializationEndNanos - deserializationStartNanos : -1;
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+}
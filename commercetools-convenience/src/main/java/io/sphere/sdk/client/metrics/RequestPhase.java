@@ -0,0 +1,23 @@
+package io.sphere.sdk.client.metrics;
+
+/**
+ * The phases of one execution of a {@link io.sphere.sdk.client.SphereRequest} which are measured by {@link HistogramMetricsSphereClient}.
+ */
+public enum RequestPhase {
+    /**
+     * Transforming the Java request object into a {@link io.sphere.sdk.client.HttpRequestIntent}.
+     */
+    SERIALIZATION,
+    /**
+     * Waiting for the HTTP response of the platform including the time in the underlying HTTP client.
+     */
+    HTTP,
+    /**
+     * Transforming the HTTP response body into a Java object, only measured for successful responses.
+     */
+    DESERIALIZATION,
+    /**
+     * The whole execution until the {@link java.util.concurrent.CompletionStage} is completed.
+     */
+    TOTAL
+}
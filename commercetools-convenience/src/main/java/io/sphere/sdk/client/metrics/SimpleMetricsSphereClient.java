@@ -13,6 +13,8 @@ import java.util.concurrent.atomic.AtomicLong;
  * as well as the time waiting for the response of the commercetools platform.
  *
  * {@include.example io.sphere.sdk.client.metrics.SimpleMetricsSphereClientDemo}
+ *
+ * <p>For percentiles aggregated by endpoint and status code see {@link HistogramMetricsSphereClient}.</p>
  */
 public final class SimpleMetricsSphereClient extends SphereClientDecorator implements SphereClient {
     private final AtomicLong requestIdGenerator = new AtomicLong(0);
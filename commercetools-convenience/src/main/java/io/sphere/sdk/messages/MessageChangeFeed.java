@@ -0,0 +1,247 @@
+package io.sphere.sdk.messages;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.messages.queries.MessageQuery;
+import io.sphere.sdk.messages.queries.MessageQueryModel;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.queries.PagedQueryResult;
+import io.sphere.sdk.queries.Query;
+import io.sphere.sdk.queries.QueryPredicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Polls {@link MessageQuery} for new messages and dispatches them to typed handlers.
+ *
+ * <p>For each resource type of the registered handlers the feed tracks a {@link MessageWatermark}. A poll queries only
+ * the messages created after the watermark, minus a small overlap to find messages which became visible with a delay.
+ * The ids of recently handled messages are remembered, so messages fetched again because of the overlap are not
+ * dispatched twice. If messages are found the next poll starts after the minimum interval, otherwise the interval
+ * doubles up to the maximum interval.</p>
+ *
+ * <p>The messages are handled by several threads, but all messages of one resource are handled by the same thread in
+ * the order of their creation. The watermark advances only after all messages of a page have been handled. If a
+ * handler throws an exception the later messages of the same resource are skipped and the message is dispatched again
+ * in the next poll, so the handlers should be idempotent. After the maximum number of attempts
+ * ({@link MessageChangeFeedBuilder#maxAttempts(int)}) the message is passed to the failed message handler
+ * ({@link MessageChangeFeedBuilder#failedMessageHandler(BiConsumer)}) and counts as handled, so a message which always fails
+ * does not stop the feed.
+ * Since the remembered ids are not persisted, messages of the overlap are also dispatched again after resuming a feed
+ * from {@link #getWatermarks()}.</p>
+ *
+ * @see MessageChangeFeedBuilder
+ */
+public final class MessageChangeFeed extends Base implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageChangeFeed.class);
+
+    private final SphereClient client;
+    private final Map<String, List<TypedMessageHandler<?>>> handlersByResourceType;
+    private final ConcurrentMap<String, MessageWatermark> watermarks = new ConcurrentHashMap<>();
+    private final RecentMessageIds recentMessageIds;
+    private final ConcurrentMap<String, Integer> failedAttemptsByMessageId = new ConcurrentHashMap<>();
+    private final int maxAttempts;
+    private final BiConsumer<Message, RuntimeException> failedMessageHandler;
+    private final ExecutorService[] lanes;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Duration minPollInterval;
+    private final Duration maxPollInterval;
+    private final Duration overlap;
+    private final long pageSize;
+    private volatile Duration pollInterval;
+    private volatile boolean closed;
+
+    MessageChangeFeed(final SphereClient client, final List<TypedMessageHandler<?>> handlers,
+                      final Map<String, MessageWatermark> watermarks, final ZonedDateTime startAt,
+                      final Duration minPollInterval, final Duration maxPollInterval, final Duration overlap,
+                      final int pageSize, final int parallelism, final int deduplicationCapacity,
+                      final int maxAttempts, final BiConsumer<Message, RuntimeException> failedMessageHandler) {
+        if (parallelism < 1 || pageSize < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Parallelism, page size and maximum attempts must be greater than 0.");
+        }
+        if (minPollInterval.compareTo(maxPollInterval) > 0) {
+            throw new IllegalArgumentException("The minimum poll interval must not be greater than the maximum poll interval.");
+        }
+        this.client = client;
+        this.handlersByResourceType = handlers.stream().collect(groupingBy(TypedMessageHandler::getResourceTypeId));
+        handlersByResourceType.keySet()
+                .forEach(resourceTypeId -> this.watermarks.put(resourceTypeId, watermarks.getOrDefault(resourceTypeId, MessageWatermark.of(startAt))));
+        this.recentMessageIds = new RecentMessageIds(deduplicationCapacity);
+        this.lanes = new ExecutorService[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor();
+        }
+        this.minPollInterval = minPollInterval;
+        this.maxPollInterval = maxPollInterval;
+        this.overlap = overlap;
+        this.pageSize = pageSize;
+        this.pollInterval = minPollInterval;
+        this.maxAttempts = maxAttempts;
+        this.failedMessageHandler = failedMessageHandler;
+    }
+
+    /**
+     * Starts polling in the background until the feed is closed.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            scheduler.execute(this::scheduledPoll);
+        }
+    }
+
+    /**
+     * Polls all resource types once. Must not be used concurrently to {@link #start()}.
+     *
+     * @return stage containing the number of dispatched messages
+     */
+    public CompletionStage<Long> poll() {
+        final List<CompletableFuture<Long>> polls = handlersByResourceType.entrySet().stream()
+                .map(entry -> poll(entry.getKey(), entry.getValue()).toCompletableFuture())
+                .collect(toList());
+        return CompletableFuture.allOf(polls.toArray(new CompletableFuture[polls.size()]))
+                .thenApply(done -> polls.stream().mapToLong(CompletableFuture::join).sum());
+    }
+
+    /**
+     * Gets the current watermarks, they can be stored to resume the feed with {@link MessageChangeFeedBuilder#watermark(String, MessageWatermark)}.
+     *
+     * @return the watermarks by resource type id
+     */
+    public Map<String, MessageWatermark> getWatermarks() {
+        return new HashMap<>(watermarks);
+    }
+
+    Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        for (final ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    private void scheduledPoll() {
+        CompletionStage<Long> poll;
+        try {
+            poll = poll();
+        } catch (final RuntimeException e) {
+            final CompletableFuture<Long> failedPoll = new CompletableFuture<>();
+            failedPoll.completeExceptionally(e);
+            poll = failedPoll;
+        }
+        poll.whenComplete((dispatched, throwable) -> {
+            if (throwable != null) {
+                LOGGER.warn("Polling messages failed.", throwable);
+            }
+            pollInterval = dispatched != null && dispatched > 0 ? minPollInterval : min(pollInterval.multipliedBy(2), maxPollInterval);
+            if (!closed) {
+                try {
+                    scheduler.schedule(this::scheduledPoll, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (final RejectedExecutionException e) {
+                    //closed in the meantime
+                }
+            }
+        });
+    }
+
+    private CompletionStage<Long> poll(final String resourceTypeId, final List<TypedMessageHandler<?>> handlers) {
+        final ZonedDateTime since = watermarks.get(resourceTypeId).getCreatedAt().minus(overlap);
+        return pollPage(resourceTypeId, handlers, MessageQueryModel.of().createdAt().isGreaterThanOrEqualTo(since), 0L);
+    }
+
+    private CompletionStage<Long> pollPage(final String resourceTypeId, final List<TypedMessageHandler<?>> handlers,
+                                           final QueryPredicate<Message> predicate, final long dispatchedSoFar) {
+        final MessageQueryModel m = MessageQueryModel.of();
+        final Query<Message> query = MessageQuery.of()
+                .withPredicates(predicate)
+                .withSort(asList(m.createdAt().sort().asc(), m.id().sort().asc()))
+                .withLimit(pageSize)
+                .withFetchTotal(false)
+                .forMessageTypes(handlers.stream().<MessageDerivateHint<? extends Message>>map(TypedMessageHandler::getHint).collect(toList()));
+        return client.execute(query).thenCompose((PagedQueryResult<Message> result) -> {
+            final List<Message> messages = result.getResults();
+            final List<Message> newMessages = messages.stream()
+                    .filter(message -> !recentMessageIds.contains(message.getId()))
+                    .collect(toList());
+            return dispatch(newMessages, handlers).thenCompose(done -> {
+                final long dispatched = dispatchedSoFar + newMessages.size();
+                if (messages.isEmpty()) {
+                    return CompletableFuture.completedFuture(dispatched);
+                }
+                final Message last = messages.get(messages.size() - 1);
+                watermarks.merge(resourceTypeId, MessageWatermark.of(last), (a, b) -> MessageWatermark.COMPARATOR.compare(a, b) >= 0 ? a : b);
+                return messages.size() < pageSize
+                        ? CompletableFuture.completedFuture(dispatched)
+                        : pollPage(resourceTypeId, handlers, after(last), dispatched);
+            });
+        });
+    }
+
+    /**
+     * Chains the messages of each resource, so after a failed handler the later messages of the same resource
+     * are not handled in this poll but dispatched again in order by the next one.
+     */
+    private CompletionStage<Void> dispatch(final List<Message> messages, final List<TypedMessageHandler<?>> handlers) {
+        final Map<String, CompletableFuture<Void>> lastMessageByResource = new HashMap<>();
+        messages.forEach(message -> {
+            final Runnable handleMessage = () -> {
+                handle(message, handlers);
+                recentMessageIds.add(message.getId());
+            };
+            lastMessageByResource.compute(message.getResource().getId(), (resourceId, previous) -> previous == null
+                    ? CompletableFuture.runAsync(handleMessage, laneOf(message))
+                    : previous.thenRunAsync(handleMessage, laneOf(message)));
+        });
+        return CompletableFuture.allOf(lastMessageByResource.values().toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Calls the handlers and rethrows their exceptions until the maximum number of attempts of the message is reached.
+     */
+    private void handle(final Message message, final List<TypedMessageHandler<?>> handlers) {
+        try {
+            handlers.forEach(handler -> handler.handleIfMatching(message));
+            failedAttemptsByMessageId.remove(message.getId());
+        } catch (final RuntimeException e) {
+            final int attempts = failedAttemptsByMessageId.merge(message.getId(), 1, Integer::sum);
+            if (attempts < maxAttempts) {
+                throw e;
+            }
+            failedAttemptsByMessageId.remove(message.getId());
+            try {
+                failedMessageHandler.accept(message, e);
+            } catch (final RuntimeException handlerException) {
+                LOGGER.error("The failed message handler threw an exception for message " + message.getId() + ".", handlerException);
+            }
+        }
+    }
+
+    private Executor laneOf(final Message message) {
+        return lanes[Math.floorMod(message.getResource().getId().hashCode(), lanes.length)];
+    }
+
+    private static QueryPredicate<Message> after(final Message message) {
+        final MessageQueryModel m = MessageQueryModel.of();
+        return m.createdAt().isGreaterThan(message.getCreatedAt())
+                .or(m.createdAt().is(message.getCreatedAt()).and(m.id().isGreaterThan(message.getId())));
+    }
+
+    private static Duration min(final Duration a, final Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,157 @@
+package io.sphere.sdk.messages;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+public final class MessageChangeFeedBuilder extends Base implements Builder<MessageChangeFeed> {
+    private final SphereClient client;
+    private final List<TypedMessageHandler<?>> handlers = new ArrayList<>();
+    private final Map<String, MessageWatermark> watermarks = new HashMap<>();
+    private ZonedDateTime startAt = ZonedDateTime.now();
+    private Duration minPollInterval = Duration.ofSeconds(1);
+    private Duration maxPollInterval = Duration.ofSeconds(30);
+    private Duration overlap = Duration.ofSeconds(10);
+    private int pageSize = 500;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int deduplicationCapacity = 10_000;
+    private int maxAttempts = 5;
+    private BiConsumer<Message, RuntimeException> failedMessageHandler = (message, exception) ->
+            LoggerFactory.getLogger(MessageChangeFeed.class).error("Skipping message " + message.getId() + " after failed attempts.", exception);
+
+    private MessageChangeFeedBuilder(final SphereClient client) {
+        this.client = client;
+    }
+
+    public static MessageChangeFeedBuilder of(final SphereClient client) {
+        return new MessageChangeFeedBuilder(client);
+    }
+
+    /**
+     * Registers a handler for a message type, for example {@code handler(OrderCreatedMessage.MESSAGE_HINT, message -> ...)}.
+     * Several handlers can be registered for the same message type.
+     *
+     * @param hint the message type
+     * @param handler the handler, called for all messages of a resource in the order of their creation
+     * @param <T> the message class
+     * @return this builder
+     */
+    public <T extends Message> MessageChangeFeedBuilder handler(final MessageDerivateHint<T> hint, final Consumer<? super T> handler) {
+        handlers.add(new TypedMessageHandler<>(hint, handler));
+        return this;
+    }
+
+    /**
+     * Sets the point in time from which messages are handled for resource types without a {@link #watermark(String, MessageWatermark)}.
+     * The default is the creation time of the builder.
+     *
+     * @param startAt the earliest creation time of the handled messages
+     * @return this builder
+     */
+    public MessageChangeFeedBuilder startAt(final ZonedDateTime startAt) {
+        this.startAt = startAt;
+        return this;
+    }
+
+    /**
+     * Resumes the feed for one resource type at a watermark from {@link MessageChangeFeed#getWatermarks()}.
+     *
+     * @param resourceTypeId the reference type id of the resource, for example "order"
+     * @param watermark the watermark
+     * @return this builder
+     */
+    public MessageChangeFeedBuilder watermark(final String resourceTypeId, final MessageWatermark watermark) {
+        watermarks.put(resourceTypeId, watermark);
+        return this;
+    }
+
+    public MessageChangeFeedBuilder minPollInterval(final Duration minPollInterval) {
+        this.minPollInterval = minPollInterval;
+        return this;
+    }
+
+    public MessageChangeFeedBuilder maxPollInterval(final Duration maxPollInterval) {
+        this.maxPollInterval = maxPollInterval;
+        return this;
+    }
+
+    /**
+     * Sets the time span before the watermark which is queried again, to find messages which became visible with a delay.
+     * The default is 10 seconds.
+     *
+     * @param overlap the time span
+     * @return this builder
+     */
+    public MessageChangeFeedBuilder overlap(final Duration overlap) {
+        this.overlap = overlap;
+        return this;
+    }
+
+    public MessageChangeFeedBuilder pageSize(final int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads handling the messages.
+     *
+     * @param parallelism the number of threads
+     * @return this builder
+     */
+    public MessageChangeFeedBuilder parallelism(final int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the number of handled message ids which are remembered to skip messages fetched again because of the overlap.
+     * It should be greater than the number of messages created within the overlap. The default is 10000.
+     *
+     * @param deduplicationCapacity the number of remembered ids
+     * @return this builder
+     */
+    public MessageChangeFeedBuilder deduplicationCapacity(final int deduplicationCapacity) {
+        this.deduplicationCapacity = deduplicationCapacity;
+        return this;
+    }
+
+    /**
+     * Sets how often a message is dispatched to the handlers until it is passed to the {@link #failedMessageHandler(BiConsumer)}
+     * and the feed continues with the next messages. The default is 5.
+     *
+     * @param maxAttempts the maximum number of attempts per message
+     * @return this builder
+     */
+    public MessageChangeFeedBuilder maxAttempts(final int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Sets the handler for messages whose handlers failed {@link #maxAttempts(int)} times, for example to store them
+     * in a dead letter queue. It gets the exception of the last attempt. The default logs the message as error.
+     *
+     * @param failedMessageHandler the handler of the failed messages
+     * @return this builder
+     */
+    public MessageChangeFeedBuilder failedMessageHandler(final BiConsumer<Message, RuntimeException> failedMessageHandler) {
+        this.failedMessageHandler = failedMessageHandler;
+        return this;
+    }
+
+    @Override
+    public MessageChangeFeed build() {
+        return new MessageChangeFeed(client, handlers, watermarks, startAt, minPollInterval, maxPollInterval,
+                overlap, pageSize, parallelism, deduplicationCapacity, maxAttempts, failedMessageHandler);
+    }
+}
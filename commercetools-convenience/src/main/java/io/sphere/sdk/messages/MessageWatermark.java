@@ -0,0 +1,55 @@
+package io.sphere.sdk.messages;
+
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Position of a {@link MessageChangeFeed} for one resource type, the creation date and id of the latest handled message.
+ * Messages are ordered by creation date and then by id.
+ */
+public final class MessageWatermark extends Base {
+    static final Comparator<MessageWatermark> COMPARATOR = Comparator.comparing(MessageWatermark::getCreatedAt)
+            .thenComparing(watermark -> watermark.getMessageId().orElse(""));
+
+    private final ZonedDateTime createdAt;
+    @Nullable
+    private final String messageId;
+
+    private MessageWatermark(final ZonedDateTime createdAt, @Nullable final String messageId) {
+        this.createdAt = createdAt;
+        this.messageId = messageId;
+    }
+
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Gets the id of the latest handled message.
+     * @return the message id or empty if no message has been handled yet
+     */
+    public Optional<String> getMessageId() {
+        return Optional.ofNullable(messageId);
+    }
+
+    public static MessageWatermark of(final ZonedDateTime createdAt, final String messageId) {
+        return new MessageWatermark(createdAt, messageId);
+    }
+
+    /**
+     * Creates a watermark which starts at a point in time.
+     * @param createdAt messages created at this time or later are handled
+     * @return watermark
+     */
+    public static MessageWatermark of(final ZonedDateTime createdAt) {
+        return new MessageWatermark(createdAt, null);
+    }
+
+    static MessageWatermark of(final Message message) {
+        return new MessageWatermark(message.getCreatedAt(), message.getId());
+    }
+}
@@ -0,0 +1,37 @@
+package io.sphere.sdk.messages;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded set of the ids of the latest handled messages, evicting the oldest ids first.
+ */
+final class RecentMessageIds {
+    private final Map<String, Boolean> ids;
+
+    RecentMessageIds(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than 0.");
+        }
+        this.ids = new LinkedHashMap<String, Boolean>(capacity + 1, 1.0f) {
+            private static final long serialVersionUID = 0L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized boolean contains(final String id) {
+        return ids.containsKey(id);
+    }
+
+    synchronized void add(final String id) {
+        ids.put(id, Boolean.TRUE);
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,42 @@
+package io.sphere.sdk.messages;
+
+import java.util.function.Consumer;
+
+final class TypedMessageHandler<T extends Message> {
+    private final MessageDerivateHint<T> hint;
+    private final Consumer<? super T> consumer;
+
+    TypedMessageHandler(final MessageDerivateHint<T> hint, final Consumer<? super T> consumer) {
+        this.hint = hint;
+        this.consumer = consumer;
+    }
+
+    MessageDerivateHint<T> getHint() {
+        return hint;
+    }
+
+    /**
+     * Gets the reference type id of the resources of the handled messages, for example "order".
+     */
+    String getResourceTypeId() {
+        final String resourceTypeId = hint.resourceReferenceTypeId();
+        if (resourceTypeId == null) {
+            throw new IllegalArgumentException("The message hint " + hint + " has no resource type.");
+        }
+        return resourceTypeId;
+    }
+
+    void handleIfMatching(final Message message) {
+        final boolean matches = hint.typeString() != null
+                ? hint.typeString().equals(message.getType())
+                : message.getResource().getTypeId().equals(hint.resourceReferenceTypeId());
+        if (matches) {
+            consumer.accept(convert(message));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T convert(final Message message) {
+        return hint.clazz().isInstance(message) ? (T) message : (T) message.as(hint.clazz());
+    }
+}
@@ -0,0 +1,112 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Immutable map which is split into buckets by the hash of the keys. A changed copy shares all buckets which
+ * contain none of the changed keys, so the costs of a change depend on the amount of changed keys and not on the size.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class BucketedMap<K, V> extends Base {
+    private static final int MIN_BUCKETS = 16;
+    private static final int MAX_AVERAGE_BUCKET_SIZE = 64;
+    private final List<Map<K, V>> buckets;
+    private final int size;
+
+    private BucketedMap(final List<Map<K, V>> buckets, final int size) {
+        this.buckets = buckets;
+        this.size = size;
+    }
+
+    static <K, V> BucketedMap<K, V> of(final Map<K, V> entries) {
+        int bucketCount = MIN_BUCKETS;
+        while (bucketCount * MAX_AVERAGE_BUCKET_SIZE < entries.size()) {
+            bucketCount *= 2;
+        }
+        final List<Map<K, V>> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new HashMap<>());
+        }
+        for (final Map.Entry<K, V> entry : entries.entrySet()) {
+            buckets.get(bucketIndex(entry.getKey(), bucketCount)).put(entry.getKey(), entry.getValue());
+        }
+        return new BucketedMap<>(buckets, entries.size());
+    }
+
+    @Nullable
+    V get(final Object key) {
+        return buckets.get(bucketIndex(key, buckets.size())).get(key);
+    }
+
+    boolean containsKey(final Object key) {
+        return buckets.get(bucketIndex(key, buckets.size())).containsKey(key);
+    }
+
+    int size() {
+        return size;
+    }
+
+    Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return buckets.stream().flatMap(bucket -> bucket.values().stream()).iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Creates a copy with changed entries, only the buckets of the changed keys are copied.
+     *
+     * @param puts entries to add or replace
+     * @param removals keys to remove, must not be contained in {@code puts}
+     * @return the changed copy
+     */
+    BucketedMap<K, V> with(final Map<K, V> puts, final Collection<K> removals) {
+        final List<Map<K, V>> newBuckets = new ArrayList<>(buckets);
+        final Set<Integer> copiedBuckets = new HashSet<>();
+        int newSize = size;
+        for (final Map.Entry<K, V> entry : puts.entrySet()) {
+            if (writableBucket(newBuckets, copiedBuckets, entry.getKey()).put(entry.getKey(), entry.getValue()) == null) {
+                newSize++;
+            }
+        }
+        for (final K key : removals) {
+            if (containsKey(key) && writableBucket(newBuckets, copiedBuckets, key).remove(key) != null) {
+                newSize--;
+            }
+        }
+        final BucketedMap<K, V> changed = new BucketedMap<>(newBuckets, newSize);
+        //rehashing doubles the buckets, so its costs are amortized over the growth
+        return newSize > newBuckets.size() * MAX_AVERAGE_BUCKET_SIZE * 2 ? of(changed.toMap()) : changed;
+    }
+
+    private Map<K, V> writableBucket(final List<Map<K, V>> newBuckets, final Set<Integer> copiedBuckets, final K key) {
+        final int index = bucketIndex(key, newBuckets.size());
+        if (copiedBuckets.add(index)) {
+            newBuckets.set(index, new HashMap<>(newBuckets.get(index)));
+        }
+        return newBuckets.get(index);
+    }
+
+    private Map<K, V> toMap() {
+        final Map<K, V> map = new HashMap<>(size);
+        buckets.forEach(map::putAll);
+        return map;
+    }
+
+    private static int bucketIndex(final Object key, final int bucketCount) {
+        //uses the upper bits of the mixed hash, the lower bits are used by the HashMap of the bucket
+        return (key.hashCode() * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(bucketCount) + 1);
+    }
+}
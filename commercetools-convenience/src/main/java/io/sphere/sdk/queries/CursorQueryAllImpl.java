@@ -0,0 +1,148 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
+
+import org.reactivestreams.Publisher;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fetches all elements of a query page by page with the predicate {@code id > lastId} instead of offsets.
+ * At most one page is consumed while the next one is fetched, so the memory consumption depends only on the page size.
+ */
+final class CursorQueryAllImpl<T extends Identifiable<?>, C extends QueryDsl<T, C>> {
+    private final QueryDsl<T, C> baseQuery;
+    private final long pageSize;
+
+    private CursorQueryAllImpl(final QueryDsl<T, C> baseQuery, final long pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be greater than 0.");
+        }
+        this.baseQuery = baseQuery
+                .withSort(QuerySort.of("id asc"))
+                .withOffset(0L)
+                .withLimit(pageSize)
+                .withFetchTotal(false);
+        this.pageSize = pageSize;
+    }
+
+    CompletionStage<Void> run(final SphereClient client, final Consumer<? super T> consumer) {
+        return runPages(client, null, page -> page.forEach(consumer));
+    }
+
+    /**
+     * Passes the pages with elements after {@code startAfterId} to {@code pageConsumer}, empty pages are skipped.
+     */
+    CompletionStage<Void> runPages(final SphereClient client, @Nullable final String startAfterId, final Consumer<? super List<T>> pageConsumer) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        whenPageArrives(client, queryPage(client, startAfterId), pageConsumer, result);
+        return result;
+    }
+
+    /**
+     * Consumes the pages in a loop as long as the next page is already available, so already completed stages
+     * do not grow the stack. Otherwise the loop continues when the next page arrives.
+     */
+    private void consumeAndFetchNext(final SphereClient client, final List<T> firstPage, final Consumer<? super List<T>> pageConsumer, final CompletableFuture<Void> result) {
+        List<T> page = firstPage;
+        while (true) {
+            final CompletionStage<List<T>> nextPage;
+            try {
+                nextPage = fetchNextPage(client, page);
+                if (!page.isEmpty()) {
+                    pageConsumer.accept(page);
+                }
+            } catch (final Throwable e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (nextPage == null) {
+                result.complete(null);
+                return;
+            }
+            final CompletableFuture<List<T>> nextPageFuture = nextPage.toCompletableFuture();
+            if (!nextPageFuture.isDone() || nextPageFuture.isCompletedExceptionally()) {
+                whenPageArrives(client, nextPageFuture, pageConsumer, result);
+                return;
+            }
+            page = nextPageFuture.join();
+        }
+    }
+
+    private void whenPageArrives(final SphereClient client, final CompletionStage<List<T>> page, final Consumer<? super List<T>> pageConsumer, final CompletableFuture<Void> result) {
+        page.whenComplete((loadedPage, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                consumeAndFetchNext(client, loadedPage, pageConsumer, result);
+            }
+        });
+    }
+
+    Stream<T> stream(final SphereClient client) {
+        final Iterator<T> iterator = new PageIterator(client);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    Publisher<T> publisher(final SphereClient client) {
+        return PagedPublisher.of((lastElement, offset) -> queryPage(client, lastElement == null ? null : lastElement.getId()), pageSize);
+    }
+
+    /**
+     * Starts fetching the page after {@code page}.
+     *
+     * @return the next page or null if {@code page} is the last page
+     */
+    @Nullable
+    private CompletionStage<List<T>> fetchNextPage(final SphereClient client, final List<T> page) {
+        return page.size() < pageSize ? null : queryPage(client, page.get(page.size() - 1).getId());
+    }
+
+    private CompletionStage<List<T>> queryPage(final SphereClient client, @Nullable final String lastId) {
+        final QueryDsl<T, C> query = lastId == null
+                ? baseQuery
+                : baseQuery.plusPredicates(QueryPredicate.of("id > \"" + lastId + "\""));
+        return client.execute(query).thenApply(PagedQueryResult::getResults);
+    }
+
+    private final class PageIterator implements Iterator<T> {
+        private final SphereClient client;
+        private Iterator<T> current = Collections.emptyIterator();
+        @Nullable
+        private CompletionStage<List<T>> next;
+
+        private PageIterator(final SphereClient client) {
+            this.client = client;
+            this.next = queryPage(client, null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && next != null) {
+                final List<T> page = next.toCompletableFuture().join();
+                next = fetchNextPage(client, page);
+                current = page.iterator();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CursorQueryAllImpl<T, C> of(final QueryDsl<T, C> baseQuery, final int pageSize) {
+        return new CursorQueryAllImpl<>(baseQuery, pageSize);
+    }
+}
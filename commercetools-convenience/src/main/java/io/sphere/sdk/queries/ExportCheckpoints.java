@@ -0,0 +1,49 @@
+package io.sphere.sdk.queries;
+
+import javax.annotation.Nullable;
+
+/**
+ * Stores the progress of each {@link KeyspaceRange} of an export, so that a failed export can be resumed.
+ *
+ * <p>Implementations need to be thread-safe, the ranges are exported concurrently. To resume an export after a restart
+ * of the JVM the checkpoints need to be persisted, for example in a file or a database, by implementing this interface.</p>
+ *
+ * @see QueryExecutionUtils#exportAll(io.sphere.sdk.client.SphereClient, QueryDsl, java.util.function.Consumer, int, ExportCheckpoints)
+ */
+public interface ExportCheckpoints {
+    /**
+     * Gets the id of the last element of the range which has been passed to the sink.
+     * @param range the range
+     * @return the last exported id or null if nothing of the range has been exported
+     */
+    @Nullable
+    String getLastId(KeyspaceRange range);
+
+    /**
+     * Checks if a range has been exported completely.
+     * @param range the range
+     * @return true if the range is done
+     */
+    boolean isCompleted(KeyspaceRange range);
+
+    /**
+     * Called after a page of the range has been accepted by the sink.
+     * @param range the range
+     * @param lastId the id of the last element of the page
+     */
+    void saveLastId(KeyspaceRange range, String lastId);
+
+    /**
+     * Called after the last page of the range has been accepted by the sink.
+     * @param range the range
+     */
+    void markCompleted(KeyspaceRange range);
+
+    /**
+     * Creates checkpoints which are kept in memory. They can be used to resume an export within the same JVM.
+     * @return new empty checkpoints
+     */
+    static ExportCheckpoints ofInMemory() {
+        return new InMemoryExportCheckpoints();
+    }
+}
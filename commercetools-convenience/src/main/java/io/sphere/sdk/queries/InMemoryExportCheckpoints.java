@@ -0,0 +1,34 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class InMemoryExportCheckpoints extends Base implements ExportCheckpoints {
+    private final Map<String, String> lastIds = new ConcurrentHashMap<>();
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    @Nullable
+    @Override
+    public String getLastId(final KeyspaceRange range) {
+        return lastIds.get(range.getKey());
+    }
+
+    @Override
+    public boolean isCompleted(final KeyspaceRange range) {
+        return completed.contains(range.getKey());
+    }
+
+    @Override
+    public void saveLastId(final KeyspaceRange range, final String lastId) {
+        lastIds.put(range.getKey(), lastId);
+    }
+
+    @Override
+    public void markCompleted(final KeyspaceRange range) {
+        completed.add(range.getKey());
+    }
+}
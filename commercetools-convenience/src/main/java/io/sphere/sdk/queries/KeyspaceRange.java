@@ -0,0 +1,104 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A range of resource ids, bounded by hexadecimal prefixes of the UUIDs.
+ *
+ * <p>The first range of a split has no lower bound and the last one has no upper bound,
+ * so the ranges of {@link #split(int)} cover all ids, even ids which are not UUIDs.</p>
+ *
+ * @see QueryExecutionUtils#exportAll(io.sphere.sdk.client.SphereClient, QueryDsl, java.util.function.Consumer, int, ExportCheckpoints)
+ */
+public final class KeyspaceRange extends Base {
+    private static final int MAX_PARTITIONS = 256;
+
+    @Nullable
+    private final String lowerBound;
+    @Nullable
+    private final String upperBound;
+
+    private KeyspaceRange(@Nullable final String lowerBound, @Nullable final String upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    /**
+     * Inclusive lower bound of the ids.
+     * @return the lower bound or empty for the first range
+     */
+    public Optional<String> getLowerBound() {
+        return Optional.ofNullable(lowerBound);
+    }
+
+    /**
+     * Exclusive upper bound of the ids.
+     * @return the upper bound or empty for the last range
+     */
+    public Optional<String> getUpperBound() {
+        return Optional.ofNullable(upperBound);
+    }
+
+    /**
+     * Stable identifier of this range, for example {@code "40..80"}, usable as key to store checkpoints.
+     * @return the identifier
+     */
+    public String getKey() {
+        return getLowerBound().orElse("") + ".." + getUpperBound().orElse("");
+    }
+
+    /**
+     * Checks if an id belongs to this range.
+     * @param id the id to check
+     * @return true if the id is within the bounds
+     */
+    public boolean contains(final String id) {
+        return (lowerBound == null || id.compareTo(lowerBound) >= 0) && (upperBound == null || id.compareTo(upperBound) < 0);
+    }
+
+    /**
+     * Creates the predicates selecting the ids of this range.
+     * @param <T> resource type
+     * @return the predicates, empty if the range covers all ids
+     */
+    public <T> List<QueryPredicate<T>> toPredicates() {
+        final List<QueryPredicate<T>> predicates = new ArrayList<>(2);
+        if (lowerBound != null) {
+            predicates.add(QueryPredicate.of("id >= \"" + lowerBound + "\""));
+        }
+        if (upperBound != null) {
+            predicates.add(QueryPredicate.of("id < \"" + upperBound + "\""));
+        }
+        return predicates;
+    }
+
+    /**
+     * Splits the id keyspace into ranges of nearly the same size by the first two hex digits of the UUIDs.
+     *
+     * @param partitions the number of ranges, from 1 to {@value MAX_PARTITIONS}
+     * @return the ranges in ascending order
+     */
+    public static List<KeyspaceRange> split(final int partitions) {
+        if (partitions < 1 || partitions > MAX_PARTITIONS) {
+            throw new IllegalArgumentException("Partitions must be between 1 and " + MAX_PARTITIONS + ".");
+        }
+        final List<KeyspaceRange> ranges = new ArrayList<>(partitions);
+        String lowerBound = null;
+        for (int i = 1; i < partitions; i++) {
+            final String upperBound = String.format("%02x", i * MAX_PARTITIONS / partitions);
+            ranges.add(new KeyspaceRange(lowerBound, upperBound));
+            lowerBound = upperBound;
+        }
+        ranges.add(new KeyspaceRange(lowerBound, null));
+        return ranges;
+    }
+
+    public static KeyspaceRange of(@Nullable final String lowerBound, @Nullable final String upperBound) {
+        return new KeyspaceRange(lowerBound, upperBound);
+    }
+}
@@ -0,0 +1,175 @@
+package io.sphere.sdk.queries;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cold publisher which fetches the next page only if the current page is consumed and the subscriber has outstanding demand.
+ * Each subscription keeps at most one page in memory.
+ *
+ * @param <T> element type
+ */
+final class PagedPublisher<T> implements Publisher<T> {
+    private final PageFetcher<T> pageFetcher;
+    private final long pageSize;
+
+    @FunctionalInterface
+    interface PageFetcher<T> {
+        /**
+         * Fetches a page.
+         *
+         * @param lastElement the last element of the previous page or null for the first page
+         * @param offset the number of elements fetched so far
+         * @return the page
+         */
+        CompletionStage<List<T>> fetch(@Nullable T lastElement, long offset);
+    }
+
+    private PagedPublisher(final PageFetcher<T> pageFetcher, final long pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be greater than 0.");
+        }
+        this.pageFetcher = pageFetcher;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber);
+        final PageSubscription subscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class PageSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        //the following fields are only accessed in the drain loop
+        private final Queue<T> buffer = new ArrayDeque<>();
+        @Nullable
+        private T lastElement;
+        private long offset;
+        private boolean fetching;
+        private boolean lastPageReceived;
+        private boolean terminated;
+        //the following fields are set by the page fetching and read in the drain loop
+        @Nullable
+        private volatile List<T> receivedPage;
+        @Nullable
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+
+        private PageSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested elements must be greater than 0, see rule 3.9 of the Reactive Streams specification.");
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    drainOnce();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            if (cancelled) {
+                terminate();
+                return;
+            }
+            final List<T> page = receivedPage;
+            if (page != null) {
+                receivedPage = null;
+                fetching = false;
+                lastPageReceived = page.size() < pageSize;
+                buffer.addAll(page);
+                offset += page.size();
+                if (!page.isEmpty()) {
+                    lastElement = page.get(page.size() - 1);
+                }
+            }
+            long emitted = 0;
+            final long requested = demand.get();
+            while (emitted < requested && !buffer.isEmpty()) {
+                subscriber.onNext(buffer.poll());
+                emitted++;
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+            }
+            final long remainingDemand = requested == Long.MAX_VALUE ? requested : demand.addAndGet(-emitted);
+            final Throwable currentError = error;
+            if (currentError != null) {
+                terminate();
+                subscriber.onError(currentError);
+            } else if (buffer.isEmpty() && lastPageReceived) {
+                terminate();
+                subscriber.onComplete();
+            } else if (buffer.isEmpty() && !fetching && remainingDemand > 0) {
+                fetching = true;
+                fetchPage();
+            }
+        }
+
+        private void fetchPage() {
+            final CompletionStage<List<T>> stage;
+            try {
+                stage = pageFetcher.fetch(lastElement, offset);
+            } catch (final RuntimeException e) {
+                error = e;
+                wip.incrementAndGet();
+                return;
+            }
+            stage.whenComplete((page, throwable) -> {
+                if (throwable != null) {
+                    error = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                } else {
+                    receivedPage = page;
+                }
+                drain();
+            });
+        }
+
+        private void terminate() {
+            terminated = true;
+            buffer.clear();
+        }
+    }
+
+    static <T> PagedPublisher<T> of(final PageFetcher<T> pageFetcher, final long pageSize) {
+        return new PagedPublisher<>(pageFetcher, pageSize);
+    }
+}
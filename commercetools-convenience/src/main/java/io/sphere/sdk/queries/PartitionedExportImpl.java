@@ -0,0 +1,53 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Walks each {@link KeyspaceRange} with its own cursor, all ranges concurrently. Every range holds at most two pages,
+ * so the memory consumption depends only on the page size and the number of ranges.
+ */
+final class PartitionedExportImpl<T extends Identifiable<?>, C extends QueryDsl<T, C>> {
+    private final QueryDsl<T, C> query;
+    private final List<KeyspaceRange> ranges;
+    private final int pageSize;
+    private final Object sinkLock = new Object();
+
+    private PartitionedExportImpl(final QueryDsl<T, C> query, final List<KeyspaceRange> ranges, final int pageSize) {
+        this.query = query;
+        this.ranges = ranges;
+        this.pageSize = pageSize;
+    }
+
+    CompletionStage<Void> run(final SphereClient client, final Consumer<? super List<T>> sink, final ExportCheckpoints checkpoints) {
+        final CompletableFuture<?>[] rangeExports = ranges.stream()
+                .filter(range -> !checkpoints.isCompleted(range))
+                .map(range -> exportRange(client, range, sink, checkpoints).toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        //fails only after all ranges are done, so that the other ranges still advance their checkpoints
+        return CompletableFuture.allOf(rangeExports);
+    }
+
+    private CompletionStage<Void> exportRange(final SphereClient client, final KeyspaceRange range,
+                                              final Consumer<? super List<T>> sink, final ExportCheckpoints checkpoints) {
+        final QueryDsl<T, C> rangeQuery = query.plusPredicates(range.<T>toPredicates());
+        final Consumer<List<T>> pageConsumer = page -> {
+            synchronized (sinkLock) {
+                sink.accept(page);
+                checkpoints.saveLastId(range, page.get(page.size() - 1).getId());
+            }
+        };
+        return CursorQueryAllImpl.of(rangeQuery, pageSize)
+                .runPages(client, checkpoints.getLastId(range), pageConsumer)
+                .thenRun(() -> checkpoints.markCompleted(range));
+    }
+
+    static <T extends Identifiable<?>, C extends QueryDsl<T, C>> PartitionedExportImpl<T, C> of(final QueryDsl<T, C> query, final int partitions, final int pageSize) {
+        return new PartitionedExportImpl<>(query, KeyspaceRange.split(partitions), pageSize);
+    }
+}
@@ -1,9 +1,15 @@
 package io.sphere.sdk.queries;
 
 import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
+import io.sphere.sdk.search.PagedSearchResult;
+import io.sphere.sdk.search.SearchDsl;
+import org.reactivestreams.Publisher;
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Provides facilities to fetch all elements matching a query predicate.
@@ -39,4 +45,137 @@ public final class QueryExecutionUtils {
     public static <T, C extends QueryDsl<T, C>> CompletionStage<List<T>> queryAll(final SphereClient client, final QueryDsl<T, C> query, final int pageSize) {
         return QueryAllImpl.of(query, pageSize).run(client);
     }
+
+    /**
+     * Queries all elements matching a query and passes them one by one to {@code consumer}.
+     *
+     * <p>In contrast to {@link #queryAll(SphereClient, QueryDsl, int)} the pages are fetched one after another by the
+     * predicate {@code id > "lastId"} sorted by id without offsets and totals. The next page is fetched while the current
+     * one is consumed, so only two pages are in memory at a time. The sort and offset of {@code query} are ignored.</p>
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths
+     * @param consumer consumer for each element, called in the order of the ids
+     * @param pageSize size of one batch to fetch
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stage which completes after all elements have been consumed
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CompletionStage<Void> queryAll(final SphereClient client, final QueryDsl<T, C> query, final Consumer<? super T> consumer, final int pageSize) {
+        return CursorQueryAllImpl.of(query, pageSize).run(client, consumer);
+    }
+
+    /**
+     * Queries all elements matching a query and passes them one by one to {@code consumer} using pages of size {@value DEFAULT_PAGE_SIZE}.
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths
+     * @param consumer consumer for each element, called in the order of the ids
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stage which completes after all elements have been consumed
+     * @see #queryAll(SphereClient, QueryDsl, Consumer, int)
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CompletionStage<Void> queryAll(final SphereClient client, final QueryDsl<T, C> query, final Consumer<? super T> consumer) {
+        return queryAll(client, query, consumer, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Provides all elements matching a query as lazy sequential stream sorted by id. The pages are fetched like in
+     * {@link #queryAll(SphereClient, QueryDsl, Consumer, int)} but the stream blocks while waiting for the next page.
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths
+     * @param pageSize size of one batch to fetch
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stream of the elements
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> Stream<T> streamAll(final SphereClient client, final QueryDsl<T, C> query, final int pageSize) {
+        return CursorQueryAllImpl.of(query, pageSize).stream(client);
+    }
+
+    /**
+     * Exports all elements matching a query concurrently for very large collections.
+     *
+     * <p>The id keyspace is split into {@code partitions} ranges by {@link KeyspaceRange#split(int)}. Each range is
+     * fetched page by page like in {@link #queryAll(SphereClient, QueryDsl, Consumer, int)} and all ranges are fetched
+     * at the same time. The pages of all ranges are passed to {@code sink} one after another, so the sink does not need
+     * to be thread-safe, but the order of the pages between the ranges is not defined. Each range has at most two pages
+     * in memory.</p>
+     *
+     * <p>After each page has been accepted by the sink, the id of its last element is stored in {@code checkpoints}.
+     * If the export fails, passing the same checkpoints again skips the completed ranges and resumes the others after
+     * their last checkpoint. The returned stage completes after all ranges have finished, even if one of them fails.</p>
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths
+     * @param sink consumer for each non-empty page
+     * @param partitions the number of id ranges fetched concurrently, from 1 to 256
+     * @param checkpoints progress of a previous export attempt or new checkpoints
+     * @param pageSize size of one batch to fetch
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stage which completes after all ranges have been exported
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CompletionStage<Void> exportAll(final SphereClient client, final QueryDsl<T, C> query, final Consumer<? super List<T>> sink, final int partitions, final ExportCheckpoints checkpoints, final int pageSize) {
+        return PartitionedExportImpl.of(query, partitions, pageSize).run(client, sink, checkpoints);
+    }
+
+    /**
+     * Exports all elements matching a query concurrently using pages of size {@value DEFAULT_PAGE_SIZE}.
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths
+     * @param sink consumer for each non-empty page
+     * @param partitions the number of id ranges fetched concurrently, from 1 to 256
+     * @param checkpoints progress of a previous export attempt or new checkpoints
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stage which completes after all ranges have been exported
+     * @see #exportAll(SphereClient, QueryDsl, Consumer, int, ExportCheckpoints, int)
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CompletionStage<Void> exportAll(final SphereClient client, final QueryDsl<T, C> query, final Consumer<? super List<T>> sink, final int partitions, final ExportCheckpoints checkpoints) {
+        return exportAll(client, query, sink, partitions, checkpoints, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Provides all elements matching a query as Reactive Streams publisher sorted by id.
+     *
+     * <p>The pages are fetched like in {@link #queryAll(SphereClient, QueryDsl, Consumer, int)}, but a page is only
+     * requested after the previous one has been emitted and the subscriber signalled more demand. So a slow subscriber
+     * throttles the queries and each subscription keeps at most one page in memory. Every subscription executes the
+     * queries again. This works for all queries of resources with ids, including {@link io.sphere.sdk.messages.queries.MessageQuery}.</p>
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths
+     * @param pageSize size of one batch to fetch
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return publisher of the elements
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> Publisher<T> publishAll(final SphereClient client, final QueryDsl<T, C> query, final int pageSize) {
+        return CursorQueryAllImpl.of(query, pageSize).publisher(client);
+    }
+
+    /**
+     * Provides all elements matching a search request, for example a {@link io.sphere.sdk.products.search.ProductProjectionSearch},
+     * as Reactive Streams publisher.
+     *
+     * <p>Like {@link #publishAll(SphereClient, QueryDsl, int)} the next page is only requested on demand of the
+     * subscriber. Search requests do not support predicates on ids, so the pages are fetched by offset in the sort
+     * order of {@code search}, which should be stable, for example by including the id. The offset of {@code search}
+     * is ignored.</p>
+     *
+     * @param client commercetools client
+     * @param search search request containing text, filters and sort expressions
+     * @param pageSize size of one batch to fetch
+     * @param <T> type of one search result element
+     * @param <C> type of the search request
+     * @return publisher of the elements
+     */
+    public static <T, C extends SearchDsl<T, C>> Publisher<T> publishAll(final SphereClient client, final SearchDsl<T, C> search, final int pageSize) {
+        final C pagedSearch = search.withLimit(pageSize);
+        return PagedPublisher.of((lastElement, offset) -> client.execute(pagedSearch.withOffset(offset)).thenApply(PagedSearchResult::getResults), pageSize);
+    }
 }
@@ -0,0 +1,154 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.messages.Message;
+import io.sphere.sdk.messages.MessageDerivateHint;
+import io.sphere.sdk.messages.queries.MessageQuery;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Resource;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Local copy of a collection of resources like categories, product types or channels which is kept up to date with delta queries.
+ *
+ * <p>{@link #load()} fetches all resources once. Afterwards {@link #refresh()} queries only the resources with
+ * {@code lastModifiedAt} after the latest known modification minus a small overlap, and, if configured, the deletion
+ * messages created since the last refresh. So the cost of a refresh depends on the number of changes and not on the
+ * size of the collection. The resources are only replaced by newer versions.</p>
+ *
+ * <p>The state is published as immutable {@link ResourceMirrorSnapshot} which is swapped atomically, readers never
+ * see a partially applied refresh. A refresh without changes keeps the current snapshot.</p>
+ *
+ * @param <T> resource type
+ * @see ResourceMirrorBuilder
+ */
+public final class ResourceMirror<T extends Resource<T>> extends Base {
+    private final SphereClient client;
+    private final QueryFactory<T> queryFactory;
+    private final Map<String, Function<? super T, ?>> indexExtractors;
+    @Nullable
+    private final MessageDerivateHint<? extends Message> deletionMessageHint;
+    private final Duration overlap;
+    private final int pageSize;
+    @Nullable
+    private volatile ResourceMirrorSnapshot<T> snapshot;
+    @Nullable
+    private volatile ZonedDateTime lastDeletionAt;
+    @Nullable
+    private CompletableFuture<ResourceMirrorSnapshot<T>> inFlight;
+
+    /**
+     * Creates the query for all resources or for the resources modified since a point in time.
+     */
+    @FunctionalInterface
+    interface QueryFactory<T extends Resource<T>> {
+        CursorQueryAllImpl<T, ?> create(@Nullable ZonedDateTime changedSince, int pageSize);
+    }
+
+    ResourceMirror(final SphereClient client, final QueryFactory<T> queryFactory, final Map<String, Function<? super T, ?>> indexExtractors,
+                   @Nullable final MessageDerivateHint<? extends Message> deletionMessageHint, final Duration overlap, final int pageSize) {
+        this.client = client;
+        this.queryFactory = queryFactory;
+        this.indexExtractors = indexExtractors;
+        this.deletionMessageHint = deletionMessageHint;
+        this.overlap = overlap;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Gets the current snapshot.
+     *
+     * @return the snapshot
+     * @throws IllegalStateException if the mirror has not been loaded yet
+     */
+    public ResourceMirrorSnapshot<T> getSnapshot() {
+        final ResourceMirrorSnapshot<T> currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            throw new IllegalStateException("The mirror has not been loaded yet.");
+        }
+        return currentSnapshot;
+    }
+
+    /**
+     * Fetches all resources and replaces the current snapshot. If a load or refresh is in progress, its result is returned.
+     *
+     * @return stage containing the new snapshot
+     */
+    public synchronized CompletionStage<ResourceMirrorSnapshot<T>> load() {
+        return runExclusively(this::fullLoad);
+    }
+
+    /**
+     * Applies the changes since the last load or refresh. If the mirror has not been loaded yet, all resources are loaded.
+     * Concurrent calls share the refresh in progress.
+     *
+     * @return stage containing the current snapshot
+     */
+    public synchronized CompletionStage<ResourceMirrorSnapshot<T>> refresh() {
+        return runExclusively(() -> snapshot == null ? fullLoad() : deltaLoad(snapshot));
+    }
+
+    private CompletionStage<ResourceMirrorSnapshot<T>> runExclusively(final Supplier<CompletionStage<ResourceMirrorSnapshot<T>>> loader) {
+        if (inFlight == null || inFlight.isDone()) {
+            inFlight = loader.get().toCompletableFuture();
+        }
+        return inFlight;
+    }
+
+    private CompletionStage<ResourceMirrorSnapshot<T>> fullLoad() {
+        final ZonedDateTime loadStartedAt = ZonedDateTime.now();
+        final List<T> resources = Collections.synchronizedList(new ArrayList<>());
+        return queryFactory.create(null, pageSize).run(client, resources::add)
+                .thenApply(done -> {
+                    final ResourceMirrorSnapshot<T> newSnapshot = ResourceMirrorSnapshot.of(resources, indexExtractors, loadStartedAt);
+                    lastDeletionAt = loadStartedAt;
+                    snapshot = newSnapshot;
+                    return newSnapshot;
+                });
+    }
+
+    private CompletionStage<ResourceMirrorSnapshot<T>> deltaLoad(final ResourceMirrorSnapshot<T> currentSnapshot) {
+        final List<T> changedResources = Collections.synchronizedList(new ArrayList<>());
+        final CompletionStage<Void> changes = queryFactory.create(currentSnapshot.getChangesSince().minus(overlap), pageSize)
+                .run(client, changedResources::add);
+        final Set<String> deletedIds = Collections.synchronizedSet(new HashSet<>());
+        final CompletionStage<ZonedDateTime> deletions = queryDeletions(deletedIds);
+        return changes.thenCombine(deletions, (done, newLastDeletionAt) -> {
+            final ResourceMirrorSnapshot<T> newSnapshot = currentSnapshot.withChanges(changedResources, deletedIds);
+            lastDeletionAt = newLastDeletionAt;
+            snapshot = newSnapshot;
+            return newSnapshot;
+        });
+    }
+
+    /**
+     * Collects the ids of the resources deleted since the last refresh.
+     *
+     * @return stage containing the creation time of the latest deletion message
+     */
+    private CompletionStage<ZonedDateTime> queryDeletions(final Set<String> deletedIds) {
+        final ZonedDateTime since = lastDeletionAt;
+        if (deletionMessageHint == null || since == null) {
+            return CompletableFuture.completedFuture(since);
+        }
+        final MessageQuery query = MessageQuery.of()
+                .plusPredicates(deletionMessageHint.predicate())
+                .plusPredicates(m -> m.createdAt().isGreaterThanOrEqualTo(since.minus(overlap)));
+        final AtomicReference<ZonedDateTime> latest = new AtomicReference<>(since);
+        return CursorQueryAllImpl.of(query, pageSize)
+                .run(client, message -> {
+                    deletedIds.add(message.getResource().getId());
+                    latest.accumulateAndGet(message.getCreatedAt(), (a, b) -> b.isAfter(a) ? b : a);
+                })
+                .thenApply(done -> latest.get());
+    }
+}
@@ -0,0 +1,97 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.messages.Message;
+import io.sphere.sdk.messages.MessageDerivateHint;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+import io.sphere.sdk.models.Resource;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class ResourceMirrorBuilder<T extends Resource<T>> extends Base implements Builder<ResourceMirror<T>> {
+    private final SphereClient client;
+    private final ResourceMirror.QueryFactory<T> queryFactory;
+    private final Map<String, Function<? super T, ?>> indexExtractors = new LinkedHashMap<>();
+    @Nullable
+    private MessageDerivateHint<? extends Message> deletionMessageHint;
+    private Duration overlap = Duration.ofMinutes(1);
+    private int pageSize = QueryExecutionUtils.DEFAULT_PAGE_SIZE;
+
+    private ResourceMirrorBuilder(final SphereClient client, final ResourceMirror.QueryFactory<T> queryFactory) {
+        this.client = client;
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * Creates a builder for a mirror of all resources matching a query, for example {@code ResourceMirrorBuilder.of(client, CategoryQuery.of())}.
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths, sort and paging are ignored
+     * @param <T> resource type
+     * @param <C> query type
+     * @param <Q> query model type
+     * @param <E> expansion model type
+     * @return builder
+     */
+    public static <T extends Resource<T>, C extends MetaModelQueryDsl<T, C, Q, E>, Q extends ResourceQueryModel<T>, E> ResourceMirrorBuilder<T> of(final SphereClient client, final MetaModelQueryDsl<T, C, Q, E> query) {
+        return new ResourceMirrorBuilder<>(client, (changedSince, pageSize) -> {
+            final QueryDsl<T, C> changesQuery = changedSince == null
+                    ? query
+                    : query.plusPredicates(m -> m.lastModifiedAt().isGreaterThanOrEqualTo(changedSince));
+            return CursorQueryAllImpl.of(changesQuery, pageSize);
+        });
+    }
+
+    /**
+     * Registers an index of the snapshots, for example {@code index("key", Category::getKey)}. Resources without a key are not indexed.
+     *
+     * @param name the name of the index
+     * @param keyExtractor extracts the key of a resource
+     * @return this builder
+     * @see ResourceMirrorSnapshot#find(String, Object)
+     */
+    public ResourceMirrorBuilder<T> index(final String name, final Function<? super T, ?> keyExtractor) {
+        indexExtractors.put(name, keyExtractor);
+        return this;
+    }
+
+    /**
+     * Sets the message type which signals the deletion of a resource, for example
+     * {@link io.sphere.sdk.inventory.messages.InventoryEntryDeletedMessage#MESSAGE_HINT}. Without deletion messages,
+     * deleted resources are only removed by {@link ResourceMirror#load()}.
+     *
+     * @param deletionMessageHint the message type
+     * @return this builder
+     */
+    public ResourceMirrorBuilder<T> deletionMessages(final MessageDerivateHint<? extends Message> deletionMessageHint) {
+        this.deletionMessageHint = deletionMessageHint;
+        return this;
+    }
+
+    /**
+     * Sets the time span before the latest modification which is queried again on a refresh, to find changes which
+     * became visible with a delay. The default is one minute.
+     *
+     * @param overlap the time span
+     * @return this builder
+     */
+    public ResourceMirrorBuilder<T> overlap(final Duration overlap) {
+        this.overlap = overlap;
+        return this;
+    }
+
+    public ResourceMirrorBuilder<T> pageSize(final int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    @Override
+    public ResourceMirror<T> build() {
+        return new ResourceMirror<>(client, queryFactory, new LinkedHashMap<>(indexExtractors), deletionMessageHint, overlap, pageSize);
+    }
+}
@@ -0,0 +1,156 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Resource;
+
+import javax.annotation.Nullable;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable state of a {@link ResourceMirror} with lookups by id and by the indexes of the mirror.
+ *
+ * @param <T> resource type
+ */
+public final class ResourceMirrorSnapshot<T extends Resource<T>> extends Base {
+    private final BucketedMap<String, T> byId;
+    private final Map<String, Function<? super T, ?>> indexExtractors;
+    private final Map<String, BucketedMap<Object, T>> indexes;
+    @Nullable
+    private final ZonedDateTime lastModifiedAt;
+    private final ZonedDateTime loadedAt;
+
+    private ResourceMirrorSnapshot(final BucketedMap<String, T> byId, final Map<String, Function<? super T, ?>> indexExtractors,
+                                   final Map<String, BucketedMap<Object, T>> indexes,
+                                   @Nullable final ZonedDateTime lastModifiedAt, final ZonedDateTime loadedAt) {
+        this.byId = byId;
+        this.indexExtractors = indexExtractors;
+        this.indexes = indexes;
+        this.lastModifiedAt = lastModifiedAt;
+        this.loadedAt = loadedAt;
+    }
+
+    public Optional<T> get(final String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Finds a resource by the key of an index registered with {@link ResourceMirrorBuilder#index(String, Function)}.
+     *
+     * @param indexName the name of the index
+     * @param key the key, for example the key or slug of the resource
+     * @return the resource or empty if no resource has this key
+     */
+    public Optional<T> find(final String indexName, final Object key) {
+        final BucketedMap<Object, T> index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown index " + indexName + ".");
+        }
+        return Optional.ofNullable(index.get(key));
+    }
+
+    public Collection<T> getAll() {
+        return byId.values();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Gets the latest modification time of the resources, the next refresh queries the resources modified since then.
+     *
+     * @return the latest modification time or empty if the mirror has never contained a resource
+     */
+    public Optional<ZonedDateTime> getLastModifiedAt() {
+        return Optional.ofNullable(lastModifiedAt);
+    }
+
+    /**
+     * Gets the time from which on changes are queried, the latest modification time or the start of the initial load.
+     */
+    ZonedDateTime getChangesSince() {
+        return lastModifiedAt != null ? lastModifiedAt : loadedAt;
+    }
+
+    /**
+     * Creates the next snapshot. The resources are only replaced by newer versions. The new snapshot shares the
+     * unchanged parts of the lookups with this snapshot, so the costs depend on the amount of changes.
+     *
+     * @return the new snapshot or this snapshot if nothing changed
+     */
+    ResourceMirrorSnapshot<T> withChanges(final List<T> changedResources, final Set<String> deletedIds) {
+        final Map<String, T> newerResources = new HashMap<>(changedResources.size());
+        for (final T resource : changedResources) {
+            final T current = byId.get(resource.getId());
+            final T newer = newerResources.get(resource.getId());
+            if ((current == null || current.getVersion() < resource.getVersion()) && (newer == null || newer.getVersion() < resource.getVersion())) {
+                newerResources.put(resource.getId(), resource);
+            }
+        }
+        final Set<String> deletes = new HashSet<>();
+        deletedIds.stream().filter(byId::containsKey).forEach(deletes::add);
+        if (newerResources.isEmpty() && deletes.isEmpty()) {
+            return this;
+        }
+        ZonedDateTime newLastModifiedAt = lastModifiedAt;
+        for (final T resource : newerResources.values()) {
+            newLastModifiedAt = later(newLastModifiedAt, resource.getLastModifiedAt());
+        }
+        newerResources.keySet().removeAll(deletedIds);
+        final Map<String, BucketedMap<Object, T>> newIndexes = new HashMap<>(indexes.size());
+        indexExtractors.forEach((name, extractor) -> newIndexes.put(name, changedIndex(indexes.get(name), extractor, newerResources, deletes)));
+        return new ResourceMirrorSnapshot<>(byId.with(newerResources, deletes), indexExtractors, newIndexes, newLastModifiedAt, loadedAt);
+    }
+
+    private BucketedMap<Object, T> changedIndex(final BucketedMap<Object, T> index, final Function<? super T, ?> extractor,
+                                                final Map<String, T> newerResources, final Set<String> deletes) {
+        final Map<Object, T> puts = new HashMap<>();
+        final Set<Object> removals = new HashSet<>();
+        newerResources.values().forEach(resource -> removeKeyOf(byId.get(resource.getId()), index, extractor, removals));
+        deletes.forEach(id -> removeKeyOf(byId.get(id), index, extractor, removals));
+        newerResources.values().forEach(resource -> {
+            final Object key = extractor.apply(resource);
+            if (key != null) {
+                puts.put(key, resource);
+                removals.remove(key);
+            }
+        });
+        return index.with(puts, removals);
+    }
+
+    private static <T extends Resource<T>> void removeKeyOf(@Nullable final T oldResource, final BucketedMap<Object, T> index,
+                                                            final Function<? super T, ?> extractor, final Set<Object> removals) {
+        final Object oldKey = oldResource == null ? null : extractor.apply(oldResource);
+        if (oldKey != null && index.get(oldKey) == oldResource) {
+            removals.add(oldKey);
+        }
+    }
+
+    static <T extends Resource<T>> ResourceMirrorSnapshot<T> of(final List<T> resources, final Map<String, Function<? super T, ?>> indexExtractors, final ZonedDateTime loadStartedAt) {
+        final Map<String, T> byId = new HashMap<>(resources.size());
+        ZonedDateTime lastModifiedAt = null;
+        for (final T resource : resources) {
+            byId.put(resource.getId(), resource);
+            lastModifiedAt = later(lastModifiedAt, resource.getLastModifiedAt());
+        }
+        final Map<String, BucketedMap<Object, T>> indexes = new HashMap<>(indexExtractors.size());
+        indexExtractors.forEach((name, extractor) -> {
+            final Map<Object, T> index = new HashMap<>(byId.size());
+            byId.values().forEach(resource -> {
+                final Object key = extractor.apply(resource);
+                if (key != null) {
+                    index.put(key, resource);
+                }
+            });
+            indexes.put(name, BucketedMap.of(index));
+        });
+        return new ResourceMirrorSnapshot<>(BucketedMap.of(byId), indexExtractors, indexes, lastModifiedAt, loadStartedAt);
+    }
+
+    @Nullable
+    private static ZonedDateTime later(@Nullable final ZonedDateTime a, final ZonedDateTime b) {
+        return a == null || b.isAfter(a) ? b : a;
+    }
+}
@@ -0,0 +1,16 @@
+package io.sphere.sdk.client.metrics;
+
+import io.sphere.sdk.client.SphereClient;
+
+import static io.sphere.sdk.client.metrics.RequestPhase.TOTAL;
+
+public class HistogramMetricsSphereClientDemo {
+    public static HistogramMetricsSphereClient demo(final SphereClient sphereClient) {
+        return HistogramMetricsSphereClient.of(sphereClient);
+    }
+
+    public static void printPercentiles(final HistogramMetricsSphereClient client) {
+        client.getSnapshots().forEach(snapshot -> Logger.trace(String.format("%s %d: count=%d p99=%dns",
+                snapshot.getEndpoint(), snapshot.getStatusCode(), snapshot.getCount(TOTAL), snapshot.getValueAtPercentile(TOTAL, 99.0))));
+    }
+}
@@ -0,0 +1,88 @@
+package io.sphere.sdk.client.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sphere.sdk.client.NotFoundException;
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.TestDoubleSphereClientFactory;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.projects.queries.ProjectGet;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.sphere.sdk.client.metrics.RequestPhase.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HistogramMetricsSphereClientTest {
+    private static final int MINIMUM_WAIT_IN_MILLISECONDS = 23;
+
+    @Test
+    public void recordsPhasesPerEndpointAndStatusCode() {
+        final HistogramMetricsSphereClient client = HistogramMetricsSphereClientDemo.demo(slowClient(HttpResponse.of(200, "{}")));
+        for (int i = 0; i < 3; i++) {
+            client.execute(ProjectGet.of()).toCompletableFuture().join();
+        }
+        final List<LatencySnapshot> snapshots = client.getSnapshots();
+        assertThat(snapshots).hasSize(1);
+        final LatencySnapshot snapshot = snapshots.get(0);
+        assertThat(snapshot.getEndpoint()).isEqualTo("/");
+        assertThat(snapshot.getStatusCode()).isEqualTo(200);
+        assertThat(snapshot.getCount(TOTAL)).isEqualTo(3);
+        assertThat(snapshot.getCount(SERIALIZATION)).isEqualTo(3);
+        assertThat(snapshot.getCount(HTTP)).isEqualTo(3);
+        assertThat(snapshot.getCount(DESERIALIZATION)).isEqualTo(3);
+        assertThat(snapshot.getValueAtPercentile(HTTP, 50.0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(MINIMUM_WAIT_IN_MILLISECONDS));
+        assertThat(snapshot.getMax(TOTAL)).isGreaterThanOrEqualTo(snapshot.getMax(HTTP));
+        HistogramMetricsSphereClientDemo.printPercentiles(client);
+        assertThat(Logger.getAndClear()).matches("/ 200: count=3 p99=\\d+ns");
+    }
+
+    @Test
+    public void recordsErrorsWithStatusCode() {
+        final HistogramMetricsSphereClient client = HistogramMetricsSphereClient.of(slowClient(HttpResponse.of(404, "{}")));
+        assertThatThrownBy(() -> client.execute(ProjectGet.of()).toCompletableFuture().join())
+                .hasCauseInstanceOf(NotFoundException.class);
+        final LatencySnapshot snapshot = client.getSnapshots().get(0);
+        assertThat(snapshot.getStatusCode()).isEqualTo(404);
+        assertThat(snapshot.getCount(TOTAL)).isEqualTo(1);
+        assertThat(snapshot.getCount(DESERIALIZATION)).isEqualTo(0);
+    }
+
+    @Test
+    public void windowForgetsOldLatencies() throws Exception {
+        final HistogramMetricsSphereClient client = HistogramMetricsSphereClient.of(slowClient(HttpResponse.of(200, "{}")), Duration.ofMillis(300));
+        client.execute(ProjectGet.of()).toCompletableFuture().join();
+        assertThat(client.getWindowSnapshots().get(0).getCount(TOTAL)).isEqualTo(1);
+        Thread.sleep(400);
+        client.execute(ProjectGet.of()).toCompletableFuture().join();
+        assertThat(client.getWindowSnapshots().get(0).getCount(TOTAL)).isEqualTo(1);
+        assertThat(client.getSnapshots().get(0).getCount(TOTAL)).isEqualTo(2);
+    }
+
+    @Test
+    public void micrometerBinding() {
+        final HistogramMetricsSphereClient client = HistogramMetricsSphereClient.of(slowClient(HttpResponse.of(200, "{}")));
+        client.execute(ProjectGet.of()).toCompletableFuture().join();
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerHistogramMetricsBinder.of(client, 99.0).bindTo(registry);
+        client.execute(ProjectGet.of()).toCompletableFuture().join();
+        assertThat(registry.get("commercetools.client.requests").tag("phase", "total").tag("status", "200").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("commercetools.client.latency").tag("phase", "http").gauge().value())
+                .isGreaterThanOrEqualTo(MINIMUM_WAIT_IN_MILLISECONDS);
+    }
+
+    private static SphereClient slowClient(final HttpResponse response) {
+        return TestDoubleSphereClientFactory.createHttpTestDouble(intent -> {
+            try {
+                Thread.sleep(MINIMUM_WAIT_IN_MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return response;
+        });
+    }
+}
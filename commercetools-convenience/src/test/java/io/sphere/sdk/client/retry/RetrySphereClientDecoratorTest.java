@@ -6,11 +6,13 @@ import io.sphere.sdk.client.SphereAccessTokenSupplier;
 import io.sphere.sdk.client.SphereApiConfig;
 import io.sphere.sdk.client.SphereClient;
 import io.sphere.sdk.http.HttpClient;
+import io.sphere.sdk.http.HttpHeaders;
 import io.sphere.sdk.http.HttpRequest;
 import io.sphere.sdk.http.HttpResponse;
 import io.sphere.sdk.models.Versioned;
 import io.sphere.sdk.projects.Project;
 import io.sphere.sdk.projects.queries.ProjectGet;
+import io.sphere.sdk.retry.RetryBudget;
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
 
@@ -34,6 +36,17 @@ public class RetrySphereClientDecoratorTest {
         Assertions.assertThat(result.getKey()).isEqualTo("foo");
     }
 
+    @Test
+    public void retryWithBudgetOnTooManyRequests() {
+        final SphereClient client = getSphereClient(getTooManyRequestsHttpClient());
+        final RetryBudget retryBudget = RetryBudget.of(0.1, 5);
+        final SphereClient retryClient = RetryWithBudgetExample.ofRetry(client, retryBudget);
+        final Project result = blockingWait(retryClient.execute(ProjectGet.of()), 8, TimeUnit.SECONDS);
+        Assertions.assertThat(result.getKey()).isEqualTo("foo");
+        Assertions.assertThat(retryBudget.getRetriesAttempted()).isEqualTo(2);
+        Assertions.assertThat(retryBudget.getRetriesSuppressed()).isEqualTo(0);
+    }
+
     private SphereClient getSphereClient(final HttpClient httpClient) {
         return SphereClient.of(SphereApiConfig.of("projectKey"), httpClient, SphereAccessTokenSupplier.ofConstantToken("accessToken"));
     }
@@ -74,6 +87,25 @@ public class RetrySphereClientDecoratorTest {
         };
     }
 
+    private HttpClient getTooManyRequestsHttpClient() {
+        return new HttpClient() {
+            private final AtomicInteger counter = new AtomicInteger(0);
+
+            @Override
+            public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+                final HttpResponse response = counter.getAndIncrement() < 2
+                        ? HttpResponse.of(TOO_MANY_REQUESTS_429, "{}", HttpHeaders.of("Retry-After", "1"))
+                        : HttpResponse.of(OK_200, "{\"key\": \"foo\"}");
+                return CompletableFuture.completedFuture(response);
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+    }
+
     private HttpClient getHttpClient() {
         return new HttpClient() {
             private final AtomicInteger counter = new AtomicInteger(0);
@@ -0,0 +1,31 @@
+package io.sphere.sdk.client.retry;
+
+import io.sphere.sdk.client.RetrySphereClientDecorator;
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.retry.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.sphere.sdk.http.HttpStatusCode.BAD_GATEWAY_502;
+import static io.sphere.sdk.http.HttpStatusCode.GATEWAY_TIMEOUT_504;
+import static io.sphere.sdk.http.HttpStatusCode.SERVICE_UNAVAILABLE_503;
+import static io.sphere.sdk.http.HttpStatusCode.TOO_MANY_REQUESTS_429;
+import static java.util.Collections.singletonList;
+
+public class RetryWithBudgetExample {
+    public static SphereClient ofRetry(final SphereClient delegate, final RetryBudget retryBudget) {
+        final int maxAttempts = 5;
+        final RetryDelay jitter = RetryDelay.ofDecorrelatedJitter(Duration.ofMillis(200), Duration.ofSeconds(10));
+        final List<RetryRule> retryRules = singletonList(RetryRule.of(
+                RetryPredicate.ofMatchingStatusCodes(TOO_MANY_REQUESTS_429, BAD_GATEWAY_502, SERVICE_UNAVAILABLE_503, GATEWAY_TIMEOUT_504),
+                RetryAction.ofScheduledRetry(maxAttempts, RetryDelay.ofRetryAfterHeader(jitter, Duration.ofSeconds(30))))
+        );
+        return RetrySphereClientDecorator.of(delegate, retryRules, 1, retryBudget);
+    }
+
+    public static SphereClient ofRetry(final SphereClient delegate) {
+        //at most 10 percent of the requests are retried, with up to 20 retries in a row
+        return ofRetry(delegate, RetryBudget.of(0.1, 20));
+    }
+}
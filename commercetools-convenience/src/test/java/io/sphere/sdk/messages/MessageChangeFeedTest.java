@@ -0,0 +1,232 @@
+package io.sphere.sdk.messages;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.orders.messages.OrderCustomerEmailSetMessage;
+import io.sphere.sdk.orders.messages.OrderStateChangedMessage;
+import org.junit.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class MessageChangeFeedTest {
+    private static final ZonedDateTime START = ZonedDateTime.parse("2017-01-01T00:00:00.000Z");
+    private static final Pattern SINCE = Pattern.compile("createdAt\\s*>=\\s*\"([^\"]+)\"");
+    private static final Pattern AFTER = Pattern.compile("createdAt\\s*>\\s*\"([^\"]+)\"");
+
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @Test
+    public void dispatchesTypedMessagesInOrderPerResource() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            addMessage(i, "order-" + (i % 3), i % 2 == 0 ? OrderStateChangedMessage.MESSAGE_TYPE : OrderCustomerEmailSetMessage.MESSAGE_TYPE);
+        }
+        final Map<String, List<Long>> sequenceNumbersByOrder = new HashMap<>();
+        try (final MessageChangeFeed feed = MessageChangeFeedBuilder.of(client())
+                .startAt(START)
+                .pageSize(7)
+                .parallelism(3)
+                .handler(OrderStateChangedMessage.MESSAGE_HINT, message -> record(sequenceNumbersByOrder, message))
+                .handler(OrderCustomerEmailSetMessage.MESSAGE_HINT, message -> {
+                    assertThat(message.getEmail()).isEqualTo("john@example.com");
+                    record(sequenceNumbersByOrder, message);
+                })
+                .build()) {
+            assertThat(feed.poll().toCompletableFuture().join()).isEqualTo(30);
+            assertThat(queries.get()).isEqualTo(5);
+            assertThat(sequenceNumbersByOrder).hasSize(3);
+            sequenceNumbersByOrder.values().forEach(sequenceNumbers -> assertThat(sequenceNumbers).hasSize(10).isSorted());
+            assertThat(feed.getWatermarks()).containsOnly(entry("order", MessageWatermark.of(START.plusSeconds(29), "message-0029")));
+        }
+    }
+
+    @Test
+    public void overlappingPollsDoNotDispatchTwice() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            addMessage(i, "order-1", OrderStateChangedMessage.MESSAGE_TYPE);
+        }
+        final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        try (final MessageChangeFeed feed = MessageChangeFeedBuilder.of(client())
+                .startAt(START)
+                .overlap(Duration.ofMinutes(1))
+                .handler(OrderStateChangedMessage.MESSAGE_HINT, message -> handled.add(message.getId()))
+                .build()) {
+            assertThat(feed.poll().toCompletableFuture().join()).isEqualTo(5);
+            assertThat(feed.poll().toCompletableFuture().join()).isEqualTo(0);
+            addMessage(5, "order-1", OrderStateChangedMessage.MESSAGE_TYPE);
+            assertThat(feed.poll().toCompletableFuture().join()).isEqualTo(1);
+            assertThat(handled).hasSize(6).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    public void failedMessagesAreDispatchedAgain() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            addMessage(i, "order-" + i, OrderStateChangedMessage.MESSAGE_TYPE);
+        }
+        final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger failures = new AtomicInteger();
+        try (final MessageChangeFeed feed = MessageChangeFeedBuilder.of(client())
+                .startAt(START)
+                .handler(OrderStateChangedMessage.MESSAGE_HINT, message -> {
+                    if (message.getId().equals("message-0002") && failures.getAndIncrement() == 0) {
+                        throw new IllegalStateException("handler failed");
+                    }
+                    handled.add(message.getId());
+                })
+                .build()) {
+            assertThat(catchThrowable(() -> feed.poll().toCompletableFuture().join())).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(feed.getWatermarks().get("order")).isEqualTo(MessageWatermark.of(START));
+            assertThat(feed.poll().toCompletableFuture().join()).isEqualTo(1);
+            assertThat(handled).hasSize(5).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    public void laterMessagesOfAResourceWithAFailedMessageAreNotDispatched() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            addMessage(i, i < 3 ? "order-1" : "order-2", OrderStateChangedMessage.MESSAGE_TYPE);
+        }
+        final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger failures = new AtomicInteger();
+        try (final MessageChangeFeed feed = MessageChangeFeedBuilder.of(client())
+                .startAt(START)
+                .handler(OrderStateChangedMessage.MESSAGE_HINT, message -> {
+                    if (message.getId().equals("message-0001") && failures.getAndIncrement() == 0) {
+                        throw new IllegalStateException("handler failed");
+                    }
+                    handled.add(message.getId());
+                })
+                .build()) {
+            assertThat(catchThrowable(() -> feed.poll().toCompletableFuture().join())).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(handled).containsOnly("message-0000", "message-0003");
+            assertThat(feed.poll().toCompletableFuture().join()).isEqualTo(2);
+            assertThat(handled).hasSize(4).endsWith("message-0001", "message-0002");
+        }
+    }
+
+    @Test
+    public void messagesWhichAlwaysFailArePassedToTheFailedMessageHandler() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            addMessage(i, i < 3 ? "order-1" : "order-2", OrderStateChangedMessage.MESSAGE_TYPE);
+        }
+        final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        final List<String> failed = Collections.synchronizedList(new ArrayList<>());
+        try (final MessageChangeFeed feed = MessageChangeFeedBuilder.of(client())
+                .startAt(START)
+                .maxAttempts(3)
+                .failedMessageHandler((message, exception) -> {
+                    assertThat(exception).isInstanceOf(IllegalStateException.class);
+                    failed.add(message.getId());
+                })
+                .handler(OrderStateChangedMessage.MESSAGE_HINT, message -> {
+                    if (message.getId().equals("message-0001")) {
+                        throw new IllegalStateException("poison message");
+                    }
+                    handled.add(message.getId());
+                })
+                .build()) {
+            for (int attempt = 1; attempt < 3; attempt++) {
+                assertThat(catchThrowable(() -> feed.poll().toCompletableFuture().join())).hasCauseInstanceOf(IllegalStateException.class);
+            }
+            assertThat(failed).isEmpty();
+            assertThat(feed.poll().toCompletableFuture().join()).isEqualTo(2);
+            assertThat(failed).containsExactly("message-0001");
+            assertThat(handled).containsOnly("message-0000", "message-0002", "message-0003");
+            assertThat(feed.getWatermarks().get("order")).isEqualTo(MessageWatermark.of(START.plusSeconds(3), "message-0003"));
+
+            addMessage(4, "order-1", OrderStateChangedMessage.MESSAGE_TYPE);
+            assertThat(feed.poll().toCompletableFuture().join()).isEqualTo(1);
+            assertThat(handled).endsWith("message-0004");
+            assertThat(failed).hasSize(1);
+        }
+    }
+
+    @Test
+    public void pollIntervalIncreasesWithoutMessages() throws Exception {
+        try (final MessageChangeFeed feed = MessageChangeFeedBuilder.of(client())
+                .minPollInterval(Duration.ofMillis(5))
+                .maxPollInterval(Duration.ofMillis(20))
+                .handler(OrderStateChangedMessage.MESSAGE_HINT, message -> {})
+                .build()) {
+            feed.start();
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (queries.get() < 4 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(queries.get()).isGreaterThanOrEqualTo(4);
+            assertThat(feed.getPollInterval()).isEqualTo(Duration.ofMillis(20));
+        }
+    }
+
+    private static <K, V> Map.Entry<K, V> entry(final K key, final V value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+
+    private static void record(final Map<String, List<Long>> sequenceNumbersByOrder, final Message message) {
+        synchronized (sequenceNumbersByOrder) {
+            sequenceNumbersByOrder.computeIfAbsent(message.getResource().getId(), id -> new ArrayList<>()).add(message.getSequenceNumber());
+        }
+    }
+
+    private void addMessage(final int i, final String orderId, final String type) {
+        messages.add(String.format("{\"id\":\"message-%04d\",\"version\":1,\"createdAt\":\"%s\",\"lastModifiedAt\":\"%2$s\"," +
+                        "\"resource\":{\"typeId\":\"order\",\"id\":\"%s\"},\"sequenceNumber\":%d,\"resourceVersion\":%4$d,\"type\":\"%s\"," +
+                        "\"orderState\":\"Open\",\"email\":\"john@example.com\"}",
+                i, START.plusSeconds(i), orderId, i, type));
+    }
+
+    /**
+     * Client which evaluates the creation time predicates of the feed, all messages have different creation times.
+     */
+    private SphereClient client() {
+        return new SphereClient() {
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                queries.incrementAndGet();
+                final String path = decode(request.httpRequestIntent().getPath());
+                final Matcher since = SINCE.matcher(path);
+                final Matcher after = AFTER.matcher(path);
+                final ZonedDateTime createdAtFrom = after.find() ? ZonedDateTime.parse(after.group(1)).plusNanos(1) : since.find() ? ZonedDateTime.parse(since.group(1)) : null;
+                assertThat(createdAtFrom).as(path).isNotNull();
+                final int limit = Integer.parseInt(path.replaceAll(".*limit=(\\d+).*", "$1"));
+                final String results;
+                synchronized (messages) {
+                    results = messages.stream()
+                            .filter(message -> !ZonedDateTime.parse(message.replaceAll(".*\"createdAt\":\"([^\"]+)\".*", "$1")).isBefore(createdAtFrom))
+                            .limit(limit)
+                            .collect(joining(","));
+                }
+                final String body = String.format("{\"offset\":0,\"count\":%d,\"results\":[%s]}", results.isEmpty() ? 0 : results.split("\\},\\{").length, results);
+                return CompletableFuture.supplyAsync(() -> request.deserialize(HttpResponse.of(200, body)));
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+    }
+
+    private static String decode(final String path) {
+        try {
+            return URLDecoder.decode(path, "UTF-8");
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.sphere.sdk.queries;
+
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BucketedMapTest {
+    @Test
+    public void changesDoNotAffectTheOriginal() throws Exception {
+        final Map<String, Integer> entries = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.put("key-" + i, i);
+        }
+        final BucketedMap<String, Integer> original = BucketedMap.of(entries);
+        final BucketedMap<String, Integer> changed = original.with(Collections.singletonMap("key-1", -1), Collections.singletonList("key-2"));
+        assertThat(original.get("key-1")).isEqualTo(1);
+        assertThat(original.get("key-2")).isEqualTo(2);
+        assertThat(original.size()).isEqualTo(1000);
+        assertThat(changed.get("key-1")).isEqualTo(-1);
+        assertThat(changed.containsKey("key-2")).isFalse();
+        assertThat(changed.size()).isEqualTo(999);
+    }
+
+    @Test
+    public void behavesLikeAMapWhileGrowingAndShrinking() throws Exception {
+        final Random random = new Random(42);
+        final Map<Integer, Integer> expected = new HashMap<>();
+        BucketedMap<Integer, Integer> map = BucketedMap.of(Collections.emptyMap());
+        for (int round = 0; round < 200; round++) {
+            final Map<Integer, Integer> puts = new HashMap<>();
+            final Set<Integer> removals = new HashSet<>();
+            final boolean growing = round < 100;
+            for (int i = 0; i < 100; i++) {
+                final int key = random.nextInt(20_000);
+                if (growing || random.nextBoolean()) {
+                    puts.put(key, round);
+                } else {
+                    removals.add(key);
+                }
+            }
+            removals.removeAll(puts.keySet());
+            map = map.with(puts, removals);
+            expected.putAll(puts);
+            expected.keySet().removeAll(removals);
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        assertThat(map.values()).hasSize(expected.size()).containsOnlyElementsOf(expected.values());
+        for (final Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+        }
+    }
+}
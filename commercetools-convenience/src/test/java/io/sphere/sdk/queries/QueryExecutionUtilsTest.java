@@ -5,25 +5,48 @@ import io.sphere.sdk.categories.queries.CategoryQuery;
 import io.sphere.sdk.client.SphereClient;
 import io.sphere.sdk.client.SphereRequest;
 import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.products.search.ProductProjectionSearch;
+import io.sphere.sdk.search.PagedSearchResult;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import javax.annotation.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 public class QueryExecutionUtilsTest {
     private static final int PAGE_SIZE = 5;
     private static final Comparator<Category> categoryComparator = Comparator.comparing(c -> c.getSlug().get(Locale.ENGLISH));
+    private static final Comparator<Category> idComparator = Comparator.comparing(Category::getId);
 
     @Test
     public void onEmptyResult() throws Exception {
@@ -50,6 +73,288 @@ public class QueryExecutionUtilsTest {
         withClient(clientWithDelays(16), list -> assertThat(list).isSortedAccordingTo(categoryComparator).hasSize(16));
     }
 
+    @Test
+    public void cursorOnEmptyResult() throws Exception {
+        withCursorClient(0, list -> assertThat(list).isEmpty());
+    }
+
+    @Test
+    public void cursorOnExactlyOnePage() throws Exception {
+        withCursorClient(PAGE_SIZE, list -> assertThat(list).isSortedAccordingTo(idComparator).hasSize(PAGE_SIZE));
+    }
+
+    @Test
+    public void cursorOnMultiplePagesResult() throws Exception {
+        withCursorClient(16, list -> assertThat(list).isSortedAccordingTo(idComparator).hasSize(16).doesNotHaveDuplicates());
+    }
+
+    @Test
+    public void cursorOnManyCompletedPages() throws Exception {
+        final int totalResults = 20_000;
+        final AtomicInteger count = new AtomicInteger();
+        QueryExecutionUtils.queryAll(cursorClient(totalResults, query -> {}, false), CategoryQuery.of(), category -> count.incrementAndGet(), 1)
+                .toCompletableFuture().join();
+        assertThat(count.get()).isEqualTo(totalResults);
+    }
+
+    @Test
+    public void cursorStream() throws Exception {
+        final List<String> ids = QueryExecutionUtils.streamAll(cursorClient(16), CategoryQuery.of(), PAGE_SIZE)
+                .map(Category::getId)
+                .collect(toList());
+        assertThat(ids).hasSize(16).startsWith("id-0000").endsWith("id-0015");
+    }
+
+    @Test
+    public void cursorQueriesUseIdPredicateWithoutTotalAndOffset() throws Exception {
+        final List<CategoryQuery> queries = Collections.synchronizedList(new ArrayList<>());
+        final SphereClient client = cursorClient(7, queries::add);
+        QueryExecutionUtils.queryAll(client, CategoryQuery.of().withSort(QuerySort.of("createdAt desc")), c -> {}, PAGE_SIZE)
+                .toCompletableFuture().join();
+        assertThat(queries).hasSize(2);
+        assertThat(queries).allMatch(query -> !query.fetchTotal() && query.offset() == 0L && query.sort().equals(singletonList(QuerySort.of("id asc"))));
+        assertThat(queries.get(0).predicates()).isEmpty();
+        assertThat(queries.get(1).predicates()).isEqualTo(singletonList(QueryPredicate.of("id > \"id-0004\"")));
+    }
+
+    @Test
+    public void keyspaceRangesCoverAllIds() throws Exception {
+        final List<KeyspaceRange> ranges = KeyspaceRange.split(3);
+        assertThat(ranges).extracting(KeyspaceRange::getKey).containsExactly("..55", "55..aa", "aa..");
+        assertThat(KeyspaceRange.split(1).get(0).toPredicates()).isEmpty();
+        assertThat(exportIds(40)).allMatch(id -> ranges.stream().filter(range -> range.contains(id)).count() == 1);
+    }
+
+    @Test
+    public void exportAllPartitions() throws Exception {
+        final List<String> ids = exportIds(100);
+        final List<Category> elements = new ArrayList<>();
+        final ExportCheckpoints checkpoints = ExportCheckpoints.ofInMemory();
+        QueryExecutionUtils.exportAll(exportClient(ids, ""), CategoryQuery.of(), elements::addAll, 4, checkpoints, PAGE_SIZE)
+                .toCompletableFuture().join();
+        assertThat(elements).extracting(Category::getId).containsOnlyElementsOf(ids).hasSameSizeAs(ids).doesNotHaveDuplicates();
+        assertThat(KeyspaceRange.split(4)).allMatch(checkpoints::isCompleted);
+    }
+
+    @Test
+    public void exportAllResumesFromCheckpoints() throws Exception {
+        final List<String> ids = exportIds(100);
+        final KeyspaceRange failingRange = KeyspaceRange.split(4).get(1);
+        final String failAfterId = ids.stream().filter(failingRange::contains).skip(PAGE_SIZE - 1).findFirst().get();
+        final List<Category> elements = new ArrayList<>();
+        final ExportCheckpoints checkpoints = ExportCheckpoints.ofInMemory();
+        final CompletableFuture<Void> failedExport = QueryExecutionUtils
+                .exportAll(exportClient(ids, failAfterId), CategoryQuery.of(), elements::addAll, 4, checkpoints, PAGE_SIZE)
+                .toCompletableFuture();
+        assertThat(catchThrowable(failedExport::join)).isInstanceOf(CompletionException.class);
+        assertThat(checkpoints.isCompleted(failingRange)).isFalse();
+        assertThat(checkpoints.getLastId(failingRange)).isEqualTo(failAfterId);
+
+        final List<CategoryQuery> resumedQueries = Collections.synchronizedList(new ArrayList<>());
+        QueryExecutionUtils.exportAll(exportClient(ids, "", resumedQueries::add), CategoryQuery.of(), elements::addAll, 4, checkpoints, PAGE_SIZE)
+                .toCompletableFuture().join();
+        assertThat(elements).extracting(Category::getId).containsOnlyElementsOf(ids).hasSameSizeAs(ids).doesNotHaveDuplicates();
+        assertThat(resumedQueries).allMatch(query -> query.predicates().contains(QueryPredicate.of("id >= \"" + failingRange.getLowerBound().get() + "\"")));
+    }
+
+    @Test
+    public void publisherFetchesPagesOnDemand() throws Exception {
+        final List<CategoryQuery> queries = Collections.synchronizedList(new ArrayList<>());
+        final RecordingSubscriber<Category> subscriber = new RecordingSubscriber<>();
+        QueryExecutionUtils.publishAll(cursorClient(12, queries::add), CategoryQuery.of(), PAGE_SIZE).subscribe(subscriber);
+        assertThat(queries).isEmpty();
+
+        subscriber.requestAndAwait(3);
+        assertThat(subscriber.elements).extracting(Category::getId).containsExactly("id-0000", "id-0001", "id-0002");
+        assertThat(queries).hasSize(1);
+
+        subscriber.requestAndAwait(2);
+        assertThat(queries).hasSize(1);
+
+        subscriber.requestAndAwait(Long.MAX_VALUE);
+        assertThat(subscriber.elements).hasSize(12).isSortedAccordingTo(idComparator);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(queries).hasSize(3);
+    }
+
+    @Test
+    public void publisherSignalsErrors() throws Exception {
+        final RecordingSubscriber<Category> subscriber = new RecordingSubscriber<>();
+        final SphereClient client = exportClient(exportIds(20), exportIds(20).get(PAGE_SIZE - 1));
+        QueryExecutionUtils.publishAll(client, CategoryQuery.of(), PAGE_SIZE).subscribe(subscriber);
+        subscriber.requestAndAwait(Long.MAX_VALUE);
+        assertThat(subscriber.elements).hasSize(PAGE_SIZE);
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void searchPublisherUsesOffsets() throws Exception {
+        final List<Long> offsets = Collections.synchronizedList(new ArrayList<>());
+        final SphereClient client = new SphereClient() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                final ProductProjectionSearch search = (ProductProjectionSearch) request;
+                offsets.add(search.offset());
+                final List<ProductProjection> results = LongStream.range(search.offset(), min(7, search.offset() + search.limit()))
+                        .mapToObj(i -> proxy(ProductProjection.class, method -> null))
+                        .collect(toList());
+                return CompletableFuture.completedFuture((T) proxy(PagedSearchResult.class, method -> results));
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+        final RecordingSubscriber<ProductProjection> subscriber = new RecordingSubscriber<>();
+        QueryExecutionUtils.publishAll(client, ProductProjectionSearch.ofCurrent(), PAGE_SIZE).subscribe(subscriber);
+        subscriber.requestAndAwait(Long.MAX_VALUE);
+        assertThat(subscriber.elements).hasSize(7);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(offsets).containsExactly(0L, 5L);
+    }
+
+    private static <T> T proxy(final Class<T> clazz, final Function<Method, Object> answer) {
+        return clazz.cast(Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz}, (proxy, method, args) -> answer.apply(method)));
+    }
+
+    private static final class RecordingSubscriber<T> implements Subscriber<T> {
+        private final List<T> elements = new ArrayList<>();
+        private volatile boolean completed;
+        @Nullable
+        private volatile Throwable error;
+        private Subscription subscription;
+        private long awaited;
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public synchronized void onNext(final T element) {
+            elements.add(element);
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onError(final Throwable throwable) {
+            error = throwable;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            completed = true;
+            notifyAll();
+        }
+
+        private synchronized void requestAndAwait(final long n) throws InterruptedException {
+            awaited = n == Long.MAX_VALUE ? n : awaited + n;
+            subscription.request(n);
+            while (elements.size() < awaited && !completed && error == null) {
+                wait(1000);
+            }
+        }
+    }
+
+    private void withCursorClient(final int totalResults, final Consumer<List<Category>> test) {
+        final List<Category> elements = Collections.synchronizedList(new ArrayList<>());
+        QueryExecutionUtils.queryAll(cursorClient(totalResults), CategoryQuery.of(), elements::add, PAGE_SIZE)
+                .toCompletableFuture().join();
+        test.accept(elements);
+    }
+
+    private SphereClient cursorClient(final int totalResults) {
+        return cursorClient(totalResults, query -> {});
+    }
+
+    private SphereClient cursorClient(final int totalResults, final Consumer<CategoryQuery> queryListener) {
+        return cursorClient(totalResults, queryListener, true);
+    }
+
+    private SphereClient cursorClient(final int totalResults, final Consumer<CategoryQuery> queryListener, final boolean async) {
+        return new SphereClient() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                final CategoryQuery query = (CategoryQuery) request;
+                queryListener.accept(query);
+                final int start = query.predicates().stream()
+                        .map(predicate -> predicate.toSphereQuery().replaceAll("\\D", ""))
+                        .mapToInt(lastId -> Integer.parseInt(lastId) + 1)
+                        .findFirst()
+                        .orElse(0);
+                final Supplier<T> result = () -> {
+                    final List<Category> results = IntStream.range(start, min(totalResults, start + query.limit().intValue()))
+                            .mapToObj(i -> SphereJsonUtils.readObject(String.format("{ \"id\" : \"id-%04d\" }", i), Category.class))
+                            .collect(toList());
+                    return (T) PagedQueryResult.of(0L, null, results);
+                };
+                return async ? CompletableFuture.supplyAsync(result) : CompletableFuture.completedFuture(result.get());
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+    }
+
+    private static List<String> exportIds(final int count) {
+        final Random random = new Random(42);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new UUID(random.nextLong(), random.nextLong()).toString())
+                .sorted()
+                .collect(toList());
+    }
+
+    private SphereClient exportClient(final List<String> sortedIds, final String failAfterId) {
+        return exportClient(sortedIds, failAfterId, query -> {});
+    }
+
+    /**
+     * Client which evaluates the id predicates of the queries and fails the query for the page after {@code failAfterId}.
+     */
+    private SphereClient exportClient(final List<String> sortedIds, final String failAfterId, final Consumer<CategoryQuery> queryListener) {
+        final Pattern predicatePattern = Pattern.compile("id (>=|<|>) \"([^\"]*)\"");
+        return new SphereClient() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                final CategoryQuery query = (CategoryQuery) request;
+                queryListener.accept(query);
+                Predicate<String> filter = id -> true;
+                for (final QueryPredicate<Category> predicate : query.predicates()) {
+                    final Matcher matcher = predicatePattern.matcher(predicate.toSphereQuery());
+                    assertThat(matcher.matches()).isTrue();
+                    final String bound = matcher.group(2);
+                    if (bound.equals(failAfterId)) {
+                        final CompletableFuture<T> failed = new CompletableFuture<>();
+                        failed.completeExceptionally(new IllegalStateException("failing page"));
+                        return failed;
+                    }
+                    final String operator = matcher.group(1);
+                    filter = filter.and(operator.equals(">=") ? id -> id.compareTo(bound) >= 0
+                            : operator.equals("<") ? id -> id.compareTo(bound) < 0
+                            : id -> id.compareTo(bound) > 0);
+                }
+                final List<Category> results = sortedIds.stream()
+                        .filter(filter)
+                        .limit(query.limit())
+                        .map(id -> SphereJsonUtils.readObject(String.format("{ \"id\" : \"%s\" }", id), Category.class))
+                        .collect(toList());
+                return CompletableFuture.supplyAsync(() -> (T) PagedQueryResult.of(0L, null, results));
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+    }
+
     private void withClient(final SphereClient client, final Consumer<List<Category>> test) {
         final List<Category> elements = QueryExecutionUtils.queryAll(client, CategoryQuery.of(), PAGE_SIZE)
                 .toCompletableFuture().join();
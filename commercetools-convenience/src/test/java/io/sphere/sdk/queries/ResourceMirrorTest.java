@@ -0,0 +1,175 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.inventory.InventoryEntry;
+import io.sphere.sdk.inventory.messages.InventoryEntryDeletedMessage;
+import io.sphere.sdk.inventory.queries.InventoryEntryQuery;
+import org.junit.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceMirrorTest {
+    private static final ZonedDateTime START = ZonedDateTime.parse("2017-01-01T00:00:00.000Z");
+    private static final Pattern SINCE = Pattern.compile("(?:lastModifiedAt|createdAt)\\s*>=\\s*\"([^\"]+)\"");
+    private static final Pattern AFTER_ID = Pattern.compile("id\\s*>\\s*\"([^\"]+)\"");
+
+    private final SortedMap<String, Entry> inventory = Collections.synchronizedSortedMap(new TreeMap<>());
+    private final List<Entry> deletionMessages = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> resultSizes = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void refreshAppliesOnlyChanges() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            put(i, 1, START.plusSeconds(i));
+        }
+        final ResourceMirror<InventoryEntry> mirror = ResourceMirrorBuilder.of(client(), InventoryEntryQuery.of())
+                .index("sku", InventoryEntry::getSku)
+                .overlap(Duration.ZERO)
+                .pageSize(20)
+                .build();
+        final ResourceMirrorSnapshot<InventoryEntry> loaded = mirror.refresh().toCompletableFuture().join();
+        assertThat(loaded.size()).isEqualTo(50);
+        assertThat(loaded.getLastModifiedAt()).contains(START.plusSeconds(49));
+        assertThat(resultSizes).containsExactly(20, 20, 10);
+
+        resultSizes.clear();
+        put(7, 2, START.plusMinutes(10));
+        final ResourceMirrorSnapshot<InventoryEntry> refreshed = mirror.refresh().toCompletableFuture().join();
+        assertThat(resultSizes).as("latest resource before the change and the changed one").containsExactly(2);
+        assertThat(refreshed).isNotSameAs(loaded);
+        assertThat(refreshed.find("sku", "sku-0007").get().getVersion()).isEqualTo(2L);
+        assertThat(loaded.find("sku", "sku-0007").get().getVersion()).isEqualTo(1L);
+
+        assertThat(mirror.refresh().toCompletableFuture().join()).isSameAs(refreshed);
+    }
+
+    @Test
+    public void refreshMovesChangedIndexKeys() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            put(i, 1, START.plusSeconds(i));
+        }
+        final ResourceMirror<InventoryEntry> mirror = ResourceMirrorBuilder.of(client(), InventoryEntryQuery.of())
+                .index("sku", InventoryEntry::getSku)
+                .overlap(Duration.ZERO)
+                .build();
+        mirror.load().toCompletableFuture().join();
+        put(2, 2, START.plusMinutes(10), "renamed");
+        final ResourceMirrorSnapshot<InventoryEntry> refreshed = mirror.refresh().toCompletableFuture().join();
+        assertThat(refreshed.find("sku", "sku-0002")).isEmpty();
+        assertThat(refreshed.find("sku", "renamed").get().getId()).isEqualTo(id(2));
+        assertThat(refreshed.find("sku", "sku-0003").get().getId()).isEqualTo(id(3));
+        assertThat(refreshed.getAll()).hasSize(5);
+    }
+
+    @Test
+    public void refreshRemovesDeletedResources() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            put(i, 1, START.plusSeconds(i));
+        }
+        final ResourceMirror<InventoryEntry> mirror = ResourceMirrorBuilder.of(client(), InventoryEntryQuery.of())
+                .index("sku", InventoryEntry::getSku)
+                .deletionMessages(InventoryEntryDeletedMessage.MESSAGE_HINT)
+                .build();
+        mirror.load().toCompletableFuture().join();
+        final Entry deleted = inventory.remove(id(3));
+        deletionMessages.add(new Entry(String.format("{\"id\":\"message-1\",\"version\":1,\"createdAt\":\"%s\",\"lastModifiedAt\":\"%1$s\"," +
+                "\"resource\":{\"typeId\":\"inventory-entry\",\"id\":\"%s\"},\"sequenceNumber\":2,\"resourceVersion\":2,\"type\":\"InventoryEntryDeleted\"}",
+                ZonedDateTime.now(), deleted.id), deleted.id, ZonedDateTime.now()));
+        final ResourceMirrorSnapshot<InventoryEntry> refreshed = mirror.refresh().toCompletableFuture().join();
+        assertThat(refreshed.size()).isEqualTo(4);
+        assertThat(refreshed.get(id(3))).isEmpty();
+        assertThat(refreshed.find("sku", "sku-0003")).isEmpty();
+        assertThat(mirror.getSnapshot()).isSameAs(refreshed);
+    }
+
+    private static String id(final int i) {
+        return String.format("entry-%04d", i);
+    }
+
+    private void put(final int i, final long version, final ZonedDateTime lastModifiedAt) {
+        put(i, version, lastModifiedAt, String.format("sku-%04d", i));
+    }
+
+    private void put(final int i, final long version, final ZonedDateTime lastModifiedAt, final String sku) {
+        final String json = String.format("{\"id\":\"%s\",\"version\":%d,\"createdAt\":\"%s\",\"lastModifiedAt\":\"%s\",\"sku\":\"%s\"," +
+                "\"quantityOnStock\":1,\"availableQuantity\":1}", id(i), version, START, lastModifiedAt, sku);
+        inventory.put(id(i), new Entry(json, id(i), lastModifiedAt));
+    }
+
+    /**
+     * Client which evaluates the timestamp and id predicates of the queries.
+     */
+    private SphereClient client() {
+        return new SphereClient() {
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                final String path = decode(request.httpRequestIntent().getPath());
+                final Matcher since = SINCE.matcher(path);
+                final ZonedDateTime sinceTimestamp = since.find() ? ZonedDateTime.parse(since.group(1)) : null;
+                final Matcher afterId = AFTER_ID.matcher(path);
+                final String lastId = afterId.find() ? afterId.group(1) : "";
+                final int limit = Integer.parseInt(path.replaceAll(".*limit=(\\d+).*", "$1"));
+                final List<Entry> entries;
+                if (path.startsWith("/messages")) {
+                    synchronized (deletionMessages) {
+                        entries = new ArrayList<>(deletionMessages);
+                    }
+                } else {
+                    synchronized (inventory) {
+                        entries = new ArrayList<>(inventory.values());
+                    }
+                }
+                final List<String> results = entries.stream()
+                        .filter(entry -> sinceTimestamp == null || !entry.timestamp.isBefore(sinceTimestamp))
+                        .filter(entry -> entry.id.compareTo(lastId) > 0)
+                        .limit(limit)
+                        .map(entry -> entry.json)
+                        .collect(toList());
+                if (!path.startsWith("/messages")) {
+                    resultSizes.add(results.size());
+                }
+                final String body = String.format("{\"offset\":0,\"count\":%d,\"results\":[%s]}", results.size(), results.stream().collect(joining(",")));
+                return CompletableFuture.supplyAsync(() -> request.deserialize(HttpResponse.of(200, body)));
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+    }
+
+    private static String decode(final String path) {
+        try {
+            return URLDecoder.decode(path, "UTF-8");
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+        private final String json;
+        private final String id;
+        private final ZonedDateTime timestamp;
+
+        private Entry(final String json, final String id, final ZonedDateTime timestamp) {
+            this.json = json;
+            this.id = id;
+            this.timestamp = timestamp;
+        }
+    }
+}
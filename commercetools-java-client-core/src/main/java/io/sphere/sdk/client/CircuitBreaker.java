@@ -0,0 +1,151 @@
+package io.sphere.sdk.client;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free circuit breaker for one endpoint, used by {@link CircuitBreakerSphereClientDecorator}.
+ */
+final class CircuitBreaker {
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final CircuitBreakerConfig config;
+    private final long slowCallDurationNanos;
+    private final long waitDurationInOpenStateNanos;
+    private final long maxWaitDurationInHalfOpenStateNanos;
+    private final AtomicReference<Phase> phase;
+
+    CircuitBreaker(final CircuitBreakerConfig config) {
+        this.config = config;
+        this.slowCallDurationNanos = config.getSlowCallDurationThreshold().toNanos();
+        this.waitDurationInOpenStateNanos = config.getWaitDurationInOpenState().toNanos();
+        this.maxWaitDurationInHalfOpenStateNanos = config.getMaxWaitDurationInHalfOpenState().toNanos();
+        this.phase = new AtomicReference<>(closed());
+    }
+
+    /**
+     * Checks if a call is permitted.
+     *
+     * @return the phase the call has been permitted in which needs to be passed to {@link #onResult(Phase, boolean, long)} or null if the call is not permitted
+     */
+    @Nullable
+    Phase tryAcquirePermission() {
+        while (true) {
+            final Phase current = phase.get();
+            if (current.state == State.CLOSED) {
+                return current;
+            } else if (current.state == State.HALF_OPEN) {
+                if (current.permits.get() > 0 && current.permits.getAndDecrement() > 0) {
+                    return current;
+                } else if (System.nanoTime() - current.startedAtNanos < maxWaitDurationInHalfOpenStateNanos) {
+                    return null;
+                } else {
+                    //the probes did not complete in time, for example because their futures hang
+                    phase.compareAndSet(current, open());
+                }
+            } else if (System.nanoTime() - current.startedAtNanos < waitDurationInOpenStateNanos) {
+                return null;
+            } else {
+                phase.compareAndSet(current, halfOpen());
+            }
+        }
+    }
+
+    void onResult(final Phase permittedIn, final boolean failure, final long durationNanos) {
+        final boolean slow = durationNanos > slowCallDurationNanos;
+        if (permittedIn.state == State.CLOSED) {
+            if (permittedIn.window.record(failure, slow)) {
+                phase.compareAndSet(permittedIn, open());
+            }
+        } else if (permittedIn.state == State.HALF_OPEN) {
+            if (failure || slow) {
+                phase.compareAndSet(permittedIn, open());
+            } else if (permittedIn.successes.incrementAndGet() >= config.getPermittedNumberOfCallsInHalfOpenState()) {
+                phase.compareAndSet(permittedIn, closed());
+            }
+        }
+    }
+
+    State getState() {
+        return phase.get().state;
+    }
+
+    private Phase closed() {
+        return new Phase(State.CLOSED, 0, new OutcomeWindow(config), 0);
+    }
+
+    private Phase open() {
+        return new Phase(State.OPEN, System.nanoTime(), null, 0);
+    }
+
+    private Phase halfOpen() {
+        return new Phase(State.HALF_OPEN, System.nanoTime(), null, config.getPermittedNumberOfCallsInHalfOpenState());
+    }
+
+    /**
+     * Immutable state of the circuit breaker, each transition creates a new instance so results of calls
+     * permitted in an older phase are ignored.
+     */
+    static final class Phase {
+        private final State state;
+        private final long startedAtNanos;
+        @Nullable
+        private final OutcomeWindow window;
+        private final AtomicInteger permits;
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private Phase(final State state, final long startedAtNanos, @Nullable final OutcomeWindow window, final int permits) {
+            this.state = state;
+            this.startedAtNanos = startedAtNanos;
+            this.window = window;
+            this.permits = new AtomicInteger(permits);
+        }
+    }
+
+    /**
+     * Ring buffer of the latest call outcomes with running counters for failures and slow calls.
+     */
+    private static final class OutcomeWindow {
+        private static final int FAILURE = 1;
+        private static final int SLOW = 2;
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong recordedCalls = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+        private final int minimumNumberOfCalls;
+        private final double failureRateThreshold;
+        private final double slowCallRateThreshold;
+
+        private OutcomeWindow(final CircuitBreakerConfig config) {
+            this.outcomes = new AtomicIntegerArray(config.getSlidingWindowSize());
+            this.minimumNumberOfCalls = config.getMinimumNumberOfCalls();
+            this.failureRateThreshold = config.getFailureRateThreshold();
+            this.slowCallRateThreshold = config.getSlowCallRateThreshold();
+        }
+
+        /**
+         * Records the outcome of a call.
+         *
+         * @return true if a threshold is exceeded
+         */
+        private boolean record(final boolean failure, final boolean slow) {
+            final int outcome = (failure ? FAILURE : 0) | (slow ? SLOW : 0);
+            final long callNumber = recordedCalls.getAndIncrement();
+            final int previous = outcomes.getAndSet((int) (callNumber % outcomes.length()), outcome);
+            final int currentFailures = failures.addAndGet(bit(outcome, FAILURE) - bit(previous, FAILURE));
+            final int currentSlowCalls = slowCalls.addAndGet(bit(outcome, SLOW) - bit(previous, SLOW));
+            final long calls = Math.min(callNumber + 1, outcomes.length());
+            return calls >= minimumNumberOfCalls
+                    && (currentFailures >= failureRateThreshold * calls || currentSlowCalls >= slowCallRateThreshold * calls);
+        }
+
+        private static int bit(final int outcome, final int flag) {
+            return (outcome & flag) != 0 ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.sphere.sdk.client;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Configuration for {@link CircuitBreakerSphereClientDecorator}.
+ *
+ * @see CircuitBreakerConfigBuilder
+ */
+public interface CircuitBreakerConfig {
+    /**
+     * The amount of the latest calls per endpoint which are used to calculate the failure and slow call rates.
+     *
+     * @return window size
+     */
+    int getSlidingWindowSize();
+
+    /**
+     * The amount of calls which need to be recorded before the circuit breaker can open.
+     *
+     * @return minimum amount of calls
+     */
+    int getMinimumNumberOfCalls();
+
+    /**
+     * The rate of failed calls in the window, between 0 and 1, from which on the circuit breaker opens.
+     *
+     * @return failure rate threshold
+     */
+    double getFailureRateThreshold();
+
+    /**
+     * The rate of slow calls in the window, between 0 and 1, from which on the circuit breaker opens.
+     *
+     * @return slow call rate threshold
+     */
+    double getSlowCallRateThreshold();
+
+    /**
+     * Calls which take longer than this duration count as slow calls.
+     *
+     * @return duration
+     */
+    Duration getSlowCallDurationThreshold();
+
+    /**
+     * The time the circuit breaker stays open before it lets probe calls pass.
+     *
+     * @return duration
+     */
+    Duration getWaitDurationInOpenState();
+
+    /**
+     * The amount of probe calls in the half-open state, if all of them succeed the circuit breaker closes again.
+     *
+     * @return amount of calls
+     */
+    int getPermittedNumberOfCallsInHalfOpenState();
+
+    /**
+     * The maximal time the circuit breaker stays half-open. If the probe calls have not completed by then,
+     * the circuit breaker opens again, so probes which never complete cannot block the endpoint forever.
+     *
+     * @return duration
+     */
+    Duration getMaxWaitDurationInHalfOpenState();
+
+    /**
+     * Decides which errors count as failures, by default {@link BadGatewayException}, {@link ServiceUnavailableException},
+     * {@link GatewayTimeoutException} and {@link SphereTimeoutException}.
+     *
+     * @return predicate for errors
+     */
+    Predicate<Throwable> getFailurePredicate();
+
+    static CircuitBreakerConfig of() {
+        return CircuitBreakerConfigBuilder.of().build();
+    }
+}
@@ -0,0 +1,91 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+public final class CircuitBreakerConfigBuilder extends Base implements Builder<CircuitBreakerConfig> {
+    private int slidingWindowSize = 100;
+    private int minimumNumberOfCalls = 20;
+    private double failureRateThreshold = 0.5;
+    private double slowCallRateThreshold = 1.0;
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(10);
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    private int permittedNumberOfCallsInHalfOpenState = 5;
+    private Duration maxWaitDurationInHalfOpenState = Duration.ofSeconds(60);
+    private Predicate<Throwable> failurePredicate = CircuitBreakerConfigBuilder::isServerUnavailable;
+
+    private CircuitBreakerConfigBuilder() {
+    }
+
+    public static CircuitBreakerConfigBuilder of() {
+        return new CircuitBreakerConfigBuilder();
+    }
+
+    public CircuitBreakerConfigBuilder slidingWindowSize(final int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+        return this;
+    }
+
+    public CircuitBreakerConfigBuilder minimumNumberOfCalls(final int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        return this;
+    }
+
+    public CircuitBreakerConfigBuilder failureRateThreshold(final double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    public CircuitBreakerConfigBuilder slowCallRateThreshold(final double slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        return this;
+    }
+
+    public CircuitBreakerConfigBuilder slowCallDurationThreshold(final Duration slowCallDurationThreshold) {
+        this.slowCallDurationThreshold = slowCallDurationThreshold;
+        return this;
+    }
+
+    public CircuitBreakerConfigBuilder waitDurationInOpenState(final Duration waitDurationInOpenState) {
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        return this;
+    }
+
+    public CircuitBreakerConfigBuilder permittedNumberOfCallsInHalfOpenState(final int permittedNumberOfCallsInHalfOpenState) {
+        this.permittedNumberOfCallsInHalfOpenState = permittedNumberOfCallsInHalfOpenState;
+        return this;
+    }
+
+    public CircuitBreakerConfigBuilder maxWaitDurationInHalfOpenState(final Duration maxWaitDurationInHalfOpenState) {
+        this.maxWaitDurationInHalfOpenState = maxWaitDurationInHalfOpenState;
+        return this;
+    }
+
+    public CircuitBreakerConfigBuilder failurePredicate(final Predicate<Throwable> failurePredicate) {
+        this.failurePredicate = failurePredicate;
+        return this;
+    }
+
+    @Override
+    public CircuitBreakerConfig build() {
+        if (slidingWindowSize < 1 || minimumNumberOfCalls < 1 || permittedNumberOfCallsInHalfOpenState < 1) {
+            throw new IllegalArgumentException("Window size, minimum number of calls and permitted calls in half-open state must be greater than 0.");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1 || slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+            throw new IllegalArgumentException("Rate thresholds must be greater than 0 and at most 1.");
+        }
+        return new CircuitBreakerConfigImpl(slidingWindowSize, Math.min(minimumNumberOfCalls, slidingWindowSize),
+                failureRateThreshold, slowCallRateThreshold, slowCallDurationThreshold, waitDurationInOpenState,
+                permittedNumberOfCallsInHalfOpenState, maxWaitDurationInHalfOpenState, failurePredicate);
+    }
+
+    private static boolean isServerUnavailable(final Throwable throwable) {
+        return throwable instanceof BadGatewayException
+                || throwable instanceof ServiceUnavailableException
+                || throwable instanceof GatewayTimeoutException
+                || throwable instanceof SphereTimeoutException;
+    }
+}
@@ -0,0 +1,78 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+final class CircuitBreakerConfigImpl extends Base implements CircuitBreakerConfig {
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final Duration slowCallDurationThreshold;
+    private final Duration waitDurationInOpenState;
+    private final int permittedNumberOfCallsInHalfOpenState;
+    private final Duration maxWaitDurationInHalfOpenState;
+    private final Predicate<Throwable> failurePredicate;
+
+    CircuitBreakerConfigImpl(final int slidingWindowSize, final int minimumNumberOfCalls, final double failureRateThreshold,
+                             final double slowCallRateThreshold, final Duration slowCallDurationThreshold,
+                             final Duration waitDurationInOpenState, final int permittedNumberOfCallsInHalfOpenState,
+                             final Duration maxWaitDurationInHalfOpenState, final Predicate<Throwable> failurePredicate) {
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationThreshold = slowCallDurationThreshold;
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        this.permittedNumberOfCallsInHalfOpenState = permittedNumberOfCallsInHalfOpenState;
+        this.maxWaitDurationInHalfOpenState = maxWaitDurationInHalfOpenState;
+        this.failurePredicate = failurePredicate;
+    }
+
+    @Override
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    @Override
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    @Override
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    @Override
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    @Override
+    public Duration getSlowCallDurationThreshold() {
+        return slowCallDurationThreshold;
+    }
+
+    @Override
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+    @Override
+    public int getPermittedNumberOfCallsInHalfOpenState() {
+        return permittedNumberOfCallsInHalfOpenState;
+    }
+
+    @Override
+    public Duration getMaxWaitDurationInHalfOpenState() {
+        return maxWaitDurationInHalfOpenState;
+    }
+
+    @Override
+    public Predicate<Throwable> getFailurePredicate() {
+        return failurePredicate;
+    }
+}
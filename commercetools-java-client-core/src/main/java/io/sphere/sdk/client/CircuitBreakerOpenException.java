@@ -0,0 +1,26 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.SphereException;
+
+/**
+ * Exception which is thrown by {@link CircuitBreakerSphereClientDecorator} without performing the request
+ * because the platform failed too often for the endpoint recently.
+ */
+public class CircuitBreakerOpenException extends SphereException {
+    static final long serialVersionUID = 0L;
+    private final String endpoint;
+
+    public CircuitBreakerOpenException(final String endpoint) {
+        super("Circuit breaker is open for endpoint " + endpoint);
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * The endpoint path for which the circuit breaker is open, for example "/product-projections".
+     *
+     * @return endpoint path
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
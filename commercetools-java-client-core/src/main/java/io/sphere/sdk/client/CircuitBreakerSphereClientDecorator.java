@@ -0,0 +1,65 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps a {@link SphereClient} to stop sending requests to an endpoint which currently fails.
+ *
+ * <p>For every endpoint (like "/product-projections", see {@link JsonEndpoint#endpoint()}) the outcomes of the latest
+ * calls are tracked. If the rate of failures (by default {@link BadGatewayException}, {@link ServiceUnavailableException},
+ * {@link GatewayTimeoutException} and {@link SphereTimeoutException}) or slow calls exceeds the configured threshold,
+ * requests to this endpoint fail immediately with a {@link CircuitBreakerOpenException}. After a waiting time some
+ * probe requests are let through and if they succeed, the endpoint is used normally again. If the probes do not complete
+ * within {@link CircuitBreakerConfig#getMaxWaitDurationInHalfOpenState()}, the circuit breaker opens again.</p>
+ *
+ * @see CircuitBreakerConfigBuilder
+ */
+public final class CircuitBreakerSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final CircuitBreakerConfig config;
+    private final ConcurrentHashMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private CircuitBreakerSphereClientDecorator(final SphereClient delegate, final CircuitBreakerConfig config) {
+        super(delegate);
+        this.config = config;
+    }
+
+    public static SphereClient of(final SphereClient delegate, final CircuitBreakerConfig config) {
+        return new CircuitBreakerSphereClientDecorator(delegate, config);
+    }
+
+    public static SphereClient of(final SphereClient delegate) {
+        return of(delegate, CircuitBreakerConfig.of());
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        final String endpoint = SphereRequestUtils.endpointPath(httpRequestIntent);
+        final CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(endpoint, e -> new CircuitBreaker(config));
+        final CircuitBreaker.Phase phase = circuitBreaker.tryAcquirePermission();
+        if (phase == null) {
+            final CircuitBreakerOpenException exception = new CircuitBreakerOpenException(endpoint);
+            exception.setSphereRequest(sphereRequest);
+            return CompletableFutureUtils.failed(exception);
+        } else {
+            final long start = System.nanoTime();
+            return super.execute(ResolvedIntentSphereRequest.of(sphereRequest, httpRequestIntent)).whenComplete((result, error) -> {
+                final boolean failure = error != null && config.getFailurePredicate().test(unwrap(error));
+                circuitBreaker.onResult(phase, failure, System.nanoTime() - start);
+            });
+        }
+    }
+
+    CircuitBreaker.State getState(final String endpoint) {
+        final CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        return circuitBreaker == null ? CircuitBreaker.State.CLOSED : circuitBreaker.getState();
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
@@ -52,6 +52,7 @@ final class ExceptionFactory {
                     return new ConcurrentModificationException(errorResponse);
                 })
                 .whenStatus(413, r -> new RequestEntityTooLargeException())
+                .whenStatus(429, r -> new TooManyRequestsException(extractBody(r)))
                 .whenStatus(400, r -> {
                     final ErrorResponse errorResponse = SphereJsonUtils.readObject(r.getResponseBody(), ErrorResponse.typeReference());
                     return new ErrorResponseException(errorResponse);
@@ -0,0 +1,113 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.retry.RetryBudget;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+/**
+ * Wraps a {@link SphereClient} to reduce the tail latency of reading requests.
+ *
+ * <p>If a GET request did not get a response after the observed latency percentile (by default the 95th) of its endpoint,
+ * the same request is sent a second time. The response which arrives first is used. The other request is not aborted,
+ * since the HTTP clients do not support it, so its response is ignored when it arrives. Requests with other HTTP methods
+ * are passed through unchanged since they are not necessarily idempotent.</p>
+ *
+ * <p>Errors are always taken from the original request, a failing hedged request is ignored. The amount of hedged
+ * requests is limited by a {@link RetryBudget} in relation to the amount of GET requests, so hedging cannot double the load.
+ * Until enough latencies have been observed for an endpoint no hedged requests are sent.</p>
+ *
+ * <p>The timers run in a daemon thread which is stopped by {@link #close()}.</p>
+ */
+public final class HedgingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "commercetools-hedging-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ConcurrentHashMap<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+    private final double percentile;
+    private final long minDelayNanos;
+    private final RetryBudget hedgeBudget;
+
+    private HedgingSphereClientDecorator(final SphereClient delegate, final double percentile, final Duration minDelay, final RetryBudget hedgeBudget) {
+        super(delegate);
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1.");
+        }
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.hedgeBudget = hedgeBudget;
+    }
+
+    /**
+     * Creates a hedging decorator.
+     *
+     * @param delegate the client to wrap
+     * @param percentile the latency percentile of an endpoint after which the request is sent again, for example 0.95
+     * @param minDelay the minimal time to wait before sending the request again
+     * @param hedgeBudget budget which limits the amount of hedged requests, can be used for metrics
+     * @return decorated client
+     */
+    public static SphereClient of(final SphereClient delegate, final double percentile, final Duration minDelay, final RetryBudget hedgeBudget) {
+        return new HedgingSphereClientDecorator(delegate, percentile, minDelay, hedgeBudget);
+    }
+
+    /**
+     * Creates a hedging decorator which hedges after the 95th latency percentile and at most 10 percent of the GET requests.
+     *
+     * @param delegate the client to wrap
+     * @return decorated client
+     */
+    public static SphereClient of(final SphereClient delegate) {
+        return of(delegate, 0.95, Duration.ofMillis(10), RetryBudget.of(0.1, 10));
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        final SphereRequest<T> request = ResolvedIntentSphereRequest.of(sphereRequest, httpRequestIntent);
+        if (httpRequestIntent.getHttpMethod() != HttpMethod.GET) {
+            return super.execute(request);
+        }
+        final LatencyTracker latencyTracker = latencyTrackers.computeIfAbsent(SphereRequestUtils.endpointPath(httpRequestIntent), e -> new LatencyTracker(percentile));
+        hedgeBudget.recordExecution();
+        final long start = System.nanoTime();
+        final CompletableFuture<T> primary = super.execute(request).toCompletableFuture();
+        final long percentileNanos = latencyTracker.getPercentileNanos();
+        if (percentileNanos < 0) {
+            return primary.whenComplete((res, error) -> recordLatency(latencyTracker, start, error));
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final ScheduledFuture<?> hedgeTimer = scheduler.schedule(() -> {
+            if (!primary.isDone() && hedgeBudget.tryAcquireRetry()) {
+                super.execute(request).whenComplete((res, error) -> {
+                    if (error == null && result.complete(res)) {
+                        recordLatency(latencyTracker, start, null);
+                    }
+                });
+            }
+        }, Math.max(minDelayNanos, percentileNanos), TimeUnit.NANOSECONDS);
+        primary.whenComplete((res, error) -> {
+            final boolean completedByPrimary = error == null ? result.complete(res) : result.completeExceptionally(error);
+            if (completedByPrimary) {
+                recordLatency(latencyTracker, start, error);
+                hedgeTimer.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private static void recordLatency(final LatencyTracker latencyTracker, final long start, final Throwable error) {
+        if (error == null) {
+            latencyTracker.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        super.close();
+    }
+}
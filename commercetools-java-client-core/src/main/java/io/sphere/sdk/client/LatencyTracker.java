@@ -0,0 +1,49 @@
+package io.sphere.sdk.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the latest latencies of an endpoint in a ring buffer and provides a percentile of them.
+ * The percentile is recalculated by the recording thread after a fixed amount of recordings, so reading it is cheap.
+ */
+final class LatencyTracker {
+    private static final int WINDOW_SIZE = 512;
+    private static final int RECALCULATION_INTERVAL = 64;
+    private final double percentile;
+    private final AtomicLongArray latencies = new AtomicLongArray(WINDOW_SIZE);
+    private final AtomicLong recordings = new AtomicLong();
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(final double percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(final long nanos) {
+        final long recording = recordings.getAndIncrement();
+        latencies.set((int) (recording % WINDOW_SIZE), nanos);
+        if ((recording + 1) % RECALCULATION_INTERVAL == 0) {
+            recalculate(Math.min(recording + 1, WINDOW_SIZE));
+        }
+    }
+
+    /**
+     * The latency percentile of the latest calls.
+     *
+     * @return percentile in nanoseconds or -1 if there are not enough recordings yet
+     */
+    long getPercentileNanos() {
+        return percentileNanos;
+    }
+
+    private void recalculate(final long size) {
+        final long[] snapshot = new long[(int) size];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = latencies.get(i);
+        }
+        Arrays.sort(snapshot);
+        final int index = (int) Math.min(snapshot.length - 1, Math.ceil(percentile * snapshot.length) - 1);
+        percentileNanos = snapshot[Math.max(0, index)];
+    }
+}
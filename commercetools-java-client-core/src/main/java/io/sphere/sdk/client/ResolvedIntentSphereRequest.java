@@ -0,0 +1,27 @@
+package io.sphere.sdk.client;
+
+/**
+ * Decorator for a {@link SphereRequest} which returns an already created {@link HttpRequestIntent},
+ * so decorators which inspect the intent do not make the underlying client create it again.
+ *
+ * @param <T> the type of the result of this request
+ */
+final class ResolvedIntentSphereRequest<T> extends SphereRequestDecorator<T> {
+    private final HttpRequestIntent httpRequestIntent;
+
+    private ResolvedIntentSphereRequest(final SphereRequest<T> delegate, final HttpRequestIntent httpRequestIntent) {
+        super(delegate);
+        this.httpRequestIntent = httpRequestIntent;
+    }
+
+    @Override
+    public HttpRequestIntent httpRequestIntent() {
+        return httpRequestIntent;
+    }
+
+    static <T> SphereRequest<T> of(final SphereRequest<T> sphereRequest, final HttpRequestIntent httpRequestIntent) {
+        return sphereRequest instanceof ResolvedIntentSphereRequest
+                ? sphereRequest
+                : new ResolvedIntentSphereRequest<>(sphereRequest, httpRequestIntent);
+    }
+}
@@ -1,5 +1,6 @@
 package io.sphere.sdk.client;
 
+import io.sphere.sdk.retry.RetryBudget;
 import io.sphere.sdk.retry.RetryRule;
 
 import java.util.List;
@@ -12,9 +13,39 @@ import java.util.List;
  * <p id="retry-delete-on-version-conflict">Not best practice but a lot of people requested to retry deletes on version conflicts:</p>
  * {@include.example io.sphere.sdk.client.retry.RetryDeleteExample}
  *
+ * <p id="retry-budget">To avoid that retries multiply the load during an outage, the retries can be limited with a {@link RetryBudget}
+ * and spread with jitter or the "Retry-After" header:</p>
+ * {@include.example io.sphere.sdk.client.retry.RetryWithBudgetExample}
+ *
  */
 public interface RetrySphereClientDecorator extends SphereClient {
     static SphereClient of(final SphereClient delegate, final List<RetryRule> retryRules) {
-        return new RetrySphereClientImpl(delegate, retryRules);
+        return of(delegate, retryRules, 1);
+    }
+
+    /**
+     * Creates a retry decorator which spreads the scheduling of retries across multiple threads.
+     * Successful responses do not pass any of these threads.
+     *
+     * @param delegate the client to wrap
+     * @param retryRules the rules to apply in the error case
+     * @param parallelism the amount of threads used for scheduling retries, at least 1
+     * @return decorated client
+     */
+    static SphereClient of(final SphereClient delegate, final List<RetryRule> retryRules, final int parallelism) {
+        return of(delegate, retryRules, parallelism, RetryBudget.ofUnlimited());
+    }
+
+    /**
+     * Creates a retry decorator which only retries as long as {@code retryBudget} allows it.
+     *
+     * @param delegate the client to wrap
+     * @param retryRules the rules to apply in the error case
+     * @param parallelism the amount of threads used for scheduling retries, at least 1
+     * @param retryBudget the budget which limits the amount of retries, can be used for metrics
+     * @return decorated client
+     */
+    static SphereClient of(final SphereClient delegate, final List<RetryRule> retryRules, final int parallelism, final RetryBudget retryBudget) {
+        return new RetrySphereClientImpl(delegate, retryRules, parallelism, retryBudget);
     }
 }
@@ -1,6 +1,7 @@
 package io.sphere.sdk.client;
 
 import io.sphere.sdk.retry.AsyncRetrySupervisor;
+import io.sphere.sdk.retry.RetryBudget;
 import io.sphere.sdk.retry.RetryRule;
 
 import java.util.List;
@@ -9,9 +10,9 @@ import java.util.concurrent.CompletionStage;
 final class RetrySphereClientImpl extends SphereClientDecorator {
     private final AsyncRetrySupervisor supervisor;
 
-    RetrySphereClientImpl(final SphereClient delegate, final List<RetryRule> retryRules) {
+    RetrySphereClientImpl(final SphereClient delegate, final List<RetryRule> retryRules, final int parallelism, final RetryBudget retryBudget) {
         super(delegate);
-        this.supervisor = AsyncRetrySupervisor.of(retryRules);
+        this.supervisor = AsyncRetrySupervisor.of(retryRules, parallelism, retryBudget);
     }
 
     @Override
@@ -0,0 +1,156 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CircuitBreakerSphereClientDecoratorTest {
+    private static final Duration WAIT_DURATION = Duration.ofMillis(100);
+    private final AtomicBoolean unavailable = new AtomicBoolean(true);
+    private final AtomicBoolean hanging = new AtomicBoolean(false);
+    private final AtomicInteger executedRequests = new AtomicInteger();
+    private final SphereClient underlyingClient = new SphereClient() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            executedRequests.incrementAndGet();
+            sphereRequest.httpRequestIntent();
+            if (hanging.get()) {
+                return new CompletableFuture<>();
+            }
+            return unavailable.get()
+                    ? CompletableFutureUtils.failed(new ServiceUnavailableException())
+                    : CompletableFutureUtils.successful((T) "hello");
+        }
+
+        @Override
+        public void close() {
+
+        }
+    };
+    private final CircuitBreakerSphereClientDecorator client = (CircuitBreakerSphereClientDecorator) CircuitBreakerSphereClientDecorator.of(underlyingClient,
+            CircuitBreakerConfigBuilder.of()
+                    .slidingWindowSize(10)
+                    .minimumNumberOfCalls(4)
+                    .failureRateThreshold(0.5)
+                    .waitDurationInOpenState(WAIT_DURATION)
+                    .permittedNumberOfCallsInHalfOpenState(2)
+                    .maxWaitDurationInHalfOpenState(WAIT_DURATION)
+                    .build());
+
+    @Test
+    public void opensAfterFailuresAndFailsFast() throws Exception {
+        executeFourTimes();
+        assertThat(client.getState("/foo")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.execute(DummySphereRequest.of()).toCompletableFuture().join())
+                .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(executedRequests.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void otherEndpointsAreNotAffected() throws Exception {
+        executeFourTimes();
+        unavailable.set(false);
+        assertThat(client.execute(new PathRequest("/categories/some-id")).toCompletableFuture().join()).isEqualTo("hello");
+        assertThat(client.getState("/categories")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void closesAfterSuccessfulProbes() throws Exception {
+        executeFourTimes();
+        unavailable.set(false);
+        Thread.sleep(WAIT_DURATION.toMillis() + 50);
+        assertThat(client.execute(DummySphereRequest.of()).toCompletableFuture().join()).isEqualTo("hello");
+        assertThat(client.getState("/foo")).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(client.execute(DummySphereRequest.of()).toCompletableFuture().join()).isEqualTo("hello");
+        assertThat(client.getState("/foo")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void reopensOnFailedProbe() throws Exception {
+        executeFourTimes();
+        Thread.sleep(WAIT_DURATION.toMillis() + 50);
+        assertThatThrownBy(() -> client.execute(DummySphereRequest.of()).toCompletableFuture().join())
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThat(client.getState("/foo")).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void reopensIfProbesDoNotComplete() throws Exception {
+        executeFourTimes();
+        Thread.sleep(WAIT_DURATION.toMillis() + 50);
+        hanging.set(true);
+        client.execute(DummySphereRequest.of());
+        client.execute(DummySphereRequest.of());
+        assertThat(client.getState("/foo")).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThatThrownBy(() -> client.execute(DummySphereRequest.of()).toCompletableFuture().join())
+                .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+
+        Thread.sleep(WAIT_DURATION.toMillis() + 50);
+        assertThatThrownBy(() -> client.execute(DummySphereRequest.of()).toCompletableFuture().join())
+                .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(client.getState("/foo")).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(WAIT_DURATION.toMillis() + 50);
+        hanging.set(false);
+        unavailable.set(false);
+        assertThat(client.execute(DummySphereRequest.of()).toCompletableFuture().join()).isEqualTo("hello");
+        assertThat(executedRequests.get()).isEqualTo(7);
+    }
+
+    @Test
+    public void createsTheRequestIntentOnce() throws Exception {
+        unavailable.set(false);
+        final AtomicInteger createdIntents = new AtomicInteger();
+        final SphereRequest<String> request = new PathRequest("/categories") {
+            @Override
+            public HttpRequestIntent httpRequestIntent() {
+                createdIntents.incrementAndGet();
+                return super.httpRequestIntent();
+            }
+        };
+        assertThat(client.execute(request).toCompletableFuture().join()).isEqualTo("hello");
+        assertThat(createdIntents.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void endpointPath() throws Exception {
+        assertThat(SphereRequestUtils.endpointPath(new PathRequest("/product-projections/search?text.en=foo"))).isEqualTo("/product-projections");
+        assertThat(SphereRequestUtils.endpointPath(new PathRequest("/categories?where=foo"))).isEqualTo("/categories");
+    }
+
+    private void executeFourTimes() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.execute(DummySphereRequest.of()).toCompletableFuture().join())
+                    .hasCauseInstanceOf(ServiceUnavailableException.class);
+        }
+    }
+
+    private static class PathRequest implements SphereRequest<String> {
+        private final String path;
+
+        private PathRequest(final String path) {
+            this.path = path;
+        }
+
+        @Override
+        public String deserialize(final HttpResponse httpResponse) {
+            return null;
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.GET, path);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.retry.RetryBudget;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HedgingSphereClientDecoratorTest {
+    private static final int WARM_UP_REQUESTS = 64;
+
+    @Test
+    public void slowRequestIsHedged() throws Exception {
+        final CompletableFuture<String> slowResponse = new CompletableFuture<>();
+        final CountingClient underlyingClient = new CountingClient(call -> call == WARM_UP_REQUESTS ? slowResponse : CompletableFutureUtils.successful("hello"));
+        final RetryBudget hedgeBudget = RetryBudget.of(0.1, 1);
+        final SphereClient client = HedgingSphereClientDecorator.of(underlyingClient, 0.95, Duration.ofMillis(20), hedgeBudget);
+        warmUp(client);
+        final String result = client.execute(DummySphereRequest.of()).toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertThat(result).isEqualTo("hello");
+        assertThat(underlyingClient.calls.get()).isEqualTo(WARM_UP_REQUESTS + 2);
+        assertThat(hedgeBudget.getRetriesAttempted()).isEqualTo(1);
+        //the late response of the slow request is ignored
+        slowResponse.complete("late");
+        assertThat(client.execute(DummySphereRequest.of()).toCompletableFuture().join()).isEqualTo("hello");
+        assertThat(underlyingClient.calls.get()).isEqualTo(WARM_UP_REQUESTS + 3);
+        client.close();
+    }
+
+    @Test
+    public void errorsOfTheOriginalRequestArePassed() throws Exception {
+        final CompletableFuture<String> originalResponse = new CompletableFuture<>();
+        final CountingClient underlyingClient = new CountingClient(call -> call < WARM_UP_REQUESTS ? CompletableFutureUtils.successful("hello") : originalResponse);
+        final SphereClient client = HedgingSphereClientDecorator.of(underlyingClient, 0.95, Duration.ofSeconds(10), RetryBudget.ofUnlimited());
+        warmUp(client);
+        final CompletableFuture<String> result = client.execute(DummySphereRequest.of()).toCompletableFuture();
+        assertThat(result.isDone()).isFalse();
+        originalResponse.completeExceptionally(new ServiceUnavailableException());
+        assertThatThrownBy(result::join).hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThat(underlyingClient.calls.get()).isEqualTo(WARM_UP_REQUESTS + 1);
+        client.close();
+    }
+
+    @Test
+    public void hedgesAreLimitedByBudget() throws Exception {
+        final CountingClient underlyingClient = new CountingClient(call -> call < WARM_UP_REQUESTS ? CompletableFutureUtils.successful("hello") : new CompletableFuture<>());
+        final RetryBudget hedgeBudget = RetryBudget.of(0, 0);
+        final SphereClient client = HedgingSphereClientDecorator.of(underlyingClient, 0.95, Duration.ofMillis(20), hedgeBudget);
+        warmUp(client);
+        client.execute(DummySphereRequest.of());
+        Thread.sleep(200);
+        assertThat(underlyingClient.calls.get()).isEqualTo(WARM_UP_REQUESTS + 1);
+        assertThat(hedgeBudget.getRetriesSuppressed()).isEqualTo(1);
+        client.close();
+    }
+
+    @Test
+    public void onlyGetRequestsAreHedged() throws Exception {
+        final CountingClient underlyingClient = new CountingClient(call -> call < WARM_UP_REQUESTS ? CompletableFutureUtils.successful("hello") : new CompletableFuture<>());
+        final SphereClient client = HedgingSphereClientDecorator.of(underlyingClient, 0.95, Duration.ofMillis(20), RetryBudget.ofUnlimited());
+        warmUp(client);
+        client.execute(new PostRequest());
+        assertThat(underlyingClient.calls.get()).isEqualTo(WARM_UP_REQUESTS + 1);
+        client.close();
+    }
+
+    private static void warmUp(final SphereClient client) {
+        for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+            client.execute(DummySphereRequest.of()).toCompletableFuture().join();
+        }
+    }
+
+    private static final class CountingClient implements SphereClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final IntFunction<CompletionStage<String>> responses;
+
+        private CountingClient(final IntFunction<CompletionStage<String>> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            return (CompletionStage<T>) responses.apply(calls.getAndIncrement());
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+
+    private static final class PostRequest implements SphereRequest<String> {
+        @Override
+        public String deserialize(final HttpResponse httpResponse) {
+            return null;
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.POST, "/foo", "{}");
+        }
+    }
+}
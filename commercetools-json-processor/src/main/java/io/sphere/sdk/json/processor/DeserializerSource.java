@@ -0,0 +1,120 @@
+package io.sphere.sdk.json.processor;
+
+import io.sphere.sdk.json.processor.JsonDeserializerProcessor.Property;
+
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+/**
+ * Creates the source code of a generated deserializer.
+ */
+final class DeserializerSource {
+    private DeserializerSource() {
+    }
+
+    static String of(final String packageName, final String className, final String targetClassName,
+                     final List<Property> properties, final Types types) {
+        final StringBuilder source = new StringBuilder()
+                .append("package ").append(packageName).append(";\n\n")
+                .append("import com.fasterxml.jackson.core.JsonParser;\n")
+                .append("import com.fasterxml.jackson.core.JsonToken;\n")
+                .append("import com.fasterxml.jackson.core.type.TypeReference;\n")
+                .append("import com.fasterxml.jackson.databind.DeserializationContext;\n")
+                .append("import com.fasterxml.jackson.databind.JavaType;\n")
+                .append("import com.fasterxml.jackson.databind.JsonDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.JsonMappingException;\n")
+                .append("import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.module.SimpleModule;\n")
+                .append("import com.fasterxml.jackson.databind.type.TypeFactory;\n\n")
+                .append("import javax.annotation.Generated;\n")
+                .append("import java.io.IOException;\n\n")
+                .append("/**\n")
+                .append(" * Streaming deserializer for {@link ").append(targetClassName).append("} generated from its {@code @JsonCreator} constructor.\n")
+                .append(" */\n")
+                .append("@Generated(\"").append(JsonDeserializerProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(className).append(" extends StdDeserializer<").append(targetClassName)
+                .append("> implements ResolvableDeserializer {\n")
+                .append("    private static final long serialVersionUID = 1L;\n")
+                .append("    private static final JavaType[] TYPES = {\n");
+        for (final Property property : properties) {
+            source.append("            ").append(javaType(property, types)).append(",\n");
+        }
+        source.append("    };\n")
+                .append("    private final JsonDeserializer<?>[] deserializers = new JsonDeserializer<?>[TYPES.length];\n\n")
+                .append("    private ").append(className).append("() {\n")
+                .append("        super(").append(targetClassName).append(".class);\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void resolve(final DeserializationContext ctxt) throws JsonMappingException {\n")
+                .append("        for (int i = 0; i < TYPES.length; i++) {\n")
+                .append("            deserializers[i] = ctxt.findRootValueDeserializer(TYPES[i]);\n")
+                .append("        }\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public boolean isCachable() {\n")
+                .append("        return true;\n")
+                .append("    }\n\n")
+                .append("    @Override\n");
+        if (properties.stream().anyMatch(Property::isGeneric)) {
+            source.append("    @SuppressWarnings(\"unchecked\")\n");
+        }
+        source.append("    public ").append(targetClassName).append(" deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {\n")
+                .append("        JsonToken token = p.getCurrentToken();\n")
+                .append("        if (token == JsonToken.START_OBJECT) {\n")
+                .append("            token = p.nextToken();\n")
+                .append("        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {\n")
+                .append("            throw ctxt.mappingException(handledType(), token);\n")
+                .append("        }\n");
+        for (int i = 0; i < properties.size(); i++) {
+            source.append("        Object value").append(i).append(" = null;\n");
+        }
+        source.append("        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {\n")
+                .append("            final String name = p.getCurrentName();\n")
+                .append("            p.nextToken();\n")
+                .append("            switch (name) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            source.append("                case \"").append(escape(properties.get(i).name)).append("\":\n")
+                    .append("                    value").append(i).append(" = read(").append(i).append(", p, ctxt);\n")
+                    .append("                    break;\n");
+        }
+        source.append("                default:\n")
+                .append("                    handleUnknownProperty(p, ctxt, handledType(), name);\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return new ").append(targetClassName).append("(");
+        for (int i = 0; i < properties.size(); i++) {
+            source.append(i == 0 ? "" : ",").append("\n                (").append(castType(properties.get(i), types)).append(") orNullValue(")
+                    .append(i).append(", value").append(i).append(", ctxt)");
+        }
+        source.append(");\n")
+                .append("    }\n\n")
+                .append("    private Object read(final int index, final JsonParser p, final DeserializationContext ctxt) throws IOException {\n")
+                .append("        return p.getCurrentToken() == JsonToken.VALUE_NULL ? null : deserializers[index].deserialize(p, ctxt);\n")
+                .append("    }\n\n")
+                .append("    private Object orNullValue(final int index, final Object value, final DeserializationContext ctxt) throws JsonMappingException {\n")
+                .append("        return value != null ? value : deserializers[index].getNullValue(ctxt);\n")
+                .append("    }\n\n")
+                .append("    public static void addTo(final SimpleModule module) {\n")
+                .append("        module.addDeserializer(").append(targetClassName).append(".class, new ").append(className).append("());\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private static String javaType(final Property property, final Types types) {
+        if (property.isPrimitive() || !property.isGeneric()) {
+            return "TypeFactory.defaultInstance().constructType(" + types.erasure(property.type) + ".class)";
+        }
+        return "TypeFactory.defaultInstance().constructType(new TypeReference<" + property.type + ">() {})";
+    }
+
+    private static String castType(final Property property, final Types types) {
+        return property.isPrimitive() ? types.boxedClass((PrimitiveType) property.type).getQualifiedName().toString() : property.type.toString();
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
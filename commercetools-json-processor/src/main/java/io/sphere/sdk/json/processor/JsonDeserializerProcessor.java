@@ -0,0 +1,259 @@
+package io.sphere.sdk.json.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates streaming Jackson deserializers for the classes annotated with {@code io.sphere.sdk.json.GenerateJsonDeserializer}.
+ *
+ * <p>For each class a deserializer named {@code <class name>JsonDeserializer} is generated into the package of the class.
+ * It reads the fields of a JSON object in a token loop, delegates the values to the deserializers Jackson resolves for the
+ * constructor parameter types and calls the {@code @JsonCreator} constructor. All deserializers are registered by the
+ * generated Jackson module {@value #MODULE_NAME} which is listed in {@code META-INF/services/com.fasterxml.jackson.databind.Module}.</p>
+ *
+ * <p>The processor only accepts classes which Jackson binds completely through the creator, so it rejects classes with
+ * public setters, {@code @JsonAnySetter} methods, ignored creator properties or custom deserializers for single properties.</p>
+ */
+@SupportedAnnotationTypes(JsonDeserializerProcessor.ANNOTATION_NAME)
+public final class JsonDeserializerProcessor extends AbstractProcessor {
+    static final String ANNOTATION_NAME = "io.sphere.sdk.json.GenerateJsonDeserializer";
+    static final String MODULE_NAME = "io.sphere.sdk.json.GeneratedJsonDeserializersModule";
+    private static final String JSON_CREATOR = "com.fasterxml.jackson.annotation.JsonCreator";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final List<String> UNSUPPORTED_ANNOTATIONS = Arrays.asList(
+            "com.fasterxml.jackson.annotation.JsonAnySetter",
+            "com.fasterxml.jackson.annotation.JsonIgnoreProperties",
+            "com.fasterxml.jackson.annotation.JsonSetter",
+            "com.fasterxml.jackson.annotation.JsonTypeInfo",
+            "com.fasterxml.jackson.annotation.JsonUnwrapped",
+            "com.fasterxml.jackson.databind.annotation.JsonDeserialize");
+
+    private final List<String> deserializerNames = new ArrayList<>();
+    private boolean moduleWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (annotations.isEmpty()) {
+            return false;
+        }
+        final List<String> newDeserializerNames = new ArrayList<>();
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                try {
+                    newDeserializerNames.add(generateDeserializer(element));
+                } catch (final InvalidElementException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+                }
+            }
+        }
+        if (!newDeserializerNames.isEmpty()) {
+            if (moduleWritten) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Generated sources must not be annotated with " + ANNOTATION_NAME);
+            } else {
+                deserializerNames.addAll(newDeserializerNames);
+                writeModule();
+                moduleWritten = true;
+            }
+        }
+        return true;
+    }
+
+    private String generateDeserializer(final Element element) {
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new InvalidElementException("Only concrete classes can have a generated deserializer.", element);
+        }
+        final TypeElement type = (TypeElement) element;
+        if (!type.getTypeParameters().isEmpty() || type.getNestingKind() != NestingKind.TOP_LEVEL) {
+            throw new InvalidElementException("Only top level classes without type parameters can have a generated deserializer.", type);
+        }
+        checkNoUnsupportedAnnotations(type);
+        final ExecutableElement creator = findCreator(type);
+        final List<Property> properties = new ArrayList<>();
+        final Set<String> propertyNames = new HashSet<>();
+        for (final VariableElement parameter : creator.getParameters()) {
+            final Property property = new Property(propertyName(type, parameter), parameter.asType());
+            if (!propertyNames.add(property.name)) {
+                throw new InvalidElementException("Duplicate property " + property.name, parameter);
+            }
+            properties.add(property);
+        }
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String className = type.getSimpleName() + "JsonDeserializer";
+        writeSource(packageName, className, DeserializerSource.of(packageName, className, type.getSimpleName().toString(), properties, processingEnv.getTypeUtils()));
+        return packageName + "." + className;
+    }
+
+    private void checkNoUnsupportedAnnotations(final TypeElement type) {
+        for (final Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+            for (final AnnotationMirror annotation : member.getAnnotationMirrors()) {
+                if (UNSUPPORTED_ANNOTATIONS.contains(annotationName(annotation))) {
+                    throw new InvalidElementException("The annotation " + annotation + " is not supported by the generated deserializer.", member);
+                }
+            }
+            if (member.getKind() == ElementKind.METHOD && member.getModifiers().contains(Modifier.PUBLIC)
+                    && !member.getModifiers().contains(Modifier.STATIC) && member.getSimpleName().toString().startsWith("set")
+                    && ((ExecutableElement) member).getParameters().size() == 1) {
+                throw new InvalidElementException("Public setters are not supported by the generated deserializer.", member);
+            }
+        }
+        for (final AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (UNSUPPORTED_ANNOTATIONS.contains(annotationName(annotation))) {
+                throw new InvalidElementException("The annotation " + annotation + " is not supported by the generated deserializer.", type);
+            }
+        }
+    }
+
+    private static ExecutableElement findCreator(final TypeElement type) {
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (findAnnotation(constructor, JSON_CREATOR).isPresent()) {
+                if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                    throw new InvalidElementException("The @JsonCreator constructor must not be private.", constructor);
+                }
+                for (final VariableElement parameter : constructor.getParameters()) {
+                    for (final AnnotationMirror annotation : parameter.getAnnotationMirrors()) {
+                        if (UNSUPPORTED_ANNOTATIONS.contains(annotationName(annotation))) {
+                            throw new InvalidElementException("The annotation " + annotation + " is not supported by the generated deserializer.", parameter);
+                        }
+                    }
+                }
+                return constructor;
+            }
+        }
+        throw new InvalidElementException("No @JsonCreator constructor found.", type);
+    }
+
+    /**
+     * Resolves the JSON property name of a creator parameter like Jackson does with the parameter names module:
+     * the {@code @JsonProperty} value of the parameter, of the field with the same name or of its getter, otherwise the parameter name.
+     */
+    private String propertyName(final TypeElement type, final VariableElement parameter) {
+        final String parameterName = parameter.getSimpleName().toString();
+        final String capitalizedName = Character.toUpperCase(parameterName.charAt(0)) + parameterName.substring(1);
+        final List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(type);
+        final List<Element> candidates = new ArrayList<>();
+        candidates.add(parameter);
+        for (final VariableElement field : ElementFilter.fieldsIn(members)) {
+            if (field.getSimpleName().contentEquals(parameterName)) {
+                candidates.add(field);
+            }
+        }
+        for (final ExecutableElement method : ElementFilter.methodsIn(members)) {
+            final String methodName = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty() && (methodName.equals("get" + capitalizedName) || methodName.equals("is" + capitalizedName))) {
+                candidates.add(method);
+            }
+        }
+        for (final Element candidate : candidates) {
+            if (findAnnotation(candidate, JSON_IGNORE).isPresent()) {
+                throw new InvalidElementException("The creator parameter " + parameterName + " is ignored by " + candidate, parameter);
+            }
+        }
+        for (final Element candidate : candidates) {
+            final Optional<String> explicitName = findAnnotation(candidate, JSON_PROPERTY)
+                    .flatMap(annotation -> annotation.getElementValues().entrySet().stream()
+                            .filter(entry -> entry.getKey().getSimpleName().contentEquals("value"))
+                            .map(entry -> entry.getValue().getValue().toString())
+                            .filter(name -> !name.isEmpty())
+                            .findFirst());
+            if (explicitName.isPresent()) {
+                return explicitName.get();
+            }
+        }
+        return parameterName;
+    }
+
+    private void writeModule() {
+        final int lastDot = MODULE_NAME.lastIndexOf('.');
+        final StringBuilder source = new StringBuilder()
+                .append("package ").append(MODULE_NAME, 0, lastDot).append(";\n\n")
+                .append("import com.fasterxml.jackson.core.Version;\n")
+                .append("import com.fasterxml.jackson.databind.module.SimpleModule;\n\n")
+                .append("import javax.annotation.Generated;\n\n")
+                .append("/**\n * Registers the generated streaming deserializers.\n */\n")
+                .append("@Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(MODULE_NAME.substring(lastDot + 1)).append(" extends SimpleModule {\n")
+                .append("    private static final long serialVersionUID = 1L;\n\n")
+                .append("    public ").append(MODULE_NAME.substring(lastDot + 1)).append("() {\n")
+                .append("        super(\"").append(MODULE_NAME.substring(lastDot + 1)).append("\", Version.unknownVersion());\n");
+        for (final String deserializerName : deserializerNames) {
+            source.append("        ").append(deserializerName).append(".addTo(this);\n");
+        }
+        source.append("    }\n}\n");
+        writeSource(MODULE_NAME.substring(0, lastDot), MODULE_NAME.substring(lastDot + 1), source.toString());
+        try {
+            final FileObject services = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/com.fasterxml.jackson.databind.Module");
+            try (final Writer writer = services.openWriter()) {
+                writer.write(MODULE_NAME + "\n");
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeSource(final String packageName, final String className, final String source) {
+        try (final Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + className).openWriter()) {
+            writer.write(source);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Optional<? extends AnnotationMirror> findAnnotation(final Element element, final String annotationName) {
+        return element.getAnnotationMirrors().stream()
+                .filter(annotation -> annotationName(annotation).equals(annotationName))
+                .findFirst();
+    }
+
+    private static String annotationName(final AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    static final class Property {
+        final String name;
+        final TypeMirror type;
+
+        private Property(final String name, final TypeMirror type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        boolean isPrimitive() {
+            return type.getKind().isPrimitive();
+        }
+
+        boolean isGeneric() {
+            return type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty();
+        }
+    }
+
+    private static final class InvalidElementException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final transient Element element;
+
+        private InvalidElementException(final String message, final Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
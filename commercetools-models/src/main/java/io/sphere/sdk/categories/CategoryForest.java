@@ -0,0 +1,274 @@
+package io.sphere.sdk.categories;
+
+import io.sphere.sdk.models.Reference;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+
+/**
+ * Array based storage of all categories of a {@link CategoryTree}.
+ *
+ * <p>Each category has an index which is its position in the flat list. The parent and the children are stored as indices,
+ * the children of all categories share one array. The categories are numbered in depth first pre-order, so the descendants
+ * of a category occupy the positions from {@link #position(int)} (inclusive) to {@link #end(int)} (exclusive), which makes
+ * ancestor tests and subtrees constant time operations. Categories whose parent is not part of the list start a tree of their own
+ * in the numbering, but they are not roots.</p>
+ *
+ * <p>Instances are immutable and shared by a tree and all its subtrees.</p>
+ */
+final class CategoryForest {
+    static final int ABSENT = -1;
+
+    private final Category[] categories;
+    private final int[] parents;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final Map<String, List<Category>> childrenByAbsentParentId;
+    private final int[] positions;
+    private final int[] ends;
+    private final int[] preOrder;
+    private final int[] tops;
+    private final Map<String, Integer> indicesById;
+    private final Map<String, Integer> indicesByExternalId;
+    private final Map<Locale, Map<String, Integer>> indicesBySlug;
+
+    private CategoryForest(final Category[] categories, final boolean parallel) {
+        final int size = categories.length;
+        this.categories = categories;
+        this.indicesById = parallel ? new ConcurrentHashMap<>(size) : new HashMap<>(size * 4 / 3 + 1);
+        this.parents = new int[size];
+        this.childOffsets = new int[size + 1];
+        this.children = new int[size];
+        this.childrenByAbsentParentId = new HashMap<>();
+        this.positions = new int[size];
+        this.ends = new int[size];
+        this.preOrder = new int[size];
+        this.tops = new int[size];
+        this.indicesByExternalId = parallel ? new ConcurrentHashMap<>() : new HashMap<>();
+        this.indicesBySlug = parallel ? new ConcurrentHashMap<>() : new HashMap<>();
+        indexIds(parallel);
+        linkParents(parallel);
+        numberInPreOrder();
+        indexExternalIdsAndSlugs(parallel);
+    }
+
+    private void indexIds(final boolean parallel) {
+        indices(parallel).forEach(i -> {
+            if (indicesById.putIfAbsent(categories[i].getId(), i) != null) {
+                throw new IllegalStateException(format("Duplicate key %s", categories[i].getId()));
+            }
+        });
+    }
+
+    private void linkParents(final boolean parallel) {
+        indices(parallel).forEach(i -> {
+            final Reference<Category> parent = categories[i].getParent();
+            final Integer parentIndex = parent != null ? indicesById.get(parent.getId()) : null;
+            parents[i] = parentIndex != null ? parentIndex : ABSENT;
+        });
+        for (int i = 0; i < categories.length; i++) {
+            final Reference<Category> parent = categories[i].getParent();
+            if (parents[i] != ABSENT) {
+                childOffsets[parents[i] + 1]++;
+            } else if (parent != null) {
+                childrenByAbsentParentId.computeIfAbsent(parent.getId(), id -> new ArrayList<>()).add(categories[i]);
+            }
+        }
+        for (int i = 0; i < categories.length; i++) {
+            childOffsets[i + 1] += childOffsets[i];
+        }
+        final int[] nextChild = Arrays.copyOf(childOffsets, categories.length);
+        for (int i = 0; i < categories.length; i++) {
+            if (parents[i] != ABSENT) {
+                children[nextChild[parents[i]]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Numbers the categories with an iterative depth first search, starting with the categories without a parent in the list.
+     * Categories which are not reached, since their parents form a cycle, are numbered afterwards.
+     */
+    private void numberInPreOrder() {
+        Arrays.fill(positions, ABSENT);
+        final int[] stack = new int[categories.length];
+        final int[] nextChild = Arrays.copyOf(childOffsets, categories.length);
+        int position = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int start = 0; start < categories.length; start++) {
+                if (positions[start] != ABSENT || (pass == 0 && parents[start] != ABSENT)) {
+                    continue;
+                }
+                int stackSize = 0;
+                tops[start] = start;
+                positions[start] = position;
+                preOrder[position++] = start;
+                stack[stackSize++] = start;
+                while (stackSize > 0) {
+                    final int node = stack[stackSize - 1];
+                    if (nextChild[node] < childOffsets[node + 1]) {
+                        final int child = children[nextChild[node]++];
+                        if (positions[child] == ABSENT) {
+                            tops[child] = tops[node];
+                            positions[child] = position;
+                            preOrder[position++] = child;
+                            stack[stackSize++] = child;
+                        }
+                    } else {
+                        ends[node] = position;
+                        stackSize--;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the external IDs and the slugs. Like in a sequential pass the first category wins for an external ID and
+     * the last category wins for a slug, independent of the order in which the categories are processed.
+     */
+    private void indexExternalIdsAndSlugs(final boolean parallel) {
+        indices(parallel).forEach(i -> {
+            final Category category = categories[i];
+            if (category.getExternalId() != null) {
+                indicesByExternalId.merge(category.getExternalId(), i, Math::min);
+            }
+            for (final Locale locale : category.getSlug().getLocales()) {
+                indicesBySlug.computeIfAbsent(locale, l -> parallel ? new ConcurrentHashMap<>() : new HashMap<>())
+                        .merge(category.getSlug().get(locale), i, Math::max);
+            }
+        });
+    }
+
+    private IntStream indices(final boolean parallel) {
+        final IntStream indices = IntStream.range(0, categories.length);
+        return parallel ? indices.parallel() : indices;
+    }
+
+    int size() {
+        return categories.length;
+    }
+
+    Category category(final int index) {
+        return categories[index];
+    }
+
+    int indexOf(final String id) {
+        return orAbsent(indicesById.get(id));
+    }
+
+    int indexOfExternalId(final String externalId) {
+        return orAbsent(indicesByExternalId.get(externalId));
+    }
+
+    int indexOfSlug(final Locale locale, final String slug) {
+        final Map<String, Integer> indicesForLocale = indicesBySlug.get(locale);
+        return indicesForLocale != null ? orAbsent(indicesForLocale.get(slug)) : ABSENT;
+    }
+
+    int parent(final int index) {
+        return parents[index];
+    }
+
+    /**
+     * Gets the index of the topmost ancestor of a category which is part of the list.
+     *
+     * @param index the index of the category
+     * @return the index of the ancestor or the index itself
+     */
+    int top(final int index) {
+        return tops[index];
+    }
+
+    int position(final int index) {
+        return positions[index];
+    }
+
+    int end(final int index) {
+        return ends[index];
+    }
+
+    boolean isDescendant(final int index, final int ancestorIndex) {
+        return positions[ancestorIndex] < positions[index] && positions[index] < ends[ancestorIndex];
+    }
+
+    List<Category> asList() {
+        return Collections.unmodifiableList(Arrays.asList(categories));
+    }
+
+    List<Category> children(final int index) {
+        return new CategoryList(categories, children, childOffsets[index], childOffsets[index + 1]);
+    }
+
+    List<Category> childrenOf(final String parentId) {
+        final int index = indexOf(parentId);
+        return index != ABSENT ? children(index) : childrenByAbsentParentId.getOrDefault(parentId, Collections.emptyList());
+    }
+
+    /**
+     * Gets a category and all its descendants in pre-order.
+     *
+     * @param index the index of the category
+     * @return list backed by this forest
+     */
+    List<Category> subtree(final int index) {
+        return new CategoryList(categories, preOrder, positions[index], ends[index]);
+    }
+
+    private static int orAbsent(@Nullable final Integer index) {
+        return index != null ? index : ABSENT;
+    }
+
+    static CategoryForest of(final List<Category> allCategoriesAsFlatList) {
+        return new CategoryForest(allCategoriesAsFlatList.toArray(new Category[allCategoriesAsFlatList.size()]), false);
+    }
+
+    /**
+     * Creates a forest and builds the indexes of the categories with the tasks of a fork/join pool.
+     * The numbering of the categories is still done in one pass.
+     *
+     * @param allCategoriesAsFlatList the categories
+     * @param forkJoinPool the pool which executes the tasks
+     * @return forest
+     */
+    static CategoryForest of(final List<Category> allCategoriesAsFlatList, final ForkJoinPool forkJoinPool) {
+        final Category[] categories = allCategoriesAsFlatList.toArray(new Category[allCategoriesAsFlatList.size()]);
+        return forkJoinPool.invoke(ForkJoinTask.adapt(() -> new CategoryForest(categories, true)));
+    }
+
+    /**
+     * Unmodifiable list of the categories at a range of an index array.
+     */
+    private static final class CategoryList extends AbstractList<Category> implements RandomAccess {
+        private final Category[] categories;
+        private final int[] indices;
+        private final int from;
+        private final int to;
+
+        private CategoryList(final Category[] categories, final int[] indices, final int from, final int to) {
+            this.categories = categories;
+            this.indices = indices;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Category get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(format("Index: %d, Size: %d", index, size()));
+            }
+            return categories[indices[from + index]];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
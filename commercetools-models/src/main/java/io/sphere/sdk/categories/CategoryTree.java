@@ -1,8 +1,10 @@
 package io.sphere.sdk.categories;
 
 import io.sphere.sdk.models.Identifiable;
+import io.sphere.sdk.models.LocaleFallbackChain;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Objects.requireNonNull;
 
@@ -56,6 +58,24 @@ public interface CategoryTree {
      */
     Optional<Category> findBySlug(Locale locale, String slug);
 
+    /**
+     * Finds a category by the slug in the first locale of a fallback chain which has a category with this slug.
+     *
+     * @param localeFallbackChain the locales to try out
+     * @param slug the slug
+     * @return a category matching the criteria
+     */
+    default Optional<Category> findBySlug(final LocaleFallbackChain localeFallbackChain, final String slug) {
+        final List<Locale> locales = localeFallbackChain.getFallbackLocales();
+        for (int i = 0; i < locales.size(); i++) {
+            final Optional<Category> category = findBySlug(locales.get(i), slug);
+            if (category.isPresent()) {
+                return category;
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * All categories as a flat list.
      *
@@ -131,6 +151,25 @@ public interface CategoryTree {
      */
     List<Category> getSubtreeRoots();
 
+    /**
+     * Checks if a category is part of this tree and a direct or indirect child of another category.
+     *
+     * <p>Both categories must be part of this tree and the ancestor must be reached by following the parent references
+     * of the category within this tree. The ancestors of {@link Category#getAncestors()} are not used, so if a category
+     * between them is not part of the tree, the category is not a descendant.</p>
+     *
+     * <p>The examples use the <a href="https://gist.github.com/schleichardt/7f0d023b815206cb2a57" target="_blank">ABC example set</a>.</p>
+     *
+     * {@include.example io.sphere.sdk.categories.CategoryTreeTest#isDescendant()}
+     *
+     * @param category the category which might be the descendant
+     * @param ancestor the category which might be the ancestor
+     * @return true if ancestor is reached by the parent references of category within this tree
+     */
+    default boolean isDescendant(final Identifiable<Category> category, final Identifiable<Category> ancestor) {
+        return CategoryTreeUtils.isDescendant(this, category, ancestor, getAllAsFlatList().size());
+    }
+
     /**
      * Creates a category tree from a flat list of categories.
      *
@@ -141,5 +180,18 @@ public interface CategoryTree {
         requireNonNull(allCategoriesAsFlatList);
         return CategoryTreeFactory.of().create(allCategoriesAsFlatList);
     }
-}
 
+    /**
+     * Creates a category tree from a flat list of categories and builds the indexes with the tasks of a fork/join pool.
+     * The result is the same as with {@link #of(List)}, but for lists with tens of thousands of categories it is created faster.
+     *
+     * @param allCategoriesAsFlatList all categories as flat list.
+     * @param forkJoinPool the pool which executes the tasks, for example {@link ForkJoinPool#commonPool()}
+     * @return the created category tree.
+     */
+    static CategoryTree of(final List<Category> allCategoriesAsFlatList, final ForkJoinPool forkJoinPool) {
+        requireNonNull(allCategoriesAsFlatList);
+        requireNonNull(forkJoinPool);
+        return CategoryTreeFactory.of().create(allCategoriesAsFlatList, forkJoinPool);
+    }
+}
@@ -1,15 +1,12 @@
 package io.sphere.sdk.categories;
 
 import io.sphere.sdk.models.Identifiable;
-import io.sphere.sdk.models.LocalizedStringEntry;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.concurrent.ForkJoinPool;
 
+import static io.sphere.sdk.categories.CategoryForest.ABSENT;
 import static io.sphere.sdk.categories.CategoryTreeUtils.getCategoryOrThrow;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 
 final class CategoryTreeFactory {
 
@@ -21,83 +18,49 @@ final class CategoryTreeFactory {
     }
 
     public CategoryTree create(final List<Category> allCategoriesAsFlatList) {
-        final List<Category> roots = findRoots(allCategoriesAsFlatList);
-        return create(allCategoriesAsFlatList, roots, roots);
+        return new CategoryTreeImpl(CategoryForest.of(allCategoriesAsFlatList));
     }
 
-    public CategoryTree create(final List<Category> allCategoriesAsFlatList, final List<Category> roots, final List<Category> subtreeRoots) {
-        final List<Category> allAsFlatList = allCategoriesAsFlatList;
-        final Map<LocalizedStringEntry, Category> categoriesByLocaleAndSlug = getLocalizedStringEntryCategoryMap(allCategoriesAsFlatList);
-        final Map<String, Category> categoriesById = allCategoriesAsFlatList.stream().collect(toMap(Category::getId, Function.<Category>identity()));
-        final Map<String, List<Category>> childrenByParentId = getChildrenByParentIdMap(allCategoriesAsFlatList);
-        return new CategoryTreeImpl(roots, allAsFlatList, categoriesByLocaleAndSlug, categoriesById, childrenByParentId, subtreeRoots);
+    public CategoryTree create(final List<Category> allCategoriesAsFlatList, final ForkJoinPool forkJoinPool) {
+        return new CategoryTreeImpl(CategoryForest.of(allCategoriesAsFlatList, forkJoinPool));
     }
 
-    private Map<String, List<Category>> getChildrenByParentIdMap(final List<Category> allCategoriesAsFlatList) {
-        final Map<String, List<Category>> childrenByParentId = new HashMap<>();
-        allCategoriesAsFlatList.forEach(category ->
-            Optional.ofNullable(category.getParent()).ifPresent(parentReference -> {
-                final String parentId = parentReference.getId();
-                final List<Category> entries = childrenByParentId.getOrDefault(parentId, new LinkedList<>());
-                entries.add(category);
-                childrenByParentId.put(parentId, entries);
-            })
-        );
-        return childrenByParentId;
-    }
-
-    private Map<LocalizedStringEntry, Category> getLocalizedStringEntryCategoryMap(final List<Category> allCategoriesAsFlatList) {
-        final Map<LocalizedStringEntry, Category> categoriesByLocaleAndSlug = new HashMap<>();
-        allCategoriesAsFlatList.forEach(category -> {
-            final Set<Locale> localesForTheCategory = category.getSlug().getLocales();
-            localesForTheCategory.forEach(locale -> {
-                final LocalizedStringEntry stringsEntry = LocalizedStringEntry.of(locale, category.getSlug().get(locale));
-                categoriesByLocaleAndSlug.put(stringsEntry, category);
-            });
-        });
-        return categoriesByLocaleAndSlug;
-    }
-
-    private List<Category> findRoots(final List<Category> allCategoriesAsFlatList) {
-        final Predicate<Category> isRootCategory = c -> c.getParent() == null;
-        return allCategoriesAsFlatList.parallelStream().filter(isRootCategory).collect(toList());
-    }
-
-    private List<Category> getSubtreeAsFlatList(final CategoryTree categoryTree, final Collection<? extends Identifiable<Category>> parentCategories) {
-        final List<Category> categories = new ArrayList<>();
-        parentCategories.forEach(parent -> {
-            categories.add(getCategoryOrThrow(parent, categoryTree));
-            final List<Category> children = categoryTree.findChildren(parent);
-            categories.addAll(getSubtreeAsFlatList(categoryTree, children));
-        });
-        return categories;
+    public CategoryTree createSubtree(final CategoryTreeImpl categoryTree, final Collection<? extends Identifiable<Category>> subtreeRoots) {
+        final CategoryForest forest = categoryTree.forest;
+        final int[] subtreeRootIndices = subtreeRoots.stream()
+                .mapToInt(identifiable -> forest.indexOf(getCategoryOrThrow(identifiable, categoryTree).getId()))
+                .toArray();
+        final int[] enclosingRootIndices = findEnclosingSubtreeRoots(forest, subtreeRootIndices);
+        for (int i = 0; i < subtreeRootIndices.length; i++) {
+            if (enclosingRootIndices[i] != ABSENT) {
+                throw new IllegalArgumentException(String.format("category of ID [%s] cannot be subtree root and descendant of [%s]",
+                        forest.category(subtreeRootIndices[i]).getId(), forest.category(enclosingRootIndices[i]).getId()));
+            }
+        }
+        return new CategoryTreeImpl(forest, subtreeRootIndices);
     }
 
-    public CategoryTree createSubtree(final CategoryTree categoryTree, final Collection<? extends Identifiable<Category>> subtreeRoots) {
-        final List<Category> subtreeRootsCategories = subtreeRoots.stream()
-                .map(identifiable -> getCategoryOrThrow(identifiable, categoryTree))
-                .collect(toList());
-
-        final List<String> subtreeRootIds = subtreeRoots.parallelStream().map(Identifiable::getId).collect(toList());
-
-        subtreeRootsCategories.forEach(subtreeRoot -> {
-            final Optional<String> rootAncestorOptional = subtreeRoot.getAncestors()
-                    .stream()
-                    .map(x -> x.getId())
-                    .filter(ancestorId -> subtreeRootIds.contains(ancestorId))
-                    .findFirst();
-            if (rootAncestorOptional.isPresent()) {
-                throw new IllegalArgumentException(String.format("category of ID [%s] cannot be subtree root and descendant of [%s]", subtreeRoot.getId(), rootAncestorOptional.get()));
+    /**
+     * Finds for each subtree root the topmost other subtree root which is an ancestor of it
+     * by visiting the subtree roots in pre-order.
+     */
+    private static int[] findEnclosingSubtreeRoots(final CategoryForest forest, final int[] subtreeRootIndices) {
+        final Integer[] order = new Integer[subtreeRootIndices.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> forest.position(subtreeRootIndices[i])));
+        final int[] enclosingRootIndices = new int[subtreeRootIndices.length];
+        Arrays.fill(enclosingRootIndices, ABSENT);
+        int enclosing = ABSENT;
+        for (final int i : order) {
+            final int index = subtreeRootIndices[i];
+            if (enclosing != ABSENT && forest.isDescendant(index, enclosing)) {
+                enclosingRootIndices[i] = enclosing;
+            } else if (index != enclosing) {
+                enclosing = index;
             }
-        });
-
-        final List<Category> includedCategories = new LinkedList<>();
-        subtreeRootsCategories.forEach(parentCategory -> {
-            includedCategories.add(parentCategory);
-            final List<Category> children = categoryTree.findChildren(parentCategory);
-            includedCategories.addAll(getSubtreeAsFlatList(categoryTree, children));
-        });
-        final List<Category> roots = findRoots(includedCategories);
-        return create(includedCategories, roots, subtreeRootsCategories);
+        }
+        return enclosingRootIndices;
     }
 }
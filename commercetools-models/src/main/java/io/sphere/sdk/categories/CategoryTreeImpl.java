@@ -2,33 +2,54 @@ package io.sphere.sdk.categories;
 
 import io.sphere.sdk.models.Base;
 import io.sphere.sdk.models.Identifiable;
-import io.sphere.sdk.models.LocalizedStringEntry;
 
+import javax.annotation.Nullable;
 import java.util.*;
 
-import static io.sphere.sdk.utils.SphereInternalUtils.immutableCopyOf;
+import static io.sphere.sdk.categories.CategoryForest.ABSENT;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
+/**
+ * Category tree backed by a {@link CategoryForest}. A subtree shares the forest of its tree and only stores the
+ * pre-order ranges of its subtree roots.
+ */
 class CategoryTreeImpl extends Base implements CategoryTree {
+    final CategoryForest forest;
     private final List<Category> roots;
     private final List<Category> subtreeRoots;
     private final List<Category> allAsFlatList;
-    final Map<LocalizedStringEntry, Category> categoriesByLocaleAndSlug;
-    final Map<String, Category> categoriesById;
-    private final Map<String, List<Category>> childrenByParentId;
-
-    CategoryTreeImpl(final List<Category> roots,
-                     final List<Category> allAsFlatList,
-                     final Map<LocalizedStringEntry, Category> categoriesByLocaleAndSlug,
-                     final Map<String, Category> categoriesById,
-                     final Map<String, List<Category>> childrenByParentId, final List<Category> subtreeRoots) {
-        this.childrenByParentId = childrenByParentId;
-        this.roots = immutableCopyOf(roots);
-        this.subtreeRoots = roots == subtreeRoots ? this.roots : immutableCopyOf(subtreeRoots);
-        this.allAsFlatList = immutableCopyOf(allAsFlatList);
-        this.categoriesByLocaleAndSlug = immutableCopyOf(categoriesByLocaleAndSlug);
-        this.categoriesById = immutableCopyOf(categoriesById);
+    @Nullable
+    private final int[] rangeStarts;
+    @Nullable
+    private final int[] rangeEnds;
+
+    CategoryTreeImpl(final CategoryForest forest) {
+        this.forest = forest;
+        this.allAsFlatList = forest.asList();
+        this.roots = Collections.unmodifiableList(allAsFlatList.stream().filter(c -> c.getParent() == null).collect(toList()));
+        this.subtreeRoots = roots;
+        this.rangeStarts = null;
+        this.rangeEnds = null;
+    }
+
+    CategoryTreeImpl(final CategoryForest forest, final int[] subtreeRootIndices) {
+        this.forest = forest;
+        final List<Category> subtreeRoots = new ArrayList<>(subtreeRootIndices.length);
+        final List<List<Category>> subtrees = new ArrayList<>(subtreeRootIndices.length);
+        final int[] sortedIndices = Arrays.stream(subtreeRootIndices).boxed()
+                .sorted(Comparator.comparingInt(forest::position))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        for (final int index : subtreeRootIndices) {
+            subtreeRoots.add(forest.category(index));
+            subtrees.add(forest.subtree(index));
+        }
+        this.subtreeRoots = Collections.unmodifiableList(subtreeRoots);
+        this.roots = Collections.unmodifiableList(subtreeRoots.stream().filter(c -> c.getParent() == null).collect(toList()));
+        this.allAsFlatList = new ConcatenatedList(subtrees);
+        this.rangeStarts = Arrays.stream(sortedIndices).map(forest::position).toArray();
+        this.rangeEnds = Arrays.stream(sortedIndices).map(forest::end).toArray();
     }
 
     @Override
@@ -38,19 +59,17 @@ class CategoryTreeImpl extends Base implements CategoryTree {
 
     @Override
     public Optional<Category> findById(final String id) {
-        return Optional.ofNullable(categoriesById.get(id));
+        return find(forest.indexOf(id));
     }
 
     @Override
     public Optional<Category> findByExternalId(final String externalId) {
-        return getAllAsFlatList().parallelStream()
-                .filter(cat -> Optional.ofNullable(cat.getExternalId()).map(extIdElement -> extIdElement.equals(externalId)).orElse(false))
-                .findAny();//should be okay, since the externalId should be unique
+        return find(forest.indexOfExternalId(externalId));
     }
 
     @Override
     public Optional<Category> findBySlug(final Locale locale, final String slug) {
-        return Optional.ofNullable(categoriesByLocaleAndSlug.get(LocalizedStringEntry.of(locale, slug)));
+        return find(forest.indexOfSlug(locale, slug));
     }
 
     @Override
@@ -61,32 +80,24 @@ class CategoryTreeImpl extends Base implements CategoryTree {
     @Override
     public List<Category> findChildren(final Identifiable<Category> category) {
         final String categoryId = category.getId();
-        return childrenByParentId.getOrDefault(categoryId, Collections.emptyList());
+        final List<Category> children = forest.childrenOf(categoryId);
+        return rangeStarts == null || contains(forest.indexOf(categoryId))
+                ? children
+                : children.stream().filter(child -> contains(forest.indexOf(child.getId()))).collect(toList());
     }
 
     @Override
     public Category getRootAncestor(final Identifiable<Category> category) {
         requireNonNull(category);
         final Category theCategory = CategoryTreeUtils.getCategoryOrThrow(category, this);
-        return theCategory
-                .getAncestors().stream().findFirst()
-                .flatMap(root -> findById(root.getId()))
-                .orElse(theCategory);
+        final int top = forest.top(forest.indexOf(theCategory.getId()));
+        final Category rootAncestor = forest.category(top);
+        return rootAncestor.getParent() == null && contains(top) ? rootAncestor : theCategory;
     }
 
     @Override
     public List<Category> findSiblings(final Collection<? extends Identifiable<Category>> categoryIdentifiables) {
-        return categoryIdentifiables.stream()
-                .flatMap(category -> getSiblings(CategoryTreeUtils.getCategoryOrThrow(category, this)).stream())
-                .distinct()
-                .filter(sibling -> !categoryIdentifiables.stream().anyMatch(c -> sibling.getId().equals(c.getId())))
-                .collect(toList());
-    }
-
-    private List<Category> getSiblings(final Category category) {
-        return Optional.ofNullable(category.getParent())
-                .map(this::findChildren)
-                .orElseGet(this::getRoots);
+        return CategoryTreeUtils.findSiblings(this, categoryIdentifiables);
     }
 
     @Override
@@ -99,4 +110,78 @@ class CategoryTreeImpl extends Base implements CategoryTree {
     public List<Category> getSubtreeRoots() {
         return subtreeRoots;
     }
+
+    @Override
+    public boolean isDescendant(final Identifiable<Category> category, final Identifiable<Category> ancestor) {
+        final int index = forest.indexOf(category.getId());
+        final int ancestorIndex = forest.indexOf(ancestor.getId());
+        //the subtrees contain whole subtrees of the forest, so the parent chain between contained categories is contained too
+        return contains(index) && contains(ancestorIndex) && forest.isDescendant(index, ancestorIndex);
+    }
+
+    /**
+     * Trees are equal if they contain the same categories in the same order and have the same subtree roots,
+     * regardless of how the forest is shared.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        return CategoryTreeUtils.treeEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return CategoryTreeUtils.treeHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return CategoryTreeUtils.treeToString(this);
+    }
+
+    private Optional<Category> find(final int index) {
+        return contains(index) ? Optional.of(forest.category(index)) : Optional.empty();
+    }
+
+    private boolean contains(final int index) {
+        if (index == ABSENT) {
+            return false;
+        } else if (rangeStarts == null || rangeEnds == null) {
+            return true;
+        }
+        final int position = forest.position(index);
+        final int searchResult = Arrays.binarySearch(rangeStarts, position);
+        final int range = searchResult >= 0 ? searchResult : -searchResult - 2;
+        return range >= 0 && position < rangeEnds[range];
+    }
+
+    /**
+     * Unmodifiable view of the subtrees of the subtree roots.
+     */
+    private static final class ConcatenatedList extends AbstractList<Category> implements RandomAccess {
+        private final List<List<Category>> parts;
+        private final int[] offsets;
+
+        private ConcatenatedList(final List<List<Category>> parts) {
+            this.parts = parts;
+            this.offsets = new int[parts.size() + 1];
+            for (int i = 0; i < parts.size(); i++) {
+                offsets[i + 1] = offsets[i] + parts.get(i).size();
+            }
+        }
+
+        @Override
+        public Category get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size()));
+            }
+            final int searchResult = Arrays.binarySearch(offsets, index);
+            final int part = searchResult >= 0 ? searchResult : -searchResult - 2;
+            return parts.get(part).get(index - offsets[part]);
+        }
+
+        @Override
+        public int size() {
+            return offsets[parts.size()];
+        }
+    }
 }
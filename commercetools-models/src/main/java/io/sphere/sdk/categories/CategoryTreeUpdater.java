@@ -0,0 +1,138 @@
+package io.sphere.sdk.categories;
+
+import io.sphere.sdk.categories.messages.CategoryCreatedMessage;
+import io.sphere.sdk.categories.messages.CategorySlugChangedMessage;
+import io.sphere.sdk.messages.Message;
+import io.sphere.sdk.models.Identifiable;
+import io.sphere.sdk.models.LocalizedString;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps a {@link CategoryTree} up to date with single category changes instead of rebuilding it from all categories.
+ *
+ * <p>The updater applies created, updated, moved and deleted categories, for example from the results of update and delete
+ * commands or from category messages. Each change publishes a new immutable tree which shares the unchanged categories and
+ * indexes with the previous version, so readers of {@link #getCategoryTree()} are never blocked and old versions stay valid.
+ * Changes are applied one at a time.</p>
+ *
+ * <p>Lookups in the published trees cost the same as in a tree created with {@link CategoryTree#of(List)},
+ * {@link CategoryTree#getRootAncestor(Identifiable)} and {@link CategoryTree#isDescendant(Identifiable, Identifiable)}
+ * follow the parent references. After a number of changes which grows with the square root of the number of categories
+ * the changes are merged into a new tree.</p>
+ *
+ * {@include.example io.sphere.sdk.categories.CategoryTreeUpdaterTest#moveCategory()}
+ */
+public final class CategoryTreeUpdater {
+    private volatile LayeredCategoryTree categoryTree;
+
+    private CategoryTreeUpdater(final LayeredCategoryTree categoryTree) {
+        this.categoryTree = categoryTree;
+    }
+
+    /**
+     * Gets the latest version of the category tree.
+     *
+     * @return category tree
+     */
+    public CategoryTree getCategoryTree() {
+        return categoryTree;
+    }
+
+    /**
+     * Adds a new category or replaces a category with an older version. The category is ignored if the tree contains the same or a newer version of it.
+     *
+     * @param category the created, updated or moved category
+     * @return the latest version of the category tree
+     */
+    public synchronized CategoryTree apply(final Category category) {
+        requireNonNull(category);
+        final Optional<Category> currentCategory = categoryTree.findById(category.getId());
+        if (!currentCategory.isPresent() || isNewer(category.getVersion(), currentCategory.get().getVersion())) {
+            categoryTree = categoryTree.withCategory(category);
+        }
+        return categoryTree;
+    }
+
+    /**
+     * Removes a category. Its children keep their parent reference, like in a tree created with {@link CategoryTree#of(List)}
+     * from a list without the removed category.
+     *
+     * @param category the deleted category
+     * @return the latest version of the category tree
+     */
+    public synchronized CategoryTree remove(final Identifiable<Category> category) {
+        requireNonNull(category);
+        if (categoryTree.findById(category.getId()).isPresent()) {
+            categoryTree = categoryTree.withoutCategory(category.getId());
+        }
+        return categoryTree;
+    }
+
+    /**
+     * Applies a category message. Supported are {@link CategoryCreatedMessage} and {@link CategorySlugChangedMessage},
+     * as typed messages or as generic messages with the corresponding type. Other messages are ignored.
+     *
+     * @param message the message to apply
+     * @return the latest version of the category tree
+     */
+    public synchronized CategoryTree applyMessage(final Message message) {
+        requireNonNull(message);
+        if (CategoryCreatedMessage.MESSAGE_TYPE.equals(message.getType())) {
+            apply(typed(message, CategoryCreatedMessage.class).getCategory());
+        } else if (CategorySlugChangedMessage.MESSAGE_TYPE.equals(message.getType())) {
+            final CategorySlugChangedMessage slugChangedMessage = typed(message, CategorySlugChangedMessage.class);
+            categoryTree.findById(slugChangedMessage.getResource().getId())
+                    .filter(category -> isNewer(slugChangedMessage.getResourceVersion(), category.getVersion()))
+                    .ifPresent(category -> apply(new SlugChangedCategory(category, slugChangedMessage)));
+        }
+        return categoryTree;
+    }
+
+    private static <T extends Message> T typed(final Message message, final Class<T> messageClass) {
+        return messageClass.isInstance(message) ? messageClass.cast(message) : message.as(messageClass);
+    }
+
+    private static boolean isNewer(final Long version, final Long currentVersion) {
+        return version == null || currentVersion == null || version > currentVersion;
+    }
+
+    /**
+     * Creates an updater for all categories of a project.
+     *
+     * @param allCategoriesAsFlatList all categories as flat list
+     * @return updater
+     */
+    public static CategoryTreeUpdater of(final List<Category> allCategoriesAsFlatList) {
+        requireNonNull(allCategoriesAsFlatList);
+        return new CategoryTreeUpdater(LayeredCategoryTree.of(new CategoryTreeImpl(CategoryForest.of(allCategoriesAsFlatList))));
+    }
+
+    private static final class SlugChangedCategory extends CategoryWrapper {
+        private final CategorySlugChangedMessage message;
+
+        private SlugChangedCategory(final Category delegate, final CategorySlugChangedMessage message) {
+            super(delegate instanceof SlugChangedCategory ? ((SlugChangedCategory) delegate).delegate : delegate);
+            this.message = message;
+        }
+
+        @Override
+        public Long getVersion() {
+            return message.getResourceVersion();
+        }
+
+        @Override
+        public ZonedDateTime getLastModifiedAt() {
+            return message.getCreatedAt();
+        }
+
+        @Override
+        public LocalizedString getSlug() {
+            return message.getSlug();
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package io.sphere.sdk.categories;
 
 import io.sphere.sdk.models.Identifiable;
+import io.sphere.sdk.models.Reference;
+import io.sphere.sdk.models.SdkDefaults;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import javax.annotation.Nullable;
+import java.util.*;
 
 import static java.lang.String.format;
 
@@ -12,4 +18,71 @@ final class CategoryTreeUtils {
         return categoryTree.findById(category.getId())
                 .orElseThrow(() -> new IllegalArgumentException(format("%s is not part of the category tree", category)));
     }
+
+    /**
+     * Follows the parent references of a category within the tree, see {@link CategoryTree#isDescendant(Identifiable, Identifiable)}.
+     * The depth is limited to the size of the tree in case the parent references contain a cycle.
+     */
+    static boolean isDescendant(final CategoryTree categoryTree, final Identifiable<Category> category,
+                                final Identifiable<Category> ancestor, final int maxDepth) {
+        if (!categoryTree.findById(ancestor.getId()).isPresent()) {
+            return false;
+        }
+        Optional<Category> current = categoryTree.findById(category.getId());
+        for (int depth = 0; current.isPresent() && depth < maxDepth; depth++) {
+            final Reference<Category> parent = current.get().getParent();
+            if (parent == null) {
+                return false;
+            } else if (parent.getId().equals(ancestor.getId())) {
+                return true;
+            }
+            current = categoryTree.findById(parent.getId());
+        }
+        return false;
+    }
+
+    static List<Category> findSiblings(final CategoryTree categoryTree, final Collection<? extends Identifiable<Category>> categoryIdentifiables) {
+        final Set<String> seenIds = new HashSet<>();
+        categoryIdentifiables.forEach(category -> seenIds.add(category.getId()));
+        final List<Category> siblings = new ArrayList<>();
+        for (final Identifiable<Category> category : categoryIdentifiables) {
+            final Category theCategory = getCategoryOrThrow(category, categoryTree);
+            final List<Category> candidates = Optional.ofNullable(theCategory.getParent())
+                    .map(categoryTree::findChildren)
+                    .orElseGet(categoryTree::getRoots);
+            for (final Category sibling : candidates) {
+                if (seenIds.add(sibling.getId())) {
+                    siblings.add(sibling);
+                }
+            }
+        }
+        return siblings;
+    }
+
+    /**
+     * Compares the trees of this package by their flat lists and subtree roots, so a {@link LayeredCategoryTree}
+     * equals a {@link CategoryTreeImpl} with the same categories.
+     */
+    static boolean treeEquals(final CategoryTree categoryTree, @Nullable final Object o) {
+        if (categoryTree == o) {
+            return true;
+        }
+        if (!(o instanceof CategoryTreeImpl || o instanceof LayeredCategoryTree)) {
+            return false;
+        }
+        final CategoryTree that = (CategoryTree) o;
+        return categoryTree.getAllAsFlatList().equals(that.getAllAsFlatList()) && categoryTree.getSubtreeRoots().equals(that.getSubtreeRoots());
+    }
+
+    static int treeHashCode(final CategoryTree categoryTree) {
+        return 31 * categoryTree.getAllAsFlatList().hashCode() + categoryTree.getSubtreeRoots().hashCode();
+    }
+
+    static String treeToString(final CategoryTree categoryTree) {
+        return new ToStringBuilder(categoryTree, SdkDefaults.TO_STRING_STYLE)
+                .append("roots", categoryTree.getRoots())
+                .append("subtreeRoots", categoryTree.getSubtreeRoots())
+                .append("allAsFlatList", categoryTree.getAllAsFlatList())
+                .toString();
+    }
 }
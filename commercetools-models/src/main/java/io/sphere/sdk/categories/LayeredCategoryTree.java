@@ -0,0 +1,260 @@
+package io.sphere.sdk.categories;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Identifiable;
+import io.sphere.sdk.models.LocalizedStringEntry;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+import static io.sphere.sdk.categories.CategoryForest.ABSENT;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Immutable category tree which consists of a shared {@link CategoryTreeImpl} and a small layer of changed and removed categories.
+ *
+ * <p>Changing a category copies only the layer, the categories and indexes of the base tree are shared by all versions.
+ * If the layer outgrows the square root of the size of the base tree the categories are merged into a new base tree,
+ * so the costs of the rebuilds are distributed over many changes.</p>
+ *
+ * <p>The tree behaves like a tree created from {@link #getAllAsFlatList()}: changed categories keep their position in the
+ * flat list and new categories are appended. Lookups and navigation query the layer and the base tree, ancestor queries
+ * follow the parent references. Subtrees are created from a merged copy.</p>
+ */
+final class LayeredCategoryTree extends Base implements CategoryTree {
+    private static final int MIN_LAYER_SIZE = 64;
+
+    private final CategoryTreeImpl base;
+    private final Map<String, Category> changedCategories;
+    private final Set<String> removedIds;
+    private final Map<String, List<Category>> changedChildrenByParentId;
+    private final Map<String, Category> changedCategoriesByExternalId;
+    private final Map<LocalizedStringEntry, Category> changedCategoriesBySlug;
+    private final Map<String, Integer> newCategoryPositions;
+    @Nullable
+    private transient volatile List<Category> allAsFlatList;
+    @Nullable
+    private transient volatile List<Category> roots;
+    @Nullable
+    private transient volatile CategoryTree merged;
+
+    private LayeredCategoryTree(final CategoryTreeImpl base, final Map<String, Category> changedCategories, final Set<String> removedIds) {
+        this.base = base;
+        this.changedCategories = changedCategories;
+        this.removedIds = removedIds;
+        this.changedChildrenByParentId = new HashMap<>();
+        this.changedCategoriesByExternalId = new HashMap<>();
+        this.changedCategoriesBySlug = new HashMap<>();
+        this.newCategoryPositions = new HashMap<>();
+        for (final Category category : changedCategories.values()) {
+            if (base.forest.indexOf(category.getId()) == ABSENT) {
+                newCategoryPositions.put(category.getId(), base.forest.size() + newCategoryPositions.size());
+            }
+            if (category.getParent() != null) {
+                changedChildrenByParentId.computeIfAbsent(category.getParent().getId(), id -> new ArrayList<>()).add(category);
+            }
+            if (category.getExternalId() != null) {
+                changedCategoriesByExternalId.putIfAbsent(category.getExternalId(), category);
+            }
+            category.getSlug().stream().forEach(entry -> changedCategoriesBySlug.put(entry, category));
+        }
+    }
+
+    static LayeredCategoryTree of(final CategoryTreeImpl base) {
+        return new LayeredCategoryTree(base, Collections.emptyMap(), Collections.emptySet());
+    }
+
+    /**
+     * Creates a version of this tree which contains the given category instead of the category with the same ID.
+     *
+     * @param category the new or changed category
+     * @return new tree
+     */
+    LayeredCategoryTree withCategory(final Category category) {
+        final Map<String, Category> newChangedCategories = new LinkedHashMap<>(changedCategories);
+        newChangedCategories.put(category.getId(), category);
+        final Set<String> newRemovedIds = new HashSet<>(removedIds);
+        newRemovedIds.remove(category.getId());
+        return create(newChangedCategories, newRemovedIds);
+    }
+
+    /**
+     * Creates a version of this tree without a category. The children of the category keep their parent reference.
+     *
+     * @param id the ID of the category to remove
+     * @return new tree
+     */
+    LayeredCategoryTree withoutCategory(final String id) {
+        final Map<String, Category> newChangedCategories = new LinkedHashMap<>(changedCategories);
+        newChangedCategories.remove(id);
+        final Set<String> newRemovedIds = new HashSet<>(removedIds);
+        if (base.forest.indexOf(id) != ABSENT) {
+            newRemovedIds.add(id);
+        }
+        return create(newChangedCategories, newRemovedIds);
+    }
+
+    private LayeredCategoryTree create(final Map<String, Category> newChangedCategories, final Set<String> newRemovedIds) {
+        final LayeredCategoryTree tree = new LayeredCategoryTree(base, newChangedCategories, newRemovedIds);
+        final int maxLayerSize = Math.max(MIN_LAYER_SIZE, (int) Math.sqrt(base.forest.size()));
+        return newChangedCategories.size() + newRemovedIds.size() > maxLayerSize ? tree.compact() : tree;
+    }
+
+    /**
+     * Merges the layer into a new base tree.
+     *
+     * @return tree without layer
+     */
+    LayeredCategoryTree compact() {
+        return changedCategories.isEmpty() && removedIds.isEmpty()
+                ? this
+                : of(new CategoryTreeImpl(CategoryForest.of(getAllAsFlatList())));
+    }
+
+    @Override
+    public List<Category> getRoots() {
+        List<Category> result = roots;
+        if (result == null) {
+            final List<Category> candidates = new ArrayList<>();
+            base.getRoots().stream().filter(this::isCurrent).forEach(candidates::add);
+            changedCategories.values().stream().filter(category -> category.getParent() == null).forEach(candidates::add);
+            result = inFlatListOrder(candidates);
+            roots = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Category> findById(final String id) {
+        final Category changedCategory = changedCategories.get(id);
+        if (changedCategory != null) {
+            return Optional.of(changedCategory);
+        }
+        return removedIds.contains(id) ? Optional.empty() : base.findById(id);
+    }
+
+    @Override
+    public Optional<Category> findByExternalId(final String externalId) {
+        final Category changedCategory = changedCategoriesByExternalId.get(externalId);
+        return changedCategory != null ? Optional.of(changedCategory) : base.findByExternalId(externalId).filter(this::isCurrent);
+    }
+
+    @Override
+    public Optional<Category> findBySlug(final Locale locale, final String slug) {
+        final Category changedCategory = changedCategoriesBySlug.get(LocalizedStringEntry.of(locale, slug));
+        return changedCategory != null ? Optional.of(changedCategory) : base.findBySlug(locale, slug).filter(this::isCurrent);
+    }
+
+    @Override
+    public List<Category> getAllAsFlatList() {
+        List<Category> result = allAsFlatList;
+        if (result == null) {
+            final List<Category> categories = new ArrayList<>(base.forest.size() + changedCategories.size());
+            for (final Category category : base.getAllAsFlatList()) {
+                if (!removedIds.contains(category.getId())) {
+                    categories.add(changedCategories.getOrDefault(category.getId(), category));
+                }
+            }
+            changedCategories.values().stream()
+                    .filter(category -> newCategoryPositions.containsKey(category.getId()))
+                    .forEach(categories::add);
+            result = Collections.unmodifiableList(categories);
+            allAsFlatList = result;
+        }
+        return result;
+    }
+
+    @Override
+    public List<Category> findChildren(final Identifiable<Category> category) {
+        final String categoryId = category.getId();
+        final List<Category> changedChildren = changedChildrenByParentId.getOrDefault(categoryId, Collections.emptyList());
+        final List<Category> baseChildren = base.findChildren(category);
+        if (changedChildren.isEmpty() && baseChildren.stream().allMatch(this::isCurrent)) {
+            return baseChildren;
+        }
+        final List<Category> candidates = baseChildren.stream().filter(this::isCurrent).collect(toList());
+        candidates.addAll(changedChildren);
+        return inFlatListOrder(candidates);
+    }
+
+    @Override
+    public List<Category> findSiblings(final Collection<? extends Identifiable<Category>> categoryIds) {
+        return CategoryTreeUtils.findSiblings(this, categoryIds);
+    }
+
+    @Override
+    public CategoryTree getSubtree(final Collection<? extends Identifiable<Category>> parentCategories) {
+        requireNonNull(parentCategories);
+        CategoryTree result = merged;
+        if (result == null) {
+            result = compact().base;
+            merged = result;
+        }
+        return result.getSubtree(parentCategories);
+    }
+
+    @Override
+    public Category getRootAncestor(final Identifiable<Category> category) {
+        requireNonNull(category);
+        final Category theCategory = CategoryTreeUtils.getCategoryOrThrow(category, this);
+        Category current = theCategory;
+        for (int depth = 0; current.getParent() != null && depth < size(); depth++) {
+            final Optional<Category> parent = findById(current.getParent().getId());
+            if (!parent.isPresent()) {
+                break;
+            }
+            current = parent.get();
+        }
+        return current.getParent() == null ? current : theCategory;
+    }
+
+    @Override
+    public List<Category> getSubtreeRoots() {
+        return getRoots();
+    }
+
+    @Override
+    public boolean isDescendant(final Identifiable<Category> category, final Identifiable<Category> ancestor) {
+        return CategoryTreeUtils.isDescendant(this, category, ancestor, size());
+    }
+
+    /**
+     * Trees are equal if they contain the same categories in the same order, regardless of the layer, so the tree
+     * equals its compacted version and a {@link CategoryTreeImpl} with the same categories.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        return CategoryTreeUtils.treeEquals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return CategoryTreeUtils.treeHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return CategoryTreeUtils.treeToString(this);
+    }
+
+    private int size() {
+        return base.forest.size() + changedCategories.size();
+    }
+
+    /**
+     * Checks if a category of the base tree is neither changed nor removed.
+     */
+    private boolean isCurrent(final Category baseCategory) {
+        return !changedCategories.containsKey(baseCategory.getId()) && !removedIds.contains(baseCategory.getId());
+    }
+
+    /**
+     * Sorts categories like {@link #getAllAsFlatList()}: categories of the base tree by their index, new categories after them in the order they were added.
+     */
+    private List<Category> inFlatListOrder(final List<Category> categories) {
+        return Collections.unmodifiableList(categories.stream()
+                .sorted(Comparator.comparingInt(category -> newCategoryPositions.getOrDefault(category.getId(), base.forest.indexOf(category.getId()))))
+                .collect(toList()));
+    }
+}
@@ -5,6 +5,7 @@ import com.neovisionaries.i18n.CountryCode;
 import io.sphere.sdk.carts.*;
 import io.sphere.sdk.customergroups.CustomerGroup;
 import io.sphere.sdk.discountcodes.DiscountCodeInfo;
+import io.sphere.sdk.json.GenerateJsonDeserializer;
 import io.sphere.sdk.models.Address;
 import io.sphere.sdk.models.ResourceImpl;
 import io.sphere.sdk.models.Reference;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
+@GenerateJsonDeserializer
 final class OrderImpl extends ResourceImpl<Order> implements Order {
     @Nullable
     private final Address billingAddress;
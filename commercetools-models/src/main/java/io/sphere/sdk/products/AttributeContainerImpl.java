@@ -6,14 +6,24 @@ import io.sphere.sdk.products.attributes.AttributeMapper;
 import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.models.Base;
 
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
 class AttributeContainerImpl extends Base implements AttributeContainer {
     private final List<Attribute> attributes;
+    /**
+     * Index of the attributes by name which is created on the first lookup. Concurrent first lookups may create
+     * multiple equal indexes, which is harmless. Transient to exclude it from equals, hashCode and toString.
+     */
+    @Nullable
+    private transient volatile Map<String, Attribute> attributesByName;
 
     protected AttributeContainerImpl(List<Attribute> attributes) {
         this.attributes = attributes;
@@ -27,19 +37,49 @@ class AttributeContainerImpl extends Base implements AttributeContainer {
     @Override
     public <T> Optional<T> findAttribute(final NamedAttributeAccess<T> accessor) {
         final String attributeName = accessor.getName();
-        final Optional<Attribute> attributeOption = getAttributes().stream()
-                .filter(a -> Objects.equals(attributeName, a.getName()))
-                .findFirst();
+        final Attribute attribute = attributesByName().get(attributeName);
+        if (attribute == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(attribute.getValue(accessor));
+        } catch (final JsonException e) {
+            throw transformError(e, attributeName, accessor.attributeMapper());
+        }
+    }
 
-        return attributeOption.map(attribute -> {
-            final AttributeMapper<T> mapper = accessor.attributeMapper();
+    @Override
+    public boolean hasAttribute(final String attributeName) {
+        return attributesByName().containsKey(attributeName);
+    }
+
+    @Override
+    public boolean hasAttribute(final NamedAttributeAccess<?> namedAccess) {
+        return attributesByName().containsKey(namedAccess.getName());
+    }
+
+    @Override
+    @Nullable
+    public Attribute getAttribute(final String attributeName) {
+        requireNonNull(attributeName);
+        return attributesByName().get(attributeName);
+    }
 
-            try {
-                return attribute.getValue(accessor);
-            } catch (final JsonException e) {
-                throw transformError(e, attributeName, mapper);
+    private Map<String, Attribute> attributesByName() {
+        Map<String, Attribute> result = attributesByName;
+        if (result == null) {
+            final List<Attribute> attributes = getAttributes();
+            if (attributes == null || attributes.isEmpty()) {
+                result = Collections.emptyMap();
+            } else {
+                result = new HashMap<>(attributes.size() * 4 / 3 + 1);
+                for (final Attribute attribute : attributes) {
+                    result.putIfAbsent(attribute.getName(), attribute);
+                }
             }
-        });
+            attributesByName = result;
+        }
+        return result;
     }
 
     protected JsonException transformError(JsonException e, String attributeName, AttributeMapper<?> mapper) {
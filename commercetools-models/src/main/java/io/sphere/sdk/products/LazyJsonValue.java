@@ -0,0 +1,96 @@
+package io.sphere.sdk.products;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.sphere.sdk.json.JsonException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the buffered JSON tokens of a value and binds them to Java objects on the first call of {@link #get()}.
+ *
+ * <p>Instances are equal if their bound values are equal, so comparing them materializes both values.</p>
+ *
+ * @param <T> the type of the value
+ */
+final class LazyJsonValue<T> {
+    private final TypeReference<T> typeReference;
+    private final UnaryOperator<T> finisher;
+    @Nullable
+    private TokenBuffer json;
+    @Nullable
+    private T value;
+    private volatile boolean materialized;
+
+    private LazyJsonValue(@Nullable final TokenBuffer json, final TypeReference<T> typeReference, final UnaryOperator<T> finisher) {
+        this.json = json;
+        this.typeReference = typeReference;
+        this.finisher = finisher;
+        this.value = json == null ? finisher.apply(null) : null;
+        this.materialized = json == null;
+    }
+
+    @Nullable
+    T get() {
+        if (!materialized) {
+            synchronized (this) {
+                if (!materialized) {
+                    value = finisher.apply(bind(json));
+                    json = null;
+                    materialized = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    boolean isMaterialized() {
+        return materialized;
+    }
+
+    private T bind(final TokenBuffer buffer) {
+        try (final JsonParser parser = buffer.asParser()) {
+            return parser.readValueAs(typeReference);
+        } catch (final IOException e) {
+            throw new JsonException(e);
+        }
+    }
+
+    /**
+     * Compares the bound values, so this binds the buffered tokens of both instances.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || o instanceof LazyJsonValue && Objects.equals(get(), ((LazyJsonValue<?>) o).get());
+    }
+
+    /**
+     * Calculates the hash code of the bound value, so this binds the buffered tokens.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(get());
+    }
+
+    /**
+     * Creates a lazy value from buffered JSON tokens.
+     *
+     * @param json the tokens of the value, null for a missing or null JSON value
+     * @param typeReference the type to bind the tokens to
+     * @param finisher function which is applied once to the bound value, or to null for a missing value
+     * @param <T> the type of the value
+     * @return lazy value
+     */
+    static <T> LazyJsonValue<T> of(@Nullable final TokenBuffer json, final TypeReference<T> typeReference, final UnaryOperator<T> finisher) {
+        return new LazyJsonValue<>(json, typeReference, finisher);
+    }
+}
@@ -0,0 +1,86 @@
+package io.sphere.sdk.products;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.Reference;
+import io.sphere.sdk.producttypes.ProductType;
+import io.sphere.sdk.reviews.ReviewRatingStatistics;
+import io.sphere.sdk.search.SearchKeywords;
+import io.sphere.sdk.states.State;
+import io.sphere.sdk.taxcategories.TaxCategory;
+
+import javax.annotation.Nullable;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Product projection which keeps the JSON tokens of the variants, the search keywords and the category order hints
+ * and binds them on first access. The master variant is a {@link LazyProductVariantImpl}, so only its attributes,
+ * prices and assets are kept as JSON.
+ *
+ * @see LazyProductProjections
+ */
+@JsonDeserialize(as = LazyProductProjectionImpl.class)
+final class LazyProductProjectionImpl extends ProductProjectionImpl {
+    private static final TypeReference<List<ProductVariant>> VARIANTS_TYPE = new TypeReference<List<ProductVariant>>() {
+    };
+    private static final TypeReference<SearchKeywords> SEARCH_KEYWORDS_TYPE = new TypeReference<SearchKeywords>() {
+    };
+    private static final TypeReference<CategoryOrderHints> CATEGORY_ORDER_HINTS_TYPE = new TypeReference<CategoryOrderHints>() {
+    };
+
+    private final LazyJsonValue<List<ProductVariant>> variants;
+    private final LazyJsonValue<SearchKeywords> searchKeywords;
+    private final LazyJsonValue<CategoryOrderHints> categoryOrderHints;
+
+    @JsonCreator
+    LazyProductProjectionImpl(final String id, final Long version, final ZonedDateTime createdAt, final ZonedDateTime lastModifiedAt,
+                              final Reference<ProductType> productType, @Nullable final Reference<State> state, @Nullable final Reference<TaxCategory> taxCategory,
+                              final Boolean hasStagedChanges, final LocalizedString name,
+                              final Set<Reference<Category>> categories, @Nullable final LocalizedString description,
+                              final LocalizedString slug, @Nullable final LocalizedString metaTitle,
+                              @Nullable final LocalizedString metaDescription, @Nullable final LocalizedString metaKeywords,
+                              final LazyProductVariantImpl masterVariant, @Nullable final TokenBuffer variants,
+                              final Boolean isPublished, @Nullable final TokenBuffer searchKeywords,
+                              @Nullable final TokenBuffer categoryOrderHints,
+                              @Nullable final ReviewRatingStatistics reviewRatingStatistics, @Nullable final String key) {
+        super(id, version, createdAt, lastModifiedAt, productType, state, taxCategory, hasStagedChanges, name, categories,
+                description, slug, metaTitle, metaDescription, metaKeywords, masterVariant, null, isPublished, null, null,
+                reviewRatingStatistics, key);
+        this.variants = LazyJsonValue.of(variants, VARIANTS_TYPE, this::withProductId);
+        this.searchKeywords = LazyJsonValue.of(searchKeywords, SEARCH_KEYWORDS_TYPE, value -> value);
+        this.categoryOrderHints = LazyJsonValue.of(categoryOrderHints, CATEGORY_ORDER_HINTS_TYPE, value -> value);
+    }
+
+    @Override
+    public List<ProductVariant> getVariants() {
+        return variants.get();
+    }
+
+    @Override
+    public SearchKeywords getSearchKeywords() {
+        return searchKeywords.get();
+    }
+
+    @Override
+    @Nullable
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public CategoryOrderHints getCategoryOrderHints() {
+        return categoryOrderHints.get();
+    }
+
+    /**
+     * Checks if the variants are still kept as JSON.
+     *
+     * @return true if the variants are not bound yet
+     */
+    boolean hasPendingVariants() {
+        return !variants.isMaterialized();
+    }
+}
@@ -0,0 +1,73 @@
+package io.sphere.sdk.products;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.client.SphereRequestDecorator;
+import io.sphere.sdk.client.SphereRequestUtils;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.products.queries.ProductProjectionQuery;
+import io.sphere.sdk.products.search.ProductProjectionSearch;
+import io.sphere.sdk.queries.PagedQueryResult;
+import io.sphere.sdk.search.PagedSearchResult;
+
+/**
+ * Decorates product projection requests so that the product projections of the result bind the variants, the search keywords,
+ * the category order hints and the prices, attributes and assets of the master variant only when they are accessed.
+ * The remaining JSON of these fields is kept in memory until then.
+ *
+ * <p>This reduces the deserialization time of pages which only display the name, images and price of the master variant,
+ * like product listings. The projections are equal to each other like the eagerly deserialized ones, but not equal to them.
+ * Comparing them or calculating their hash codes binds all lazy fields.</p>
+ */
+public final class LazyProductProjections {
+    private static final JavaType SEARCH_RESULT_TYPE = TypeFactory.defaultInstance()
+            .constructParametrizedType(PagedSearchResult.class, PagedSearchResult.class, LazyProductProjectionImpl.class);
+    private static final JavaType QUERY_RESULT_TYPE = TypeFactory.defaultInstance()
+            .constructParametrizedType(PagedQueryResult.class, PagedQueryResult.class, LazyProductProjectionImpl.class);
+
+    private LazyProductProjections() {
+    }
+
+    /**
+     * Creates a search request with lazily deserialized product projections.
+     *
+     * @param search the search request to decorate
+     * @return decorated request
+     */
+    public static SphereRequest<PagedSearchResult<ProductProjection>> of(final ProductProjectionSearch search) {
+        return new LazySearchRequest(search);
+    }
+
+    /**
+     * Creates a query request with lazily deserialized product projections.
+     *
+     * @param query the query request to decorate
+     * @return decorated request
+     */
+    public static SphereRequest<PagedQueryResult<ProductProjection>> of(final ProductProjectionQuery query) {
+        return new LazyQueryRequest(query);
+    }
+
+    private static final class LazySearchRequest extends SphereRequestDecorator<PagedSearchResult<ProductProjection>> {
+        private LazySearchRequest(final SphereRequest<PagedSearchResult<ProductProjection>> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public PagedSearchResult<ProductProjection> deserialize(final HttpResponse httpResponse) {
+            return SphereRequestUtils.deserialize(httpResponse, SEARCH_RESULT_TYPE);
+        }
+    }
+
+    private static final class LazyQueryRequest extends SphereRequestDecorator<PagedQueryResult<ProductProjection>> {
+        private LazyQueryRequest(final SphereRequest<PagedQueryResult<ProductProjection>> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public PagedQueryResult<ProductProjection> deserialize(final HttpResponse httpResponse) {
+            return SphereRequestUtils.deserialize(httpResponse, QUERY_RESULT_TYPE);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.sphere.sdk.products;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.sphere.sdk.models.Asset;
+import io.sphere.sdk.products.attributes.Attribute;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Product variant which keeps the JSON tokens of the prices, the attributes and the assets and binds them on first access.
+ *
+ * @see LazyProductProjectionImpl
+ */
+@JsonDeserialize(as = LazyProductVariantImpl.class)
+final class LazyProductVariantImpl extends ProductVariantImpl {
+    private static final TypeReference<List<Price>> PRICES_TYPE = new TypeReference<List<Price>>() {
+    };
+    private static final TypeReference<List<Attribute>> ATTRIBUTES_TYPE = new TypeReference<List<Attribute>>() {
+    };
+    private static final TypeReference<List<Asset>> ASSETS_TYPE = new TypeReference<List<Asset>>() {
+    };
+
+    private final LazyJsonValue<List<Price>> prices;
+    private final LazyJsonValue<List<Attribute>> attributes;
+    private final LazyJsonValue<List<Asset>> assets;
+
+    @JsonCreator
+    LazyProductVariantImpl(final Integer id, @Nullable final String sku, @Nullable final TokenBuffer prices, @Nullable final TokenBuffer attributes,
+                           final List<Image> images, @Nullable final ProductVariantAvailability availability,
+                           @Nullable final Boolean isMatchingVariant, @Nullable final String productId,
+                           @Nullable final Price price, @Nullable final ScopedPrice scopedPrice,
+                           @Nullable final Boolean scopedPriceDiscounted, @Nullable final String key,
+                           @Nullable final TokenBuffer assets) {
+        super(id, sku, null, null, images, availability, isMatchingVariant, productId, price, scopedPrice, scopedPriceDiscounted, key, null);
+        this.prices = LazyJsonValue.of(prices, PRICES_TYPE, value -> value);
+        this.attributes = LazyJsonValue.of(attributes, ATTRIBUTES_TYPE, value -> value);
+        this.assets = LazyJsonValue.of(assets, ASSETS_TYPE, value -> value == null ? Collections.emptyList() : value);
+    }
+
+    @Override
+    public List<Price> getPrices() {
+        return prices.get();
+    }
+
+    @Override
+    public List<Attribute> getAttributes() {
+        return attributes.get();
+    }
+
+    @Nonnull
+    @Override
+    public List<Asset> getAssets() {
+        return assets.get();
+    }
+
+    /**
+     * Checks if the prices, the attributes or the assets are still kept as JSON.
+     *
+     * @return true if one of them is not bound yet
+     */
+    boolean hasPendingValues() {
+        return !prices.isMaterialized() || !attributes.isMaterialized() || !assets.isMaterialized();
+    }
+}
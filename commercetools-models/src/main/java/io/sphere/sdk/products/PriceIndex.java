@@ -0,0 +1,160 @@
+package io.sphere.sdk.products;
+
+import io.sphere.sdk.models.Reference;
+import io.sphere.sdk.products.search.PriceSelection;
+
+import javax.annotation.Nullable;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Index of the prices of a variant by currency, country, customer group and channel to select prices like the
+ * price selection of the product projection search.
+ *
+ * <p>A price is a candidate if it has the currency of the selection and each of its country, customer group and channel
+ * is either not set or the one of the selection. The candidates are checked in the order customer group, channel and country,
+ * the most specific price wins:</p>
+ * <ol>
+ *     <li>customer group, channel and country</li>
+ *     <li>customer group and channel</li>
+ *     <li>customer group and country</li>
+ *     <li>customer group</li>
+ *     <li>channel and country</li>
+ *     <li>channel</li>
+ *     <li>country</li>
+ *     <li>no scope</li>
+ * </ol>
+ *
+ * <p>Prices with validity dates are only candidates at times from {@link Price#getValidFrom()} (inclusive) until
+ * {@link Price#getValidUntil()} (exclusive). For the same scope a valid price with validity dates is preferred over
+ * a price without validity dates.</p>
+ */
+final class PriceIndex {
+    private static final PriceIndex EMPTY = new PriceIndex(Collections.emptyMap());
+
+    private final Map<PriceScope, List<Price>> pricesByScope;
+
+    private PriceIndex(final Map<PriceScope, List<Price>> pricesByScope) {
+        this.pricesByScope = pricesByScope;
+    }
+
+    static PriceIndex of(final List<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+        final Map<PriceScope, List<Price>> pricesByScope = new HashMap<>();
+        for (final Price price : prices) {
+            final PriceScope scope = new PriceScope(price.getValue().getCurrency().getCurrencyCode(),
+                    price.getCountry() != null ? price.getCountry().getAlpha2() : null,
+                    idOf(price.getCustomerGroup()), idOf(price.getChannel()));
+            pricesByScope.computeIfAbsent(scope, s -> new ArrayList<>(1)).add(price);
+        }
+        return new PriceIndex(pricesByScope);
+    }
+
+    @Nullable
+    Price select(final PriceSelection priceSelection, final ZonedDateTime time) {
+        final String currency = priceSelection.getPriceCurrency();
+        final String country = priceSelection.getPriceCountry();
+        final String customerGroup = priceSelection.getPriceCustomerGroup();
+        final String channel = priceSelection.getPriceChannel();
+        Price price = null;
+        if (customerGroup != null) {
+            price = selectWithChannel(time, currency, country, customerGroup, channel);
+        }
+        if (price == null) {
+            price = selectWithChannel(time, currency, country, null, channel);
+        }
+        return price;
+    }
+
+    @Nullable
+    private Price selectWithChannel(final ZonedDateTime time, final String currency, @Nullable final String country,
+                                    @Nullable final String customerGroup, @Nullable final String channel) {
+        Price price = null;
+        if (channel != null) {
+            price = selectWithCountry(time, currency, country, customerGroup, channel);
+        }
+        if (price == null) {
+            price = selectWithCountry(time, currency, country, customerGroup, null);
+        }
+        return price;
+    }
+
+    @Nullable
+    private Price selectWithCountry(final ZonedDateTime time, final String currency, @Nullable final String country,
+                                    @Nullable final String customerGroup, @Nullable final String channel) {
+        Price price = null;
+        if (country != null) {
+            price = selectInScope(time, new PriceScope(currency, country, customerGroup, channel));
+        }
+        if (price == null) {
+            price = selectInScope(time, new PriceScope(currency, null, customerGroup, channel));
+        }
+        return price;
+    }
+
+    @Nullable
+    private Price selectInScope(final ZonedDateTime time, final PriceScope scope) {
+        final List<Price> prices = pricesByScope.get(scope);
+        if (prices == null) {
+            return null;
+        }
+        Price withoutValidity = null;
+        for (final Price price : prices) {
+            if (price.getValidFrom() == null && price.getValidUntil() == null) {
+                if (withoutValidity == null) {
+                    withoutValidity = price;
+                }
+            } else if (isValid(price, time)) {
+                return price;
+            }
+        }
+        return withoutValidity;
+    }
+
+    private static boolean isValid(final Price price, final ZonedDateTime time) {
+        return (price.getValidFrom() == null || !time.isBefore(price.getValidFrom()))
+                && (price.getValidUntil() == null || time.isBefore(price.getValidUntil()));
+    }
+
+    @Nullable
+    private static String idOf(@Nullable final Reference<?> reference) {
+        return reference != null ? reference.getId() : null;
+    }
+
+    private static final class PriceScope {
+        private final String currency;
+        @Nullable
+        private final String country;
+        @Nullable
+        private final String customerGroup;
+        @Nullable
+        private final String channel;
+
+        private PriceScope(final String currency, @Nullable final String country, @Nullable final String customerGroup, @Nullable final String channel) {
+            this.currency = currency;
+            this.country = country;
+            this.customerGroup = customerGroup;
+            this.channel = channel;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PriceScope)) {
+                return false;
+            }
+            final PriceScope that = (PriceScope) o;
+            return currency.equals(that.currency) && Objects.equals(country, that.country)
+                    && Objects.equals(customerGroup, that.customerGroup) && Objects.equals(channel, that.channel);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(currency, country, customerGroup, channel);
+        }
+    }
+}
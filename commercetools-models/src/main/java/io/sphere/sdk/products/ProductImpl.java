@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 
 import java.time.ZonedDateTime;
 import java.util.Optional;
+import io.sphere.sdk.json.GenerateJsonDeserializer;
 import io.sphere.sdk.models.ResourceImpl;
 import io.sphere.sdk.models.Reference;
 import io.sphere.sdk.producttypes.ProductType;
@@ -13,6 +14,7 @@ import io.sphere.sdk.taxcategories.TaxCategory;
 
 import javax.annotation.Nullable;
 
+@GenerateJsonDeserializer
 class ProductImpl extends ResourceImpl<Product> implements Product {
     private final Reference<ProductType> productType;
     private final ProductCatalogData masterData;
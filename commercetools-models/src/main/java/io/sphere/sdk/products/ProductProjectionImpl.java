@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.json.GenerateJsonDeserializer;
 import io.sphere.sdk.models.LocalizedString;
 import io.sphere.sdk.models.ResourceViewImpl;
 import io.sphere.sdk.models.Reference;
@@ -15,10 +16,12 @@ import io.sphere.sdk.taxcategories.TaxCategory;
 
 import javax.annotation.Nullable;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 
+@GenerateJsonDeserializer
 class ProductProjectionImpl extends ResourceViewImpl<ProductProjection, Product> implements ProductProjection {
     private final Reference<ProductType> productType;
     @Nullable
@@ -81,9 +84,19 @@ class ProductProjectionImpl extends ResourceViewImpl<ProductProjection, Product>
         this.categoryOrderHints = categoryOrderHints;
         this.reviewRatingStatistics = reviewRatingStatistics;
         this.key = key;
-        getAllVariants().stream()
-                .filter(v -> v instanceof ProductVariantImpl)
-                .forEach(variant -> ((ProductVariantImpl)variant).setProductId(getId()));
+        withProductId(Collections.singletonList(masterVariant));
+        withProductId(variants);
+    }
+
+    //the variants are passed explicitly since subclasses may not have initialized their getters yet
+    @Nullable
+    final List<ProductVariant> withProductId(@Nullable final List<ProductVariant> variants) {
+        if (variants != null) {
+            variants.stream()
+                    .filter(v -> v instanceof ProductVariantImpl)
+                    .forEach(variant -> ((ProductVariantImpl)variant).setProductId(getId()));
+        }
+        return variants;
     }
 
     public Boolean hasStagedChanges() {
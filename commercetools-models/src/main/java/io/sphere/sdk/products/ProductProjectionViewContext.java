@@ -0,0 +1,155 @@
+package io.sphere.sdk.products;
+
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.categories.CategoryTree;
+import io.sphere.sdk.models.LocaleFallbackChain;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.Reference;
+import io.sphere.sdk.products.attributes.Attribute;
+import io.sphere.sdk.products.attributes.AttributeDefinition;
+import io.sphere.sdk.products.attributes.DefaultProductAttributeFormatter;
+import io.sphere.sdk.producttypes.ProductType;
+import io.sphere.sdk.producttypes.ProductTypeLocalRepository;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Helper for the mapping function of a {@link ProductProjectionViewMapper}.
+ *
+ * <p>Instances are not thread-safe, each task of the mapper uses its own context for its products.</p>
+ */
+public final class ProductProjectionViewContext {
+    private static final Comparator<Category> CATEGORY_ORDER = Comparator
+            .comparing(Category::getOrderHint, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(Category::getId);
+
+    private final LocaleFallbackChain localeFallbackChain;
+    private final CategoryTree categoryTree;
+    private final ProductTypeLocalRepository productTypes;
+    private final DefaultProductAttributeFormatter attributeFormatter;
+    private final Map<String, Map<String, String>> attributeLabelsByProductTypeId = new HashMap<>();
+
+    ProductProjectionViewContext(final LocaleFallbackChain localeFallbackChain, final CategoryTree categoryTree,
+                                 final ProductTypeLocalRepository productTypes, final DefaultProductAttributeFormatter attributeFormatter) {
+        this.localeFallbackChain = localeFallbackChain;
+        this.categoryTree = categoryTree;
+        this.productTypes = productTypes;
+        this.attributeFormatter = attributeFormatter;
+    }
+
+    /**
+     * Gets the locales of the mapper in the order of preference.
+     *
+     * @return unmodifiable list of the locales
+     */
+    public List<Locale> getLocales() {
+        return localeFallbackChain.getLocales();
+    }
+
+    /**
+     * Gets the fallback chain of {@link #getLocales()}, for example to find categories with {@link CategoryTree#findBySlug(LocaleFallbackChain, String)}.
+     *
+     * @return locale fallback chain
+     */
+    public LocaleFallbackChain getLocaleFallbackChain() {
+        return localeFallbackChain;
+    }
+
+    /**
+     * Translates a localized string with {@link LocalizedString#getTranslation(LocaleFallbackChain)}.
+     *
+     * @param localizedString the localized string or null
+     * @return the translation or null if the localized string is null or has no translation for the locales
+     */
+    @Nullable
+    public String translate(@Nullable final LocalizedString localizedString) {
+        return localizedString != null ? localizedString.getTranslation(localeFallbackChain) : null;
+    }
+
+    /**
+     * Resolves the category references of a product with the category tree of the mapper.
+     * References to categories which are not part of the tree are skipped.
+     * The categories are sorted by their {@link Category#getOrderHint()}, categories without order hint last, and then by id.
+     *
+     * @param product the product
+     * @return unmodifiable list of the categories
+     */
+    public List<Category> getCategories(final ProductProjection product) {
+        final Set<Reference<Category>> categoryReferences = product.getCategories();
+        if (categoryReferences == null || categoryReferences.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Category> categories = new ArrayList<>(categoryReferences.size());
+        for (final Reference<Category> categoryReference : categoryReferences) {
+            categoryTree.findById(categoryReference.getId()).ifPresent(categories::add);
+        }
+        categories.sort(CATEGORY_ORDER);
+        return Collections.unmodifiableList(categories);
+    }
+
+    /**
+     * Sorts products by their order hints for a category with {@link ProductProjectionComparators#comparingCategoryOrderHints(String)},
+     * for example to show the products of a category page in the order of the merchant. Products without order hint
+     * for the category are sorted last and keep their order.
+     *
+     * @param products the products
+     * @param categoryId the id of the category
+     * @return unmodifiable list of the sorted products
+     */
+    public List<ProductProjection> sortByCategoryOrderHints(final List<? extends ProductProjection> products, final String categoryId) {
+        final List<ProductProjection> sortedProducts = new ArrayList<>(products);
+        sortedProducts.sort(ProductProjectionComparators.comparingCategoryOrderHints(categoryId));
+        return Collections.unmodifiableList(sortedProducts);
+    }
+
+    /**
+     * Formats the attributes of a variant with a {@link DefaultProductAttributeFormatter} for the locales of the mapper.
+     * Attributes which cannot be formatted are skipped.
+     *
+     * @param product the product of the variant
+     * @param variant the variant
+     * @return map from the attribute name to the formatted value in the order of the attributes
+     * @see #getAttributeLabel(ProductProjection, String)
+     */
+    public Map<String, String> formatAttributes(final ProductProjection product, final ProductVariant variant) {
+        final Map<String, String> formattedAttributes = new LinkedHashMap<>();
+        for (final Attribute attribute : variant.getAttributes()) {
+            final String formattedValue = attributeFormatter.format(attribute, product.getProductType());
+            if (formattedValue != null) {
+                formattedAttributes.put(attribute.getName(), formattedValue);
+            }
+        }
+        return formattedAttributes;
+    }
+
+    /**
+     * Gets the translated label of an attribute definition of the product type of a product.
+     * The labels are translated once per product type and context.
+     *
+     * @param product the product
+     * @param attributeName the name of the attribute
+     * @return the translated label or the attribute name if the product type, the definition or a translation is missing
+     */
+    public String getAttributeLabel(final ProductProjection product, final String attributeName) {
+        final String label = attributeLabelsByProductTypeId
+                .computeIfAbsent(product.getProductType().getId(), this::translateAttributeLabels)
+                .get(attributeName);
+        return label != null ? label : attributeName;
+    }
+
+    private Map<String, String> translateAttributeLabels(final String productTypeId) {
+        final Optional<ProductType> productType = productTypes.findById(productTypeId);
+        if (!productType.isPresent()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> labels = new HashMap<>();
+        for (final AttributeDefinition attributeDefinition : productType.get().getAttributes()) {
+            final String label = translate(attributeDefinition.getLabel());
+            if (label != null) {
+                labels.put(attributeDefinition.getName(), label);
+            }
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,143 @@
+package io.sphere.sdk.products;
+
+import io.sphere.sdk.categories.CategoryTree;
+import io.sphere.sdk.models.LocaleFallbackChain;
+import io.sphere.sdk.products.attributes.DefaultProductAttributeFormatter;
+import io.sphere.sdk.producttypes.ProductTypeLocalRepository;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps many product projections into view models, for example to render a product list or to fill a search index.
+ *
+ * <p>The {@link LocaleFallbackChain} of the locales, the category tree and the product types are prepared once for all products.
+ * The mapping function gets a {@link ProductProjectionViewContext} which translates localized strings, resolves the categories
+ * of a product and formats attributes. A context is used by one thread for a part of the products and caches for example the translated attribute labels,
+ * so the mapping function should not keep it.</p>
+ *
+ * <p>With {@link #mapAll(List, ForkJoinPool)} the products are split into parts which are mapped by the tasks of a fork/join pool,
+ * so the mapping function must not depend on the order in which the products are mapped.</p>
+ *
+ * {@include.example io.sphere.sdk.products.ProductProjectionViewMapperTest#mapAll()}
+ *
+ * @param <T> the type of the view model
+ */
+public final class ProductProjectionViewMapper<T> {
+    static final int PRODUCTS_PER_TASK = 256;
+
+    private final LocaleFallbackChain localeFallbackChain;
+    private final CategoryTree categoryTree;
+    private final ProductTypeLocalRepository productTypes;
+    private final DefaultProductAttributeFormatter attributeFormatter;
+    private final BiFunction<? super ProductProjection, ? super ProductProjectionViewContext, ? extends T> mapping;
+
+    private ProductProjectionViewMapper(final List<Locale> locales, final CategoryTree categoryTree,
+                                        final ProductTypeLocalRepository productTypes,
+                                        final BiFunction<? super ProductProjection, ? super ProductProjectionViewContext, ? extends T> mapping) {
+        this.localeFallbackChain = LocaleFallbackChain.of(locales);
+        this.categoryTree = categoryTree;
+        this.productTypes = productTypes;
+        this.attributeFormatter = new DefaultProductAttributeFormatter(productTypes, localeFallbackChain.getLocales());
+        this.mapping = mapping;
+    }
+
+    /**
+     * Maps one product.
+     *
+     * @param product the product to map
+     * @return the view model
+     */
+    public T map(final ProductProjection product) {
+        return mapping.apply(product, newContext());
+    }
+
+    /**
+     * Maps products in the calling thread with one context.
+     *
+     * @param products the products to map
+     * @return unmodifiable list of the view models in the order of the products
+     */
+    public List<T> mapAll(final List<? extends ProductProjection> products) {
+        final List<T> views = newViewList(products.size());
+        mapRange(products, views, 0, products.size());
+        return Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Maps products with the tasks of a fork/join pool, each task maps a part of the products with its own context.
+     *
+     * @param products the products to map
+     * @param forkJoinPool the pool which executes the tasks
+     * @return unmodifiable list of the view models in the order of the products
+     */
+    public List<T> mapAll(final List<? extends ProductProjection> products, final ForkJoinPool forkJoinPool) {
+        final List<T> views = newViewList(products.size());
+        forkJoinPool.invoke(new MappingTask(products, views, 0, products.size()));
+        return Collections.unmodifiableList(views);
+    }
+
+    private void mapRange(final List<? extends ProductProjection> products, final List<T> views, final int from, final int to) {
+        final ProductProjectionViewContext context = newContext();
+        for (int i = from; i < to; i++) {
+            views.set(i, mapping.apply(products.get(i), context));
+        }
+    }
+
+    private ProductProjectionViewContext newContext() {
+        return new ProductProjectionViewContext(localeFallbackChain, categoryTree, productTypes, attributeFormatter);
+    }
+
+    private static <T> List<T> newViewList(final int size) {
+        return new ArrayList<>(Collections.nCopies(size, null));
+    }
+
+    /**
+     * Creates a mapper.
+     *
+     * @param locales the locales for translations and formatting in the order of preference
+     * @param categoryTree the category tree to resolve the categories of the products
+     * @param productTypes the product types of the products to format attributes
+     * @param mapping the function which creates the view model of a product
+     * @param <T> the type of the view model
+     * @return mapper
+     */
+    public static <T> ProductProjectionViewMapper<T> of(final List<Locale> locales, final CategoryTree categoryTree,
+                                                        final ProductTypeLocalRepository productTypes,
+                                                        final BiFunction<? super ProductProjection, ? super ProductProjectionViewContext, ? extends T> mapping) {
+        if (locales.isEmpty()) {
+            throw new IllegalArgumentException("at least one locale is required");
+        }
+        return new ProductProjectionViewMapper<>(locales, requireNonNull(categoryTree), requireNonNull(productTypes), requireNonNull(mapping));
+    }
+
+    private final class MappingTask extends RecursiveAction {
+        private static final long serialVersionUID = 0L;
+
+        private final List<? extends ProductProjection> products;
+        private final List<T> views;
+        private final int from;
+        private final int to;
+
+        private MappingTask(final List<? extends ProductProjection> products, final List<T> views, final int from, final int to) {
+            this.products = products;
+            this.views = views;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PRODUCTS_PER_TASK) {
+                mapRange(products, views, from, to);
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new MappingTask(products, views, from, middle), new MappingTask(products, views, middle, to));
+            }
+        }
+    }
+}
@@ -6,7 +6,9 @@ import io.sphere.sdk.products.search.PriceSelection;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @JsonDeserialize(as = ProductVariantImpl.class)
 public interface ProductVariant extends AttributeContainer {
@@ -38,6 +40,34 @@ public interface ProductVariant extends AttributeContainer {
     @Nullable
     Price getPrice();
 
+    /**
+     * Selects a price of {@link #getPrices()} locally with the rules of the price selection of {@link io.sphere.sdk.products.search.ProductProjectionSearch},
+     * for example to render cached products without requesting the selected price with {@link #getPrice()}.
+     *
+     * <p>A price is selected by currency and the most specific match of customer group, channel and country in this order of precedence,
+     * prices with validity dates take precedence over prices without validity dates if they are valid at the given time.</p>
+     *
+     * {@include.example io.sphere.sdk.products.PriceSelectionTest#selectsMostSpecificPrice()}
+     *
+     * @param priceSelection the currency, country, customer group and channel of the price
+     * @param time the time to check the validity dates of the prices
+     * @return the selected price or an empty optional if no price matches
+     */
+    default Optional<Price> findPrice(final PriceSelection priceSelection, final ZonedDateTime time) {
+        return Optional.ofNullable(PriceIndex.of(getPrices()).select(priceSelection, time));
+    }
+
+    /**
+     * Selects a price of {@link #getPrices()} which is valid now with the rules of the price selection of {@link io.sphere.sdk.products.search.ProductProjectionSearch}.
+     *
+     * @param priceSelection the currency, country, customer group and channel of the price
+     * @return the selected price or an empty optional if no price matches
+     * @see #findPrice(PriceSelection, ZonedDateTime)
+     */
+    default Optional<Price> findPrice(final PriceSelection priceSelection) {
+        return findPrice(priceSelection, ZonedDateTime.now());
+    }
+
     /**
      * Optional price from the price scoped filtering in the search endpoint.
      * By default this price is null but it can be filled by using {@link io.sphere.sdk.products.search.ProductVariantFilterSearchModel#scopedPrice()}.
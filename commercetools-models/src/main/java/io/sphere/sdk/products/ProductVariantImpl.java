@@ -5,9 +5,11 @@ import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.models.Asset;
 import io.sphere.sdk.products.attributes.Attribute;
 import io.sphere.sdk.products.attributes.AttributeMapper;
+import io.sphere.sdk.products.search.PriceSelection;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +37,11 @@ class ProductVariantImpl extends AttributeContainerImpl implements ProductVarian
     @Nullable
     private final String key;
     private final List<Asset> assets;
+    /**
+     * Index of the prices for the local price selection which is created on the first selection.
+     */
+    @Nullable
+    private transient volatile PriceIndex priceIndex;
 
     @JsonCreator
     ProductVariantImpl(final Integer id, @Nullable final String sku, final List<Price> prices, final List<Attribute> attributes,
@@ -97,6 +104,16 @@ class ProductVariantImpl extends AttributeContainerImpl implements ProductVarian
         return price;
     }
 
+    @Override
+    public Optional<Price> findPrice(final PriceSelection priceSelection, final ZonedDateTime time) {
+        PriceIndex result = priceIndex;
+        if (result == null) {
+            result = PriceIndex.of(getPrices());
+            priceIndex = result;
+        }
+        return Optional.ofNullable(result.select(priceSelection, time));
+    }
+
     @Override
     @Nullable
     public ScopedPrice getScopedPrice() {
@@ -5,6 +5,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.EnumValue;
+import io.sphere.sdk.models.LocalizedEnumValue;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.Reference;
+
+import javax.annotation.Nullable;
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
 
 import static java.lang.String.format;
 
@@ -14,6 +25,15 @@ final class AttributeImpl extends Base implements Attribute {
     @JsonSerialize
     private final JsonNode value;
 
+    /**
+     * The last typed value with the mapper which created it. Reading the attribute again with the same mapper instance,
+     * for example with an {@link AttributeAccess} or {@link NamedAttributeAccess} stored in a constant, returns the same object
+     * without parsing the JSON again. Concurrent readers may parse the value more than once, but they never see a value of another mapper.
+     * Only immutable values are cached, so collections and JSON nodes are created for every read and can be changed by the caller.
+     */
+    @Nullable
+    private transient volatile TypedValue<?> typedValue;
+
     @JsonCreator
     public AttributeImpl(final String name, final JsonNode value) {
         this.name = name;
@@ -25,11 +45,39 @@ final class AttributeImpl extends Base implements Attribute {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getValue(final AttributeAccess<T> access) {
+        final AttributeMapper<T> mapper = access.attributeMapper();
+        final TypedValue<?> cached = typedValue;
+        if (cached != null && cached.mapper == mapper) {
+            return (T) cached.value;
+        }
         try {
-            return access.attributeMapper().deserialize(value);
+            final T result = mapper.deserialize(value);
+            if (isImmutable(result)) {
+                typedValue = new TypedValue<>(mapper, result);
+            }
+            return result;
         } catch (final JsonException e) {
-            throw new JsonException(format("Cannot parse attribute %s with mapper %s.", getName(), access.attributeMapper()), e.getCause());
+            throw new JsonException(format("Cannot parse attribute %s with mapper %s.", getName(), mapper), e.getCause());
+        }
+    }
+
+    private static boolean isImmutable(@Nullable final Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Long || value instanceof Integer
+                || value instanceof Double || value instanceof BigDecimal || value instanceof Enum
+                || value instanceof LocalizedString || value instanceof Reference || value instanceof MonetaryAmount
+                || value instanceof EnumValue || value instanceof LocalizedEnumValue
+                || value instanceof LocalDate || value instanceof LocalTime || value instanceof ZonedDateTime;
+    }
+
+    private static final class TypedValue<T> {
+        private final AttributeMapper<T> mapper;
+        private final T value;
+
+        private TypedValue(final AttributeMapper<T> mapper, final T value) {
+            this.mapper = mapper;
+            this.value = value;
         }
     }
 }
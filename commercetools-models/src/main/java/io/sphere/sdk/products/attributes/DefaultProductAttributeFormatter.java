@@ -24,10 +24,12 @@ import static java.util.stream.Collectors.joining;
 
 public class DefaultProductAttributeFormatter extends ProductAttributeConverterBase<String> implements ProductAttributeConverter<String> {
     private final List<Locale> locales;
+    private final LocaleFallbackChain localeFallbackChain;
 
     public DefaultProductAttributeFormatter(final ProductTypeLocalRepository productTypes, final List<Locale> locales) {
         super(productTypes);
         this.locales = locales;
+        this.localeFallbackChain = LocaleFallbackChain.of(locales);
     }
 
     public DefaultProductAttributeFormatter(final Collection<ProductType> productTypes, final List<Locale> locales) {
@@ -72,6 +74,17 @@ public class DefaultProductAttributeFormatter extends ProductAttributeConverterB
         return locales;
     }
 
+    /**
+     * Gets the fallback chain of {@link #getLocales()} to translate localized strings and localized enum values.
+     * The chain is computed once, unless {@link #getLocales()} is overridden.
+     *
+     * @return locale fallback chain
+     */
+    protected LocaleFallbackChain getLocaleFallbackChain() {
+        final List<Locale> currentLocales = getLocales();
+        return currentLocales == locales ? localeFallbackChain : LocaleFallbackChain.of(currentLocales);
+    }
+
     @Nullable
     protected <X> String convertReference(final Reference<X> reference, final ProductType productType) {
         return reference.getId();
@@ -229,12 +242,12 @@ public class DefaultProductAttributeFormatter extends ProductAttributeConverterB
 
     @Override
     protected String convertLocalizedString(final LocalizedString localizedString, final Attribute attribute, final ProductType productType) {
-        return localizedString.getTranslation(getLocales());
+        return localizedString.getTranslation(getLocaleFallbackChain());
     }
 
     @Override
     protected String convertLocalizedEnumValue(final LocalizedEnumValue localizedEnumValue, final Attribute attribute, final ProductType productType) {
-        return localizedEnumValue.getLabel().getTranslation(getLocales());
+        return localizedEnumValue.getLabel().getTranslation(getLocaleFallbackChain());
     }
 
     @Override
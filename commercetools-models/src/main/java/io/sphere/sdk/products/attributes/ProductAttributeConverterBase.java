@@ -12,15 +12,63 @@ import javax.money.MonetaryAmount;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.sphere.sdk.products.attributes.AttributeAccess.*;
+import static java.util.stream.Collectors.toList;
 
 public abstract class ProductAttributeConverterBase<T> extends Base implements ProductAttributeConverter<T> {
+    private static final List<ConversionStep<?>> CONVERSION_STEPS = Arrays.<ConversionStep<?>>asList(
+            step(ofBoolean(), (converter, value, attribute, productType) -> converter.convertBoolean(value, attribute, productType)),
+            step(ofBooleanSet(), (converter, value, attribute, productType) -> converter.convertBooleanSet(value, attribute, productType)),
+            step(ofCategoryReference(), (converter, value, attribute, productType) -> converter.convertCategoryReference(value, attribute, productType)),
+            step(ofCategoryReferenceSet(), (converter, value, attribute, productType) -> converter.convertCategoryReferenceSet(value, attribute, productType)),
+            step(ofChannelReference(), (converter, value, attribute, productType) -> converter.convertChannelReference(value, attribute, productType)),
+            step(ofChannelReferenceSet(), (converter, value, attribute, productType) -> converter.convertChannelReferenceSet(value, attribute, productType)),
+            step(ofDate(), (converter, value, attribute, productType) -> converter.convertDate(value, attribute, productType)),
+            step(ofDateSet(), (converter, value, attribute, productType) -> converter.convertDateSet(value, attribute, productType)),
+            step(ofDateTime(), (converter, value, attribute, productType) -> converter.convertDateTime(value, attribute, productType)),
+            step(ofDateTimeSet(), (converter, value, attribute, productType) -> converter.convertDateTimeSet(value, attribute, productType)),
+            step(ofEnumValue(), (converter, value, attribute, productType) -> converter.convertEnumValue(value, attribute, productType)),
+            step(ofEnumValueSet(), (converter, value, attribute, productType) -> converter.convertEnumValueSet(value, attribute, productType)),
+            step(ofInteger(), (converter, value, attribute, productType) -> converter.convertInteger(value, attribute, productType),
+                    (converter, attribute, productType) -> converter.isInteger(attribute, productType)),
+            step(ofIntegerSet(), (converter, value, attribute, productType) -> converter.convertIntegerSet(value, attribute, productType),
+                    (converter, attribute, productType) -> converter.isIntegerSet(attribute, productType)),
+            step(ofLocalizedEnumValue(), (converter, value, attribute, productType) -> converter.convertLocalizedEnumValue(value, attribute, productType)),
+            step(ofLocalizedEnumValueSet(), (converter, value, attribute, productType) -> converter.convertLocalizedEnumValueSet(value, attribute, productType)),
+            step(ofLocalizedString(), (converter, value, attribute, productType) -> converter.convertLocalizedString(value, attribute, productType)),
+            step(ofLocalizedStringSet(), (converter, value, attribute, productType) -> converter.convertLocalizedStringSet(value, attribute, productType)),
+            step(ofLocalTime(), (converter, value, attribute, productType) -> converter.convertTime(value, attribute, productType)),
+            step(ofLocalTimeSet(), (converter, value, attribute, productType) -> converter.convertTimeSet(value, attribute, productType)),
+            step(ofLong(), (converter, value, attribute, productType) -> converter.convertLong(value, attribute, productType),
+                    (converter, attribute, productType) -> converter.isLong(attribute, productType)),
+            step(ofLongSet(), (converter, value, attribute, productType) -> converter.convertLongSet(value, attribute, productType),
+                    (converter, attribute, productType) -> converter.isLongSet(attribute, productType)),
+            step(ofMoney(), (converter, value, attribute, productType) -> converter.convertMoney(value, attribute, productType)),
+            step(ofMoneySet(), (converter, value, attribute, productType) -> converter.convertMoneySet(value, attribute, productType)),
+            step(ofProductReference(), (converter, value, attribute, productType) -> converter.convertProductReference(value, attribute, productType)),
+            step(ofProductReferenceSet(), (converter, value, attribute, productType) -> converter.convertProductReferenceSet(value, attribute, productType)),
+            step(ofProductTypeReference(), (converter, value, attribute, productType) -> converter.convertProductTypeReference(value, attribute, productType)),
+            step(ofProductTypeReferenceSet(), (converter, value, attribute, productType) -> converter.convertProductTypeReferenceSet(value, attribute, productType)),
+            step(ofString(), (converter, value, attribute, productType) -> converter.convertString(value, attribute, productType)),
+            step(ofStringSet(), (converter, value, attribute, productType) -> converter.convertStringSet(value, attribute, productType)),
+            step(ofTime(), (converter, value, attribute, productType) -> converter.convertTime(value, attribute, productType)),
+            step(ofTimeSet(), (converter, value, attribute, productType) -> converter.convertTimeSet(value, attribute, productType)),
+
+            //double is fallback if not int or long are used
+            step(ofDouble(), (converter, value, attribute, productType) -> converter.convertDouble(value, attribute, productType)),
+            step(ofDoubleSet(), (converter, value, attribute, productType) -> converter.convertDoubleSet(value, attribute, productType))
+    );
+
     private final ProductTypeLocalRepository productTypes;
+    /**
+     * The compiled product types by ID. An entry is only used for the product type instance it was compiled from
+     * and is replaced if another instance with the same ID is converted, so there is at most one entry per ID.
+     * Transient to exclude it from equals, hashCode and toString.
+     */
+    private final transient Map<String, CompiledProductType> compiledProductTypes = new ConcurrentHashMap<>();
 
     protected ProductAttributeConverterBase(final ProductTypeLocalRepository productTypes) {
         this.productTypes = productTypes;
@@ -40,47 +88,40 @@ public abstract class ProductAttributeConverterBase<T> extends Base implements P
         return productTypeOptional.map(pt -> convertWithProductType(attribute, pt)).orElse(null);
     }
 
+    /**
+     * Converts an attribute with the first step of the conversion chain which can handle the attribute definition and returns a value.
+     * The steps which can handle an attribute definition are determined once per product type instance,
+     * so the conversion is a lookup of the attribute name followed by the direct call of the conversion method,
+     * the {@code isInteger} like checks are still evaluated for each attribute.
+     *
+     * @param attribute the attribute to convert
+     * @param productType the product type of the attribute
+     * @return the converted value or null
+     */
+    @Nullable
     protected T convertWithProductType(final Attribute attribute, final ProductType productType) {
-        return AttributeExtraction.<T>of(productType, attribute)
-                .ifIs(ofBoolean(), v -> convertBoolean(v, attribute, productType))
-                .ifIs(ofBooleanSet(), v -> convertBooleanSet(v, attribute, productType))
-                .ifIs(ofCategoryReference(), v -> convertCategoryReference(v, attribute, productType))
-                .ifIs(ofCategoryReferenceSet(), v -> convertCategoryReferenceSet(v, attribute, productType))
-                .ifIs(ofChannelReference(), v -> convertChannelReference(v, attribute, productType))
-                .ifIs(ofChannelReferenceSet(), v -> convertChannelReferenceSet(v, attribute, productType))
-                .ifIs(ofDate(), v -> convertDate(v, attribute, productType))
-                .ifIs(ofDateSet(), v -> convertDateSet(v, attribute, productType))
-                .ifIs(ofDateTime(), v -> convertDateTime(v, attribute, productType))
-                .ifIs(ofDateTimeSet(), v -> convertDateTimeSet(v, attribute, productType))
-                .ifIs(ofEnumValue(), v -> convertEnumValue(v, attribute, productType))
-                .ifIs(ofEnumValueSet(), v -> convertEnumValueSet(v, attribute, productType))
-                .ifIs(ofInteger(), v -> convertInteger(v, attribute, productType), value -> isInteger(attribute, productType))
-                .ifIs(ofIntegerSet(), v -> convertIntegerSet(v, attribute, productType), value -> isIntegerSet(attribute, productType))
-                .ifIs(ofLocalizedEnumValue(), v -> convertLocalizedEnumValue(v, attribute, productType))
-                .ifIs(ofLocalizedEnumValueSet(), v -> convertLocalizedEnumValueSet(v, attribute, productType))
-                .ifIs(ofLocalizedString(), v -> convertLocalizedString(v, attribute, productType))
-                .ifIs(ofLocalizedStringSet(), v -> convertLocalizedStringSet(v, attribute, productType))
-                .ifIs(ofLocalTime(), v -> convertTime(v, attribute, productType))
-                .ifIs(ofLocalTimeSet(), v -> convertTimeSet(v, attribute, productType))
-                .ifIs(ofLong(), v -> convertLong(v, attribute, productType), value -> isLong(attribute, productType))
-                .ifIs(ofLongSet(), v -> convertLongSet(v, attribute, productType), value -> isLongSet(attribute, productType))
-                .ifIs(ofMoney(), v -> convertMoney(v, attribute, productType))
-                .ifIs(ofMoneySet(), v -> convertMoneySet(v, attribute, productType))
-                .ifIs(ofProductReference(), v -> convertProductReference(v, attribute, productType))
-                .ifIs(ofProductReferenceSet(), v -> convertProductReferenceSet(v, attribute, productType))
-                .ifIs(ofProductTypeReference(), v -> convertProductTypeReference(v, attribute, productType))
-                .ifIs(ofProductTypeReferenceSet(), v -> convertProductTypeReferenceSet(v, attribute, productType))
-                .ifIs(ofString(), v -> convertString(v, attribute, productType))
-                .ifIs(ofStringSet(), v -> convertStringSet(v, attribute, productType))
-                .ifIs(ofTime(), v -> convertTime(v, attribute, productType))
-                .ifIs(ofTimeSet(), v -> convertTimeSet(v, attribute, productType))
-
-                //double is fallback if not int or long are used
-                .ifIs(ofDouble(), v -> convertDouble(v, attribute, productType))
-                .ifIs(ofDoubleSet(), v -> convertDoubleSet(v, attribute, productType))
-
-                .findValue()
-                .orElse(null);
+        return convertWithCompiledProductType(attribute, compile(productType));
+    }
+
+    @Nullable
+    private T convertWithCompiledProductType(final Attribute attribute, final CompiledProductType compiledProductType) {
+        for (final ConversionStep<?> step : compiledProductType.findSteps(attribute.getName())) {
+            final T value = step.convert(this, attribute, compiledProductType.productType);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private CompiledProductType compile(final ProductType productType) {
+        final CompiledProductType cached = compiledProductTypes.get(productType.getId());
+        if (cached != null && cached.productType == productType) {
+            return cached;
+        }
+        final CompiledProductType compiled = CompiledProductType.of(productType);
+        compiledProductTypes.put(productType.getId(), compiled);
+        return compiled;
     }
 
     @Nullable
@@ -210,4 +251,75 @@ public abstract class ProductAttributeConverterBase<T> extends Base implements P
 
     @Nullable
     protected abstract T convertBoolean(final Boolean booleanValue, final Attribute attribute, final ProductType productType);
+
+    private static <A> ConversionStep<A> step(final AttributeAccess<A> access, final ConversionFunction<A> function) {
+        return new ConversionStep<>(access, function, null);
+    }
+
+    private static <A> ConversionStep<A> step(final AttributeAccess<A> access, final ConversionFunction<A> function, final ConversionGuard guard) {
+        return new ConversionStep<>(access, function, guard);
+    }
+
+    @FunctionalInterface
+    private interface ConversionFunction<A> {
+        @Nullable
+        Object convert(ProductAttributeConverterBase<?> converter, A value, Attribute attribute, ProductType productType);
+    }
+
+    @FunctionalInterface
+    private interface ConversionGuard {
+        boolean test(ProductAttributeConverterBase<?> converter, Attribute attribute, ProductType productType);
+    }
+
+    private static final class ConversionStep<A> {
+        private final AttributeAccess<A> access;
+        private final ConversionFunction<A> function;
+        @Nullable
+        private final ConversionGuard guard;
+
+        private ConversionStep(final AttributeAccess<A> access, final ConversionFunction<A> function, @Nullable final ConversionGuard guard) {
+            this.access = access;
+            this.function = function;
+            this.guard = guard;
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private <T> T convert(final ProductAttributeConverterBase<T> converter, final Attribute attribute, final ProductType productType) {
+            if (guard != null && !guard.test(converter, attribute, productType)) {
+                return null;
+            }
+            return (T) function.convert(converter, attribute.getValue(access), attribute, productType);
+        }
+    }
+
+    /**
+     * The conversion steps for each attribute definition of a product type.
+     */
+    private static final class CompiledProductType {
+        private final ProductType productType;
+        private final Map<String, List<ConversionStep<?>>> stepsByAttributeName;
+
+        private CompiledProductType(final ProductType productType, final Map<String, List<ConversionStep<?>>> stepsByAttributeName) {
+            this.productType = productType;
+            this.stepsByAttributeName = stepsByAttributeName;
+        }
+
+        private List<ConversionStep<?>> findSteps(final String attributeName) {
+            return stepsByAttributeName.getOrDefault(attributeName, Collections.emptyList());
+        }
+
+        private static CompiledProductType of(final ProductType productType) {
+            final Map<String, List<ConversionStep<?>>> stepsByAttributeName = new HashMap<>();
+            for (final AttributeDefinition attributeDefinition : productType.getAttributes()) {
+                if (attributeDefinition.getName() != null && !stepsByAttributeName.containsKey(attributeDefinition.getName())) {
+                    final List<ConversionStep<?>> steps = CONVERSION_STEPS.stream()
+                            .filter(step -> step.access.canHandle(attributeDefinition))
+                            .collect(toList());
+                    stepsByAttributeName.put(attributeDefinition.getName(), steps);
+                }
+            }
+            return new CompiledProductType(productType, stepsByAttributeName);
+        }
+    }
 }
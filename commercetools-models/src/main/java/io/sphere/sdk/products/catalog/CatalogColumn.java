@@ -0,0 +1,63 @@
+package io.sphere.sdk.products.catalog;
+
+import io.sphere.sdk.search.RangeFacetResult;
+import io.sphere.sdk.search.TermFacetResult;
+import io.sphere.sdk.search.TermStats;
+
+import javax.annotation.Nullable;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The values of one search path for all variants of a {@link ProductCatalogSnapshot}.
+ *
+ * <p>The values of the variant with the row index {@code row} are stored from {@code offsets[row]} (inclusive)
+ * to {@code offsets[row + 1]} (exclusive) in the value array of the subclass.</p>
+ */
+abstract class CatalogColumn {
+    protected final int[] offsets;
+
+    protected CatalogColumn(final int[] offsets) {
+        this.offsets = offsets;
+    }
+
+    final boolean hasValues(final int row) {
+        return offsets[row] < offsets[row + 1];
+    }
+
+    final BitSet rowsWithValues() {
+        final BitSet rows = new BitSet();
+        for (int row = 0; row < offsets.length - 1; row++) {
+            if (hasValues(row)) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    abstract BitSet rowsWithTerms(List<String> terms);
+
+    abstract BitSet rowsInRanges(List<ValueRange> ranges);
+
+    abstract TermFacetResult termFacet(BitSet rows, int[] productOfRow, boolean countingProducts);
+
+    abstract RangeFacetResult rangeFacet(BitSet rows, int[] productOfRow, List<ValueRange> ranges, boolean countingProducts);
+
+    /**
+     * Creates the result of a term facet with the terms ordered by descending count and ascending term.
+     */
+    protected static TermFacetResult termFacetResult(final long missing, final long total, final String[] terms, final long[] counts,
+                                                     @Nullable final long[] productCounts) {
+        final List<TermStats> termStats = IntStream.range(0, terms.length)
+                .filter(i -> counts[i] > 0)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(i -> -counts[i]).thenComparing(i -> terms[i]))
+                .map(i -> TermStats.of(terms[i], counts[i], productCounts != null ? productCounts[i] : null))
+                .collect(toList());
+        return TermFacetResult.of(missing, total, 0L, termStats);
+    }
+}
@@ -0,0 +1,253 @@
+package io.sphere.sdk.products.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.sphere.sdk.models.Reference;
+import io.sphere.sdk.products.Price;
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.products.ProductVariant;
+import io.sphere.sdk.products.attributes.Attribute;
+import io.sphere.sdk.products.attributes.AttributeAccess;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+import static io.sphere.sdk.utils.MoneyImpl.centAmountOf;
+
+/**
+ * Collects the values of the variants row by row and converts them into columns.
+ *
+ * <p>The search paths follow the product projection search API: {@code id}, {@code key}, {@code productType.id},
+ * {@code categories.id}, {@code variants.sku}, {@code variants.key}, {@code variants.price.centAmount},
+ * {@code variants.price.currencyCode} and {@code variants.attributes.<name>} with the sub paths of the attribute type,
+ * for example {@code .key} and {@code .label} for enums, {@code .<language>} for localized strings,
+ * {@code .centAmount} and {@code .currencyCode} for money and {@code .id} for references. The cent amounts of the prices
+ * are also stored per currency, for example in {@code variants.price.centAmount.EUR}, so a filter can check the amount
+ * of the price in one currency.</p>
+ *
+ * <p>Numbers are stored as unscaled longs with the largest scale of the column, a column with a number which does not fit
+ * into a long with this scale stores {@link BigDecimal}s instead.</p>
+ */
+final class CatalogColumnsBuilder {
+    private static final AttributeAccess<JsonNode> JSON_NODE = AttributeAccess.ofJsonNode();
+
+    private final Map<String, PathValues> valuesByPath = new LinkedHashMap<>();
+    private int[] productOfRow = new int[16];
+    private int rowCount = 0;
+
+    void addProduct(final ProductProjection product, final int productIndex) {
+        for (final ProductVariant variant : product.getAllVariants()) {
+            final int row = addRow(productIndex);
+            add("id", row, product.getId());
+            addIfPresent("key", row, product.getKey());
+            add("productType.id", row, product.getProductType().getId());
+            for (final Reference<?> category : product.getCategories()) {
+                add("categories.id", row, category.getId());
+            }
+            addIfPresent("variants.sku", row, variant.getSku());
+            addIfPresent("variants.key", row, variant.getKey());
+            for (final Price price : variant.getPrices()) {
+                final BigDecimal centAmount = BigDecimal.valueOf(centAmountOf(price.getValue()));
+                final String currencyCode = price.getValue().getCurrency().getCurrencyCode();
+                add("variants.price.centAmount", row, centAmount);
+                add("variants.price.centAmount." + currencyCode, row, centAmount);
+                add("variants.price.currencyCode", row, currencyCode);
+            }
+            for (final Attribute attribute : variant.getAttributes()) {
+                addJson("variants.attributes." + attribute.getName(), row, attribute.getValue(JSON_NODE));
+            }
+        }
+    }
+
+    private int addRow(final int productIndex) {
+        if (rowCount == productOfRow.length) {
+            productOfRow = Arrays.copyOf(productOfRow, rowCount * 2);
+        }
+        productOfRow[rowCount] = productIndex;
+        return rowCount++;
+    }
+
+    private void addJson(final String path, final int row, final JsonNode value) {
+        if (value.isArray()) {
+            value.forEach(element -> addJson(path, row, element));
+        } else if (value.isTextual()) {
+            add(path, row, value.asText());
+        } else if (value.isBoolean()) {
+            add(path, row, value.asBoolean() ? "true" : "false");
+        } else if (value.isNumber()) {
+            add(path, row, value.decimalValue());
+        } else if (value.isObject()) {
+            if (value.has("key")) {
+                addJson(path + ".key", row, value.get("key"));
+                if (value.has("label")) {
+                    addJson(path + ".label", row, value.get("label"));
+                }
+            } else if (value.has("centAmount")) {
+                addJson(path + ".centAmount", row, value.get("centAmount"));
+                addJson(path + ".currencyCode", row, value.path("currencyCode"));
+            } else if (value.has("typeId") && value.has("id")) {
+                addJson(path + ".id", row, value.get("id"));
+            } else {
+                value.fields().forEachRemaining(field -> {
+                    if (field.getValue().isTextual()) {
+                        add(path + "." + field.getKey(), row, field.getValue().asText());
+                    }
+                });
+            }
+        }
+    }
+
+    private void addIfPresent(final String path, final int row, final String value) {
+        if (value != null) {
+            add(path, row, value);
+        }
+    }
+
+    private void add(final String path, final int row, final Object value) {
+        valuesByPath.computeIfAbsent(path, p -> new PathValues()).add(row, value);
+    }
+
+    int[] getProductOfRow() {
+        return Arrays.copyOf(productOfRow, rowCount);
+    }
+
+    Map<String, CatalogColumn> build() {
+        final Map<String, CatalogColumn> columns = new HashMap<>();
+        valuesByPath.forEach((path, values) -> {
+            if (values.hasText) {
+                columns.put(path, buildTermColumn(path, values));
+            } else {
+                final CatalogColumn numericColumn = buildNumericColumnOrNull(path, values);
+                columns.put(path, numericColumn != null ? numericColumn : buildDecimalColumn(path, values));
+            }
+        });
+        return columns;
+    }
+
+    private TermColumn buildTermColumn(final String path, final PathValues values) {
+        final List<String> terms = new ArrayList<>();
+        final Map<String, Integer> termIds = new HashMap<>();
+        final int[] offsets = new int[rowCount + 1];
+        final int[] termIdsOfRows = new int[values.size];
+        int size = 0;
+        int rowStart = 0;
+        for (int i = 0; i < values.size; i++) {
+            if (i > 0 && values.rows[i] != values.rows[i - 1]) {
+                rowStart = size;
+            }
+            final Object value = values.values.get(i);
+            final String term = value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : (String) value;
+            final int termId = termIds.computeIfAbsent(term, t -> {
+                terms.add(t);
+                return terms.size() - 1;
+            });
+            if (!contains(termIdsOfRows, rowStart, size, termId)) {
+                termIdsOfRows[size++] = termId;
+                offsets[values.rows[i] + 1]++;
+            }
+        }
+        accumulate(offsets);
+        return new TermColumn(path, terms.toArray(new String[terms.size()]), termIds, offsets, Arrays.copyOf(termIdsOfRows, size));
+    }
+
+    /**
+     * Builds a numeric column or returns null if a value does not fit into a long with the largest scale of the values.
+     */
+    @Nullable
+    private NumericColumn buildNumericColumnOrNull(final String path, final PathValues values) {
+        int scale = 0;
+        for (int i = 0; i < values.size; i++) {
+            scale = Math.max(scale, ((BigDecimal) values.values.get(i)).stripTrailingZeros().scale());
+        }
+        final int[] offsets = new int[rowCount + 1];
+        final long[] unscaledValues = new long[values.size];
+        int size = 0;
+        int rowStart = 0;
+        for (int i = 0; i < values.size; i++) {
+            if (i > 0 && values.rows[i] != values.rows[i - 1]) {
+                rowStart = size;
+            }
+            final long value;
+            try {
+                value = ((BigDecimal) values.values.get(i)).setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            } catch (final ArithmeticException e) {
+                return null;
+            }
+            if (!contains(unscaledValues, rowStart, size, value)) {
+                unscaledValues[size++] = value;
+                offsets[values.rows[i] + 1]++;
+            }
+        }
+        accumulate(offsets);
+        return new NumericColumn(path, offsets, Arrays.copyOf(unscaledValues, size), scale);
+    }
+
+    private DecimalColumn buildDecimalColumn(final String path, final PathValues values) {
+        final int[] offsets = new int[rowCount + 1];
+        final BigDecimal[] decimalValues = new BigDecimal[values.size];
+        int size = 0;
+        int rowStart = 0;
+        for (int i = 0; i < values.size; i++) {
+            if (i > 0 && values.rows[i] != values.rows[i - 1]) {
+                rowStart = size;
+            }
+            final BigDecimal value = ((BigDecimal) values.values.get(i)).stripTrailingZeros();
+            if (!contains(decimalValues, rowStart, size, value)) {
+                decimalValues[size++] = value;
+                offsets[values.rows[i] + 1]++;
+            }
+        }
+        accumulate(offsets);
+        return new DecimalColumn(path, offsets, Arrays.copyOf(decimalValues, size));
+    }
+
+    private static boolean contains(final int[] values, final int from, final int to, final int value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(final long[] values, final int from, final int to, final long value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(final BigDecimal[] values, final int from, final int to, final BigDecimal value) {
+        for (int i = from; i < to; i++) {
+            if (values[i].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void accumulate(final int[] offsets) {
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+    }
+
+    private static final class PathValues {
+        private int[] rows = new int[4];
+        private final List<Object> values = new ArrayList<>();
+        private int size = 0;
+        private boolean hasText = false;
+
+        private void add(final int row, final Object value) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+            values.add(value);
+            hasText |= value instanceof String;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.sphere.sdk.products.catalog;
+
+import io.sphere.sdk.search.RangeFacetResult;
+import io.sphere.sdk.search.TermFacetResult;
+import io.sphere.sdk.search.model.RangeStats;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.*;
+
+import static java.lang.String.format;
+
+/**
+ * Column of numbers which do not fit into a {@link NumericColumn}, since a value is too large for a long with the scale of the column.
+ * The values are stored as {@link BigDecimal}s and compared by their numeric value, so filters and facets work like for a {@link NumericColumn}.
+ */
+final class DecimalColumn extends CatalogColumn {
+    private final String path;
+    private final BigDecimal[] values;
+    private final String[] terms;
+    private final int[] termIdsOfValues;
+
+    DecimalColumn(final String path, final int[] offsets, final BigDecimal[] values) {
+        super(offsets);
+        this.path = path;
+        this.values = values;
+        final BigDecimal[] distinctValues = Arrays.stream(values).sorted().distinct().toArray(BigDecimal[]::new);
+        this.terms = Arrays.stream(distinctValues).map(DecimalColumn::formatValue).toArray(String[]::new);
+        this.termIdsOfValues = Arrays.stream(values).mapToInt(value -> Arrays.binarySearch(distinctValues, value)).toArray();
+    }
+
+    @Override
+    BitSet rowsWithTerms(final List<String> terms) {
+        final Set<BigDecimal> numbers = new HashSet<>();
+        for (final String term : terms) {
+            final BigDecimal number = parseOrNull(term);
+            if (number != null) {
+                numbers.add(number.stripTrailingZeros());
+            }
+        }
+        final BitSet rows = new BitSet();
+        for (int row = 0; row < offsets.length - 1; row++) {
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                if (numbers.contains(values[i])) {
+                    rows.set(row);
+                    break;
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    BitSet rowsInRanges(final List<ValueRange> ranges) {
+        final List<BigDecimal> lowerBounds = bounds(ranges, true);
+        final List<BigDecimal> upperBounds = bounds(ranges, false);
+        final BitSet rows = new BitSet();
+        for (int row = 0; row < offsets.length - 1; row++) {
+            for (int i = offsets[row]; i < offsets[row + 1] && !rows.get(row); i++) {
+                for (int range = 0; range < ranges.size(); range++) {
+                    if (isAtLeast(values[i], lowerBounds.get(range)) && isAtMost(values[i], upperBounds.get(range), false)) {
+                        rows.set(row);
+                        break;
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    TermFacetResult termFacet(final BitSet rows, final int[] productOfRow, final boolean countingProducts) {
+        final long[] counts = new long[terms.length];
+        final long[] productCounts = new long[terms.length];
+        final int[] lastProducts = new int[terms.length];
+        Arrays.fill(lastProducts, -1);
+        long missing = 0;
+        long total = 0;
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (hasValues(row)) {
+                total++;
+                for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                    final int termId = termIdsOfValues[i];
+                    counts[termId]++;
+                    if (lastProducts[termId] != productOfRow[row]) {
+                        lastProducts[termId] = productOfRow[row];
+                        productCounts[termId]++;
+                    }
+                }
+            } else {
+                missing++;
+            }
+        }
+        return termFacetResult(missing, total, terms, counts, countingProducts ? productCounts : null);
+    }
+
+    @Override
+    RangeFacetResult rangeFacet(final BitSet rows, final int[] productOfRow, final List<ValueRange> ranges, final boolean countingProducts) {
+        final List<BigDecimal> lowerBounds = bounds(ranges, true);
+        final List<BigDecimal> upperBounds = bounds(ranges, false);
+        final List<RangeStats> rangeStats = new ArrayList<>(ranges.size());
+        for (int range = 0; range < ranges.size(); range++) {
+            long count = 0;
+            long productCount = 0;
+            int lastProduct = -1;
+            BigDecimal min = null;
+            BigDecimal max = null;
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                    final BigDecimal value = values[i];
+                    if (isAtLeast(value, lowerBounds.get(range)) && isAtMost(value, upperBounds.get(range), true)) {
+                        count++;
+                        min = min == null || value.compareTo(min) < 0 ? value : min;
+                        max = max == null || value.compareTo(max) > 0 ? value : max;
+                        sum = sum.add(value);
+                        if (lastProduct != productOfRow[row]) {
+                            lastProduct = productOfRow[row];
+                            productCount++;
+                        }
+                    }
+                }
+            }
+            final double mean = count > 0 ? sum.doubleValue() / count : 0.0;
+            rangeStats.add(RangeStats.of(ranges.get(range).getLowerEndpoint(), ranges.get(range).getUpperEndpoint(), count,
+                    countingProducts ? productCount : null, formatValue(min != null ? min : BigDecimal.ZERO),
+                    formatValue(max != null ? max : BigDecimal.ZERO), formatValue(sum), mean));
+        }
+        return RangeFacetResult.of(rangeStats);
+    }
+
+    /**
+     * Parses the lower or upper endpoints of the ranges, null stands for an unbound endpoint.
+     */
+    private List<BigDecimal> bounds(final List<ValueRange> ranges, final boolean lower) {
+        final List<BigDecimal> bounds = new ArrayList<>(ranges.size());
+        for (final ValueRange range : ranges) {
+            final String endpoint = lower ? range.getLowerEndpoint() : range.getUpperEndpoint();
+            final BigDecimal bound = endpoint == null ? null : parseOrNull(endpoint);
+            if (endpoint != null && bound == null) {
+                throw new IllegalArgumentException(format("The range endpoint %s for %s is not a number.", endpoint, path));
+            }
+            bounds.add(bound);
+        }
+        return bounds;
+    }
+
+    private static boolean isAtLeast(final BigDecimal value, @Nullable final BigDecimal lowerBound) {
+        return lowerBound == null || value.compareTo(lowerBound) >= 0;
+    }
+
+    /**
+     * Checks the upper bound, which is inclusive for filters and exclusive for facets like in the search API.
+     */
+    private static boolean isAtMost(final BigDecimal value, @Nullable final BigDecimal upperBound, final boolean exclusive) {
+        return upperBound == null || (exclusive ? value.compareTo(upperBound) < 0 : value.compareTo(upperBound) <= 0);
+    }
+
+    private static String formatValue(final BigDecimal value) {
+        return value.stripTrailingZeros().toPlainString();
+    }
+
+    @Nullable
+    private static BigDecimal parseOrNull(final String number) {
+        try {
+            return new BigDecimal(number);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+}
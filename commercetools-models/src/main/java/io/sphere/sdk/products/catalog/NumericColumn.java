@@ -0,0 +1,187 @@
+package io.sphere.sdk.products.catalog;
+
+import io.sphere.sdk.search.RangeFacetResult;
+import io.sphere.sdk.search.TermFacetResult;
+import io.sphere.sdk.search.model.RangeStats;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.*;
+
+import static java.lang.String.format;
+
+/**
+ * Column of numbers like cent amounts, stored as unscaled longs with a fixed scale for the whole column.
+ * The distinct values are sorted into a dictionary for term facets.
+ */
+final class NumericColumn extends CatalogColumn {
+    private final String path;
+    private final long[] values;
+    private final int scale;
+    private final String[] terms;
+    private final int[] termIdsOfValues;
+
+    NumericColumn(final String path, final int[] offsets, final long[] values, final int scale) {
+        super(offsets);
+        this.path = path;
+        this.values = values;
+        this.scale = scale;
+        final long[] distinctValues = Arrays.stream(values).sorted().distinct().toArray();
+        this.terms = Arrays.stream(distinctValues).mapToObj(this::formatValue).toArray(String[]::new);
+        this.termIdsOfValues = Arrays.stream(values).mapToInt(value -> Arrays.binarySearch(distinctValues, value)).toArray();
+    }
+
+    @Override
+    BitSet rowsWithTerms(final List<String> terms) {
+        final Set<Long> unscaledTerms = new HashSet<>();
+        for (final String term : terms) {
+            final BigDecimal number = parseOrNull(term);
+            if (number != null) {
+                try {
+                    unscaledTerms.add(number.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+                } catch (final ArithmeticException e) {
+                    //the term has more decimal places than the values or is too large, so no value can match
+                }
+            }
+        }
+        final BitSet rows = new BitSet();
+        for (int row = 0; row < offsets.length - 1; row++) {
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                if (unscaledTerms.contains(values[i])) {
+                    rows.set(row);
+                    break;
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    BitSet rowsInRanges(final List<ValueRange> ranges) {
+        final long[] lowerBounds = lowerBounds(ranges);
+        final long[] upperBounds = upperBounds(ranges, false);
+        final BitSet rows = new BitSet();
+        for (int row = 0; row < offsets.length - 1; row++) {
+            for (int i = offsets[row]; i < offsets[row + 1] && !rows.get(row); i++) {
+                for (int range = 0; range < lowerBounds.length; range++) {
+                    if (lowerBounds[range] <= values[i] && values[i] <= upperBounds[range]) {
+                        rows.set(row);
+                        break;
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    TermFacetResult termFacet(final BitSet rows, final int[] productOfRow, final boolean countingProducts) {
+        final long[] counts = new long[terms.length];
+        final long[] productCounts = new long[terms.length];
+        final int[] lastProducts = new int[terms.length];
+        Arrays.fill(lastProducts, -1);
+        long missing = 0;
+        long total = 0;
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (hasValues(row)) {
+                total++;
+                for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                    final int termId = termIdsOfValues[i];
+                    counts[termId]++;
+                    if (lastProducts[termId] != productOfRow[row]) {
+                        lastProducts[termId] = productOfRow[row];
+                        productCounts[termId]++;
+                    }
+                }
+            } else {
+                missing++;
+            }
+        }
+        return termFacetResult(missing, total, terms, counts, countingProducts ? productCounts : null);
+    }
+
+    @Override
+    RangeFacetResult rangeFacet(final BitSet rows, final int[] productOfRow, final List<ValueRange> ranges, final boolean countingProducts) {
+        final long[] lowerBounds = lowerBounds(ranges);
+        final long[] upperBounds = upperBounds(ranges, true);
+        final List<RangeStats> rangeStats = new ArrayList<>(ranges.size());
+        for (int range = 0; range < ranges.size(); range++) {
+            long count = 0;
+            long productCount = 0;
+            int lastProduct = -1;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            long sum = 0;
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                    final long value = values[i];
+                    if (lowerBounds[range] <= value && value <= upperBounds[range]) {
+                        count++;
+                        min = Math.min(min, value);
+                        max = Math.max(max, value);
+                        sum += value;
+                        if (lastProduct != productOfRow[row]) {
+                            lastProduct = productOfRow[row];
+                            productCount++;
+                        }
+                    }
+                }
+            }
+            final double mean = count > 0 ? BigDecimal.valueOf(sum, scale).doubleValue() / count : 0.0;
+            rangeStats.add(RangeStats.of(ranges.get(range).getLowerEndpoint(), ranges.get(range).getUpperEndpoint(), count,
+                    countingProducts ? productCount : null, formatValue(count > 0 ? min : 0), formatValue(count > 0 ? max : 0), formatValue(sum), mean));
+        }
+        return RangeFacetResult.of(rangeStats);
+    }
+
+    private long[] lowerBounds(final List<ValueRange> ranges) {
+        return ranges.stream()
+                .mapToLong(range -> range.getLowerEndpoint() == null ? Long.MIN_VALUE : unscaled(range.getLowerEndpoint(), RoundingMode.CEILING))
+                .toArray();
+    }
+
+    /**
+     * Gets the upper bounds of the ranges, which are inclusive for filters and exclusive for facets like in the search API.
+     */
+    private long[] upperBounds(final List<ValueRange> ranges, final boolean exclusive) {
+        return ranges.stream()
+                .mapToLong(range -> {
+                    if (range.getUpperEndpoint() == null) {
+                        return Long.MAX_VALUE;
+                    } else if (exclusive) {
+                        final long bound = unscaled(range.getUpperEndpoint(), RoundingMode.CEILING);
+                        return bound == Long.MIN_VALUE ? bound : bound - 1;
+                    } else {
+                        return unscaled(range.getUpperEndpoint(), RoundingMode.FLOOR);
+                    }
+                })
+                .toArray();
+    }
+
+    private long unscaled(final String endpoint, final RoundingMode roundingMode) {
+        final BigDecimal number = parseOrNull(endpoint);
+        if (number == null) {
+            throw new IllegalArgumentException(format("The range endpoint %s for %s is not a number.", endpoint, path));
+        }
+        final BigInteger unscaledValue = number.setScale(scale, roundingMode).unscaledValue();
+        if (unscaledValue.bitLength() > 63) {
+            return unscaledValue.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return unscaledValue.longValue();
+    }
+
+    private String formatValue(final long unscaledValue) {
+        return BigDecimal.valueOf(unscaledValue, scale).stripTrailingZeros().toPlainString();
+    }
+
+    @Nullable
+    private static BigDecimal parseOrNull(final String number) {
+        try {
+            return new BigDecimal(number);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+}
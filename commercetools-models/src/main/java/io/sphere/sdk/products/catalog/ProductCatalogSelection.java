@@ -0,0 +1,112 @@
+package io.sphere.sdk.products.catalog;
+
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.search.FilterExpression;
+import io.sphere.sdk.search.RangeFacetExpression;
+import io.sphere.sdk.search.RangeFacetResult;
+import io.sphere.sdk.search.TermFacetExpression;
+import io.sphere.sdk.search.TermFacetResult;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static io.sphere.sdk.products.catalog.SearchExpressionValues.isCountingProducts;
+import static io.sphere.sdk.products.catalog.SearchExpressionValues.ranges;
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable set of variants of a {@link ProductCatalogSnapshot}, created by filters.
+ *
+ * <p>Facets count the values of the selected variants like the facets of the product projection search count the matching variants,
+ * the product counts are only calculated for expressions with "counting products". Term facets return all terms,
+ * so {@link TermFacetResult#getOther()} is always zero.</p>
+ */
+public final class ProductCatalogSelection {
+    private final ProductCatalogSnapshot snapshot;
+    private final BitSet rows;
+
+    ProductCatalogSelection(final ProductCatalogSnapshot snapshot, final BitSet rows) {
+        this.snapshot = snapshot;
+        this.rows = rows;
+    }
+
+    /**
+     * Narrows the selection to the variants which match all filters, the filters on the cent amount of the prices
+     * only check the prices in the currencies of the filters on {@code variants.price.currencyCode} of the list.
+     *
+     * @param filters the filters
+     * @return new selection
+     */
+    public ProductCatalogSelection filter(final List<? extends FilterExpression<ProductProjection>> filters) {
+        final BitSet filteredRows = (BitSet) rows.clone();
+        final List<String> priceCurrencies = ProductCatalogSnapshot.priceCurrencies(filters);
+        for (final FilterExpression<ProductProjection> filter : filters) {
+            filteredRows.and(snapshot.matchingRows(filter, priceCurrencies));
+        }
+        return new ProductCatalogSelection(snapshot, filteredRows);
+    }
+
+    /**
+     * Narrows the selection to the variants which match a filter.
+     *
+     * @param filter the filter
+     * @return new selection
+     */
+    public ProductCatalogSelection filter(final FilterExpression<ProductProjection> filter) {
+        return filter(singletonList(filter));
+    }
+
+    /**
+     * Gets the products with at least one selected variant in the order of the snapshot.
+     *
+     * @return products
+     */
+    public List<ProductProjection> getProducts() {
+        final int[] productOfRow = snapshot.productOfRow();
+        final List<ProductProjection> products = new ArrayList<>();
+        int lastProduct = -1;
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (productOfRow[row] != lastProduct) {
+                lastProduct = productOfRow[row];
+                products.add(snapshot.getProducts().get(lastProduct));
+            }
+        }
+        return Collections.unmodifiableList(products);
+    }
+
+    /**
+     * Gets the number of selected variants.
+     *
+     * @return number of variants
+     */
+    public int getVariantCount() {
+        return rows.cardinality();
+    }
+
+    /**
+     * Calculates a term facet for the selected variants.
+     *
+     * @param facetExpression the facet, for example {@code variants.attributes.color.key}
+     * @return the facet result
+     */
+    public TermFacetResult termFacet(final TermFacetExpression<ProductProjection> facetExpression) {
+        requireNonNull(facetExpression);
+        return snapshot.column(facetExpression.attributePath()).termFacet(rows, snapshot.productOfRow(), isCountingProducts(facetExpression));
+    }
+
+    /**
+     * Calculates a range facet for the selected variants, the path must contain numbers.
+     *
+     * @param facetExpression the facet, for example {@code variants.price.centAmount:range(0 to 1000),(1000 to *)}
+     * @return the facet result
+     * @throws IllegalArgumentException if the path contains text values
+     */
+    public RangeFacetResult rangeFacet(final RangeFacetExpression<ProductProjection> facetExpression) {
+        requireNonNull(facetExpression);
+        return snapshot.numericColumn(facetExpression.attributePath())
+                .rangeFacet(rows, snapshot.productOfRow(), ranges(facetExpression), isCountingProducts(facetExpression));
+    }
+}
@@ -0,0 +1,165 @@
+package io.sphere.sdk.products.catalog;
+
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.search.FilterExpression;
+
+import java.util.*;
+
+import static io.sphere.sdk.products.catalog.SearchExpressionValues.isExists;
+import static io.sphere.sdk.products.catalog.SearchExpressionValues.isMissing;
+import static io.sphere.sdk.products.catalog.SearchExpressionValues.isRange;
+import static io.sphere.sdk.products.catalog.SearchExpressionValues.ranges;
+import static io.sphere.sdk.products.catalog.SearchExpressionValues.terms;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Immutable in-memory copy of product projections to filter and facet them locally, for example as fallback of the product
+ * projection search or for recommendations.
+ *
+ * <p>The values of the variants are stored column by column per search path: text values are dictionary encoded with a bitmap
+ * of the variants for each distinct value, numbers like cent amounts are stored in long arrays. Filters and facets are given as
+ * {@link FilterExpression}, {@link io.sphere.sdk.search.TermFacetExpression} and {@link io.sphere.sdk.search.RangeFacetExpression}
+ * like for the product projection search, for example created with {@link io.sphere.sdk.products.search.ProductProjectionSearchModel},
+ * and the facet results are {@link io.sphere.sdk.search.TermFacetResult}s and {@link io.sphere.sdk.search.RangeFacetResult}s.</p>
+ *
+ * <p>Supported are terms and ranges on the paths {@code id}, {@code key}, {@code productType.id}, {@code categories.id},
+ * {@code variants.sku}, {@code variants.key}, {@code variants.price.centAmount}, {@code variants.price.currencyCode}
+ * and {@code variants.attributes.<name>} including sub paths like {@code .key} for enums or {@code .en} for localized strings.
+ * Like in the search API the ranges of filters include both endpoints and the ranges of facets exclude the upper endpoint,
+ * ranges of text values compare the terms as strings. The filters {@code :exists} and {@code :missing} are supported as well.
+ * A variant matches a filter if one of its values matches one of the terms or ranges, and a product matches if one of its
+ * variants matches all filters. Unknown paths match no variant.</p>
+ *
+ * <p>Filters on {@code variants.price.centAmount} check the prices of all currencies. If the same list of filters contains
+ * a filter on the terms of {@code variants.price.currencyCode}, they only check the prices in these currencies, which are
+ * also available as paths like {@code variants.price.centAmount.EUR} for filters and facets.</p>
+ *
+ * {@include.example io.sphere.sdk.products.catalog.ProductCatalogSnapshotTest#filterAndFacet()}
+ *
+ * @see ProductCatalogSelection
+ */
+public final class ProductCatalogSnapshot {
+    private static final String PRICE_CENT_AMOUNT = "variants.price.centAmount";
+    private static final String PRICE_CURRENCY_CODE = "variants.price.currencyCode";
+    private final List<ProductProjection> products;
+    private final int[] productOfRow;
+    private final Map<String, CatalogColumn> columns;
+    private final CatalogColumn emptyTermColumn;
+    private final CatalogColumn emptyNumericColumn;
+
+    private ProductCatalogSnapshot(final List<ProductProjection> products, final int[] productOfRow, final Map<String, CatalogColumn> columns) {
+        this.products = products;
+        this.productOfRow = productOfRow;
+        this.columns = columns;
+        this.emptyTermColumn = new TermColumn("", new String[0], Collections.emptyMap(), new int[productOfRow.length + 1], new int[0]);
+        this.emptyNumericColumn = new NumericColumn("", new int[productOfRow.length + 1], new long[0], 0);
+    }
+
+    /**
+     * Creates a snapshot of products, the order of the products is kept in the results.
+     *
+     * @param products the products to copy
+     * @return snapshot
+     */
+    public static ProductCatalogSnapshot of(final Collection<? extends ProductProjection> products) {
+        final List<ProductProjection> productList = Collections.unmodifiableList(new ArrayList<>(products));
+        final CatalogColumnsBuilder builder = new CatalogColumnsBuilder();
+        for (int i = 0; i < productList.size(); i++) {
+            builder.addProduct(productList.get(i), i);
+        }
+        return new ProductCatalogSnapshot(productList, builder.getProductOfRow(), builder.build());
+    }
+
+    /**
+     * Gets all products of the snapshot.
+     *
+     * @return products
+     */
+    public List<ProductProjection> getProducts() {
+        return products;
+    }
+
+    /**
+     * Gets a selection of all products, the starting point for filters and facets.
+     *
+     * @return selection of all variants
+     */
+    public ProductCatalogSelection all() {
+        final BitSet rows = new BitSet(productOfRow.length);
+        rows.set(0, productOfRow.length);
+        return new ProductCatalogSelection(this, rows);
+    }
+
+    /**
+     * Selects the products with a variant which matches all filters.
+     *
+     * @param filters the filters
+     * @return selection of the matching variants
+     */
+    public ProductCatalogSelection filter(final List<? extends FilterExpression<ProductProjection>> filters) {
+        return all().filter(filters);
+    }
+
+    /**
+     * Finds the rows matching a filter, filters on the cent amount of the prices are resolved to the columns of the currencies.
+     */
+    BitSet matchingRows(final FilterExpression<ProductProjection> filter, final List<String> priceCurrencies) {
+        requireNonNull(filter);
+        final String path = filter.attributePath();
+        if (isExists(filter)) {
+            return rowsWithValues(path);
+        } else if (isMissing(filter)) {
+            final BitSet rows = rowsWithValues(path);
+            rows.flip(0, productOfRow.length);
+            return rows;
+        } else if (PRICE_CENT_AMOUNT.equals(path) && !priceCurrencies.isEmpty()) {
+            final BitSet rows = new BitSet();
+            for (final String currency : priceCurrencies) {
+                rows.or(matchingRows(column(path + "." + currency), filter));
+            }
+            return rows;
+        }
+        return matchingRows(column(path), filter);
+    }
+
+    private static BitSet matchingRows(final CatalogColumn column, final FilterExpression<ProductProjection> filter) {
+        return isRange(filter) ? column.rowsInRanges(ranges(filter)) : column.rowsWithTerms(terms(filter));
+    }
+
+    /**
+     * Gets the currencies of the term filters on {@code variants.price.currencyCode}.
+     */
+    static List<String> priceCurrencies(final List<? extends FilterExpression<ProductProjection>> filters) {
+        return filters.stream()
+                .filter(filter -> PRICE_CURRENCY_CODE.equals(filter.attributePath()) && !isExists(filter) && !isMissing(filter) && !isRange(filter))
+                .flatMap(filter -> terms(filter).stream())
+                .distinct()
+                .collect(toList());
+    }
+
+    /**
+     * Finds the rows with a value for a path or one of its sub paths, like {@code .key} of an enum attribute.
+     */
+    private BitSet rowsWithValues(final String path) {
+        final BitSet rows = new BitSet();
+        columns.forEach((columnPath, column) -> {
+            if (columnPath.equals(path) || columnPath.startsWith(path + ".")) {
+                rows.or(column.rowsWithValues());
+            }
+        });
+        return rows;
+    }
+
+    CatalogColumn column(final String path) {
+        return columns.getOrDefault(path, emptyTermColumn);
+    }
+
+    CatalogColumn numericColumn(final String path) {
+        return columns.getOrDefault(path, emptyNumericColumn);
+    }
+
+    int[] productOfRow() {
+        return productOfRow;
+    }
+}
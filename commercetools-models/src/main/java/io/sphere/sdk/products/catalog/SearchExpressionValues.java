@@ -0,0 +1,108 @@
+package io.sphere.sdk.products.catalog;
+
+import io.sphere.sdk.search.SearchExpression;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * Parses the values of search expressions, which are either terms like {@code :"red","blue"} or ranges like {@code :range(0 to 100),(200 to *)}.
+ */
+final class SearchExpressionValues {
+    private static final String RANGE_PREFIX = ":range";
+    private static final String UNBOUND = "*";
+    private static final Pattern TERM = Pattern.compile("\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|[^,\"]*?)\\s*(,|$)");
+    private static final Pattern RANGE = Pattern.compile("\\s*\\(\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|[^\\s)]+)\\s+to\\s+(\"(?:[^\"\\\\]|\\\\.)*\"|[^\\s)]+)\\s*\\)\\s*(,|$)");
+    private static final String COUNTING_PRODUCTS = " counting products";
+
+    private SearchExpressionValues() {
+    }
+
+    static boolean isRange(final SearchExpression<?> expression) {
+        final String value = expression.value();
+        return value != null && value.startsWith(RANGE_PREFIX);
+    }
+
+    static boolean isExists(final SearchExpression<?> expression) {
+        return ":exists".equals(expression.value());
+    }
+
+    static boolean isMissing(final SearchExpression<?> expression) {
+        return ":missing".equals(expression.value());
+    }
+
+    static boolean isCountingProducts(final SearchExpression<?> expression) {
+        return expression.expression().endsWith(COUNTING_PRODUCTS);
+    }
+
+    static List<String> terms(final SearchExpression<?> expression) {
+        final String value = valueOf(expression);
+        if (!value.startsWith(":")) {
+            throw invalidValue(expression);
+        }
+        final List<String> terms = new ArrayList<>();
+        final Matcher matcher = TERM.matcher(value);
+        int position = 1;
+        while (position < value.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                throw invalidValue(expression);
+            }
+            terms.add(unquote(matcher.group(1)));
+            position = matcher.end();
+        }
+        if (terms.isEmpty()) {
+            throw invalidValue(expression);
+        }
+        return terms;
+    }
+
+    static List<ValueRange> ranges(final SearchExpression<?> expression) {
+        final String value = valueOf(expression);
+        if (!value.startsWith(RANGE_PREFIX)) {
+            throw invalidValue(expression);
+        }
+        final List<ValueRange> ranges = new ArrayList<>();
+        final Matcher matcher = RANGE.matcher(value);
+        int position = RANGE_PREFIX.length();
+        while (position < value.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                throw invalidValue(expression);
+            }
+            ranges.add(new ValueRange(endpoint(matcher.group(1)), endpoint(matcher.group(2))));
+            position = matcher.end();
+        }
+        if (ranges.isEmpty()) {
+            throw invalidValue(expression);
+        }
+        return ranges;
+    }
+
+    private static String valueOf(final SearchExpression<?> expression) {
+        final String value = expression.value();
+        if (value == null) {
+            throw invalidValue(expression);
+        }
+        final int countingProducts = value.indexOf(COUNTING_PRODUCTS);
+        return countingProducts >= 0 ? value.substring(0, countingProducts) : value;
+    }
+
+    @Nullable
+    private static String endpoint(final String endpoint) {
+        return UNBOUND.equals(endpoint) ? null : unquote(endpoint);
+    }
+
+    private static String unquote(final String term) {
+        return term.length() >= 2 && term.startsWith("\"") && term.endsWith("\"")
+                ? term.substring(1, term.length() - 1).replace("\\\"", "\"")
+                : term;
+    }
+
+    private static IllegalArgumentException invalidValue(final SearchExpression<?> expression) {
+        return new IllegalArgumentException(format("The value of the expression %s is neither a list of terms nor of ranges.", expression.expression()));
+    }
+}
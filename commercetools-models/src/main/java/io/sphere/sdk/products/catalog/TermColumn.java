@@ -0,0 +1,98 @@
+package io.sphere.sdk.products.catalog;
+
+import io.sphere.sdk.search.RangeFacetResult;
+import io.sphere.sdk.search.TermFacetResult;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Dictionary encoded column of text values. Each distinct term has an ID, the rows store the IDs of their terms
+ * and each term has a bitmap of the rows containing it.
+ */
+final class TermColumn extends CatalogColumn {
+    private final String path;
+    private final String[] terms;
+    private final Map<String, Integer> termIds;
+    private final int[] termIdsOfRows;
+    private final BitSet[] rowsByTerm;
+
+    TermColumn(final String path, final String[] terms, final Map<String, Integer> termIds, final int[] offsets, final int[] termIdsOfRows) {
+        super(offsets);
+        this.path = path;
+        this.terms = terms;
+        this.termIds = termIds;
+        this.termIdsOfRows = termIdsOfRows;
+        this.rowsByTerm = new BitSet[terms.length];
+        for (int termId = 0; termId < terms.length; termId++) {
+            rowsByTerm[termId] = new BitSet();
+        }
+        for (int row = 0; row < offsets.length - 1; row++) {
+            for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                rowsByTerm[termIdsOfRows[i]].set(row);
+            }
+        }
+    }
+
+    @Override
+    BitSet rowsWithTerms(final List<String> terms) {
+        final BitSet rows = new BitSet();
+        for (final String term : terms) {
+            final Integer termId = termIds.get(term);
+            if (termId != null) {
+                rows.or(rowsByTerm[termId]);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Finds the rows with a term within the ranges, the terms are compared as strings which works for ISO dates.
+     */
+    @Override
+    BitSet rowsInRanges(final List<ValueRange> ranges) {
+        final BitSet rows = new BitSet();
+        for (int termId = 0; termId < terms.length; termId++) {
+            final String term = terms[termId];
+            if (ranges.stream().anyMatch(range -> range.contains(term))) {
+                rows.or(rowsByTerm[termId]);
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    TermFacetResult termFacet(final BitSet rows, final int[] productOfRow, final boolean countingProducts) {
+        final long[] counts = new long[terms.length];
+        final long[] productCounts = new long[terms.length];
+        final int[] lastProducts = new int[terms.length];
+        Arrays.fill(lastProducts, -1);
+        long missing = 0;
+        long total = 0;
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (hasValues(row)) {
+                total++;
+                for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+                    final int termId = termIdsOfRows[i];
+                    counts[termId]++;
+                    if (lastProducts[termId] != productOfRow[row]) {
+                        lastProducts[termId] = productOfRow[row];
+                        productCounts[termId]++;
+                    }
+                }
+            } else {
+                missing++;
+            }
+        }
+        return termFacetResult(missing, total, terms, counts, countingProducts ? productCounts : null);
+    }
+
+    @Override
+    RangeFacetResult rangeFacet(final BitSet rows, final int[] productOfRow, final List<ValueRange> ranges, final boolean countingProducts) {
+        throw new IllegalArgumentException(format("Range facets need numeric values, but %s contains text.", path));
+    }
+}
@@ -0,0 +1,33 @@
+package io.sphere.sdk.products.catalog;
+
+import javax.annotation.Nullable;
+
+/**
+ * Range of a filter or facet expression like {@code (10 to *)}, the endpoints are unquoted and inclusive, null means unbounded.
+ */
+final class ValueRange {
+    @Nullable
+    private final String lowerEndpoint;
+    @Nullable
+    private final String upperEndpoint;
+
+    ValueRange(@Nullable final String lowerEndpoint, @Nullable final String upperEndpoint) {
+        this.lowerEndpoint = lowerEndpoint;
+        this.upperEndpoint = upperEndpoint;
+    }
+
+    @Nullable
+    String getLowerEndpoint() {
+        return lowerEndpoint;
+    }
+
+    @Nullable
+    String getUpperEndpoint() {
+        return upperEndpoint;
+    }
+
+    boolean contains(final String term) {
+        return (lowerEndpoint == null || lowerEndpoint.compareTo(term) <= 0)
+                && (upperEndpoint == null || upperEndpoint.compareTo(term) >= 0);
+    }
+}
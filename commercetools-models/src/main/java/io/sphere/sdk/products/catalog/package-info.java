@@ -0,0 +1,4 @@
+/**
+  Classes to filter and facet products locally with an in-memory snapshot of the catalog.
+ */
+package io.sphere.sdk.products.catalog;
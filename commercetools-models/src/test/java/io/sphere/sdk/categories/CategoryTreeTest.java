@@ -2,12 +2,14 @@ package io.sphere.sdk.categories;
 
 import io.sphere.sdk.categories.queries.CategoryQuery;
 import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.LocaleFallbackChain;
 import io.sphere.sdk.models.LocalizedString;
 import io.sphere.sdk.models.Reference;
 import io.sphere.sdk.models.Resource;
 import org.junit.Test;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -45,6 +47,19 @@ public class CategoryTreeTest {
         assertThat(tree.getRoots()).extracting(Resource::getId).containsOnly("A", "B", "C");
     }
 
+    @Test
+    public void treesWithTheSameCategoriesAreEqual() {
+        final List<Category> categories = createAbcCategoryTree().getAllAsFlatList();
+        final CategoryTree tree = CategoryTree.of(categories);
+        final CategoryTree other = CategoryTree.of(categories);
+        assertThat(tree).isEqualTo(other);
+        assertThat(tree.hashCode()).isEqualTo(other.hashCode());
+        assertThat(tree.toString()).contains("allAsFlatList").doesNotContain("forest");
+        final Category a = tree.findById("A").get();
+        assertThat(tree.getSubtree(singletonList(a))).isEqualTo(other.getSubtree(singletonList(a)));
+        assertThat(tree.getSubtree(singletonList(a))).isNotEqualTo(tree);
+    }
+
     @Test
     public void getAllAsFlatList() {
         final CategoryTree tree = createAbcCategoryTree();
@@ -283,6 +298,72 @@ public class CategoryTreeTest {
         assertThat(tree.getRootAncestor(a23)).isEqualTo(a);
     }
 
+    @Test
+    public void isDescendant() throws Exception {
+        final CategoryTree tree = createAbcCategoryTree();
+        final Category a = tree.findById("A").get();
+        final Category a2 = tree.findById("A-2").get();
+        final Category a23 = tree.findById("A-2-3").get();
+        final Category b1 = tree.findById("B-1").get();
+        assertThat(tree.isDescendant(a23, a)).isTrue();
+        assertThat(tree.isDescendant(a23, a2)).isTrue();
+        assertThat(tree.isDescendant(a2, a23)).isFalse();
+        assertThat(tree.isDescendant(a23, b1)).isFalse();
+        assertThat(tree.isDescendant(a, a)).isFalse();
+    }
+
+    @Test
+    public void subtreeOfLargeTree() throws Exception {
+        final List<Category> categories = new ArrayList<>();
+        Category parent = newOrphanCategory("level-0");
+        categories.add(parent);
+        for (int i = 1; i < 10_000; i++) {
+            final Category child = CategoryBuilder.of("level-" + i, en("name " + i), en("slug-" + i)).parent(parent).externalId("external-id-" + i).build();
+            categories.add(child);
+            parent = child;
+        }
+        final CategoryTree tree = CategoryTree.of(categories);
+        final Category deepCategory = tree.findById("level-9000").get();
+        assertThat(tree.getRootAncestor(deepCategory).getId()).isEqualTo("level-0");
+        assertThat(tree.isDescendant(deepCategory, tree.findById("level-10").get())).isTrue();
+
+        final CategoryTree subtree = tree.getSubtree(singletonList(tree.findById("level-5000").get()));
+        assertThat(subtree.getAllAsFlatList()).hasSize(5000);
+        assertThat(subtree.getAllAsFlatList().get(0).getId()).isEqualTo("level-5000");
+        assertThat(subtree.getAllAsFlatList().get(4999).getId()).isEqualTo("level-9999");
+        assertThat(subtree.findByExternalId("external-id-9000")).contains(deepCategory);
+        assertThat(subtree.findByExternalId("external-id-10")).isEmpty();
+        assertThat(subtree.getRootAncestor(deepCategory)).isEqualTo(deepCategory);
+    }
+
+    @Test
+    public void createInParallel() throws Exception {
+        final List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            final CategoryBuilder builder = CategoryBuilder.of("id-" + i, en("name " + i), en("slug-" + (i % 15_000)))
+                    .externalId("external-id-" + (i % 12_000));
+            categories.add(i < 100 ? builder.build() : builder.parent(categories.get(i / 100 - 1)).build());
+        }
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            final CategoryTree tree = CategoryTree.of(categories, forkJoinPool);
+            final CategoryTree sequentiallyCreatedTree = CategoryTree.of(categories);
+
+            assertThat(tree.getAllAsFlatList()).isEqualTo(categories);
+            assertThat(tree.getRoots()).isEqualTo(sequentiallyCreatedTree.getRoots());
+            assertThat(tree.findByExternalId("external-id-11")).contains(categories.get(11));
+            assertThat(tree.findBySlug(Locale.ENGLISH, "slug-11")).contains(categories.get(15_011));
+            for (final Category category : asList(categories.get(0), categories.get(150), categories.get(19_999))) {
+                assertThat(tree.findChildren(category)).isEqualTo(sequentiallyCreatedTree.findChildren(category));
+                assertThat(tree.getRootAncestor(category)).isEqualTo(sequentiallyCreatedTree.getRootAncestor(category));
+            }
+            final List<Category> duplicates = asList(categories.get(0), categories.get(1), categories.get(0));
+            assertThatThrownBy(() -> CategoryTree.of(duplicates, forkJoinPool)).isInstanceOf(IllegalStateException.class);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
     @Test
     public void searchById() throws Exception {
         final CategoryTree tree = CategoryTree.of(createCategoryHierarchyAsFlatList());
@@ -298,6 +379,14 @@ public class CategoryTreeTest {
         assertThat(tree.findBySlug(absentLocale, "slug-0bu")).isEqualTo(Optional.empty());
     }
 
+    @Test
+    public void searchBySlugWithLocaleFallbackChain() throws Exception {
+        final CategoryTree tree = CategoryTree.of(createCategoryHierarchyAsFlatList());
+        assertThat(tree.findBySlug(LocaleFallbackChain.of(Locale.GERMAN, new Locale(locale.getLanguage(), "US")), "slug-0bu").get().getId())
+                .isEqualTo("0bu");
+        assertThat(tree.findBySlug(LocaleFallbackChain.of(Locale.GERMAN), "slug-0bu")).isEmpty();
+    }
+
     @Test
     public void siblingsOfShoulderBags() throws Exception {
         test(singletonList(satchels.toReference()),
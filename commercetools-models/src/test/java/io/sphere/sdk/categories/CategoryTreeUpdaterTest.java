@@ -0,0 +1,160 @@
+package io.sphere.sdk.categories;
+
+import io.sphere.sdk.categories.messages.CategorySlugChangedMessage;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.messages.Message;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.Resource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CategoryTreeUpdaterTest {
+    @Test
+    public void moveCategory() throws Exception {
+        final CategoryTreeUpdater updater = CategoryTreeUpdater.of(createAbcCategories());
+        final CategoryTree before = updater.getCategoryTree();
+        final Category a1 = before.findById("A-1").get();
+        final Category b = before.findById("B").get();
+
+        final Category movedA1 = CategoryBuilder.of(a1).parent(b).version(a1.getVersion() + 1).build();
+        final CategoryTree after = updater.apply(movedA1);
+
+        assertThat(after.findChildren(b)).extracting(Resource::getId).containsExactly("A-1", "B-1", "B-2");
+        assertThat(after.getRootAncestor(after.findById("A-1-1").get()).getId()).isEqualTo("B");
+        assertThat(after.isDescendant(after.findById("A-1-2").get(), b)).isTrue();
+        assertThat(before.findChildren(b))
+                .as("published trees are not changed")
+                .extracting(Resource::getId).containsExactly("B-1", "B-2");
+    }
+
+    @Test
+    public void createAndRemoveCategories() throws Exception {
+        final CategoryTreeUpdater updater = CategoryTreeUpdater.of(createAbcCategories());
+        final Category c = CategoryBuilder.of("C", en("name C"), en("slug-C")).externalId("external-id-C").build();
+
+        final CategoryTree withC = updater.apply(c);
+        assertThat(withC.getRoots()).extracting(Resource::getId).containsExactly("A", "B", "C");
+        assertThat(withC.findBySlug(Locale.ENGLISH, "slug-C")).contains(c);
+        assertThat(withC.findByExternalId("external-id-C")).contains(c);
+
+        final CategoryTree withoutA = updater.remove(withC.findById("A").get());
+        assertThat(withoutA.findById("A")).isEmpty();
+        assertThat(withoutA.findBySlug(Locale.ENGLISH, "slug-A")).isEmpty();
+        assertThat(withoutA.getRoots()).extracting(Resource::getId).containsExactly("B", "C");
+        assertThat(withoutA.findChildren(withC.findById("A").get()))
+                .as("children keep their parent reference")
+                .extracting(Resource::getId).containsExactly("A-1", "A-2");
+        assertThat(withoutA.getRootAncestor(withoutA.findById("A-1-1").get()).getId()).isEqualTo("A-1-1");
+        assertThat(withoutA.getSubtree(singletonList(withoutA.findById("A-1").get())).getAllAsFlatList())
+                .extracting(Resource::getId).containsExactly("A-1", "A-1-1", "A-1-2");
+    }
+
+    @Test
+    public void isDescendantFollowsTheParentsWithinTheTree() throws Exception {
+        final CategoryTreeUpdater updater = CategoryTreeUpdater.of(createAbcCategories());
+        final Category a1 = updater.getCategoryTree().findById("A-1").get();
+        final CategoryTree layered = updater.remove(a1);
+        final CategoryTree rebuilt = CategoryTree.of(layered.getAllAsFlatList());
+
+        for (final CategoryTree tree : asList(layered, rebuilt)) {
+            final Category a = tree.findById("A").get();
+            assertThat(tree.isDescendant(tree.findById("A-1-1").get(), a))
+                    .as("the parent chain is broken in the tree")
+                    .isFalse();
+            assertThat(tree.isDescendant(tree.findById("A-1-1").get(), a1))
+                    .as("the ancestor is not part of the tree")
+                    .isFalse();
+            assertThat(tree.isDescendant(tree.findById("A-2").get(), a)).isTrue();
+        }
+    }
+
+    @Test
+    public void equalsTreesWithTheSameCategories() throws Exception {
+        final CategoryTreeUpdater updater = CategoryTreeUpdater.of(createAbcCategories());
+        final Category a1 = updater.getCategoryTree().findById("A-1").get();
+        final CategoryTree tree = updater.apply(CategoryBuilder.of(a1).name(en("new name")).version(a1.getVersion() + 1).build());
+        final int hashCode = tree.hashCode();
+        tree.getRoots();
+        tree.getSubtree(tree.getRoots());
+        assertThat(tree.hashCode()).isEqualTo(hashCode);
+
+        final CategoryTree rebuilt = CategoryTree.of(tree.getAllAsFlatList());
+        assertThat(tree).isEqualTo(rebuilt);
+        assertThat(rebuilt).isEqualTo(tree);
+        assertThat(tree.hashCode()).isEqualTo(rebuilt.hashCode());
+        assertThat(tree).isNotEqualTo(CategoryTree.of(createAbcCategories()));
+    }
+
+    @Test
+    public void ignoresOutdatedVersions() throws Exception {
+        final CategoryTreeUpdater updater = CategoryTreeUpdater.of(createAbcCategories());
+        final Category a1 = updater.getCategoryTree().findById("A-1").get();
+        final Category renamedA1 = CategoryBuilder.of(a1).name(en("new name")).version(3L).build();
+        updater.apply(renamedA1);
+
+        final CategoryTree tree = updater.apply(CategoryBuilder.of(a1).name(en("outdated name")).version(2L).build());
+
+        assertThat(tree.findById("A-1")).contains(renamedA1);
+    }
+
+    @Test
+    public void applySlugChangedMessage() throws Exception {
+        final CategoryTreeUpdater updater = CategoryTreeUpdater.of(createAbcCategories());
+        final String json = "{\"id\":\"message-1\",\"version\":1,\"createdAt\":\"2017-01-01T00:00:00.000Z\",\"lastModifiedAt\":\"2017-01-01T00:00:00.000Z\"," +
+                "\"resource\":{\"typeId\":\"category\",\"id\":\"B-2\"},\"sequenceNumber\":2,\"resourceVersion\":2," +
+                "\"type\":\"CategorySlugChanged\",\"slug\":{\"en\":\"new-slug\"}}";
+
+        final CategoryTree tree = updater.applyMessage(SphereJsonUtils.readObject(json, CategorySlugChangedMessage.class));
+        final CategoryTree treeFromGenericMessage = CategoryTreeUpdater.of(createAbcCategories())
+                .applyMessage(SphereJsonUtils.readObject(json, Message.typeReference()));
+
+        assertThat(tree.findBySlug(Locale.ENGLISH, "new-slug").get().getId()).isEqualTo("B-2");
+        assertThat(tree.findBySlug(Locale.ENGLISH, "slug-B-2")).isEmpty();
+        assertThat(tree.findById("B-2").get().getVersion()).isEqualTo(2L);
+        assertThat(treeFromGenericMessage.findBySlug(Locale.ENGLISH, "new-slug")).isPresent();
+    }
+
+    @Test
+    public void manyChangesBehaveLikeRebuiltTree() throws Exception {
+        final List<Category> categories = new ArrayList<>(createAbcCategories());
+        final CategoryTreeUpdater updater = CategoryTreeUpdater.of(categories);
+        for (int i = 0; i < 200; i++) {
+            final Category parent = categories.get(i % categories.size());
+            final Category category = CategoryBuilder.of("new-" + i, en("name " + i), en("slug-new-" + i)).parent(parent).build();
+            categories.add(category);
+            updater.apply(category);
+        }
+        final CategoryTree rebuiltTree = CategoryTree.of(categories);
+        final CategoryTree tree = updater.getCategoryTree();
+
+        assertThat(tree.getAllAsFlatList()).isEqualTo(rebuiltTree.getAllAsFlatList());
+        assertThat(tree.getRoots()).isEqualTo(rebuiltTree.getRoots());
+        for (final Category category : categories) {
+            assertThat(tree.findChildren(category)).isEqualTo(rebuiltTree.findChildren(category));
+            assertThat(tree.getRootAncestor(category)).isEqualTo(rebuiltTree.getRootAncestor(category));
+        }
+    }
+
+    private static List<Category> createAbcCategories() {
+        final Category a = CategoryBuilder.of("A", en("name A"), en("slug-A")).build();
+        final Category b = CategoryBuilder.of("B", en("name B"), en("slug-B")).build();
+        final Category a1 = child("A-1", a);
+        final Category a2 = child("A-2", a);
+        return asList(a, b, a1, a2, child("B-1", b), child("B-2", b), child("A-1-1", a1), child("A-1-2", a1));
+    }
+
+    private static Category child(final String id, final Category parent) {
+        return CategoryBuilder.of(id, en("name " + id), en("slug-" + id)).parent(parent).build();
+    }
+
+    private static LocalizedString en(final String value) {
+        return LocalizedString.of(Locale.ENGLISH, value);
+    }
+}
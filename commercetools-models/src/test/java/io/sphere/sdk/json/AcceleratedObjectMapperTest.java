@@ -0,0 +1,40 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.ProductProjection;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AcceleratedObjectMapperTest {
+    private final ObjectMapper defaultMapper = SphereJsonUtils.newObjectMapper();
+    private final ObjectMapper acceleratedMapper = SphereJsonUtils.newAcceleratedObjectMapper();
+
+    @Test
+    public void product() throws Exception {
+        checkSameResult("product1.json", Product.typeReference());
+    }
+
+    @Test
+    public void productProjection() throws Exception {
+        checkSameResult("product-projection1.json", ProductProjection.typeReference());
+    }
+
+    private <T> void checkSameResult(final String resourcePath, final TypeReference<T> typeReference) throws IOException {
+        final T expected = read(defaultMapper, resourcePath, typeReference);
+        final T actual = read(acceleratedMapper, resourcePath, typeReference);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(acceleratedMapper.writeValueAsString(actual)).isEqualTo(defaultMapper.writeValueAsString(expected));
+    }
+
+    private static <T> T read(final ObjectMapper objectMapper, final String resourcePath, final TypeReference<T> typeReference) throws IOException {
+        try (final InputStream inputStream = AcceleratedObjectMapperTest.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            return objectMapper.readValue(inputStream, typeReference);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import io.sphere.sdk.carts.Cart;
+import io.sphere.sdk.orders.Order;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.ProductProjection;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GeneratedJsonDeserializersModuleTest {
+    private static final String CART_JSON = "{\"id\":\"cart-1\",\"version\":3,\"createdAt\":\"2017-01-01T00:00:00.000Z\",\"lastModifiedAt\":\"2017-01-02T00:00:00.000Z\"," +
+            "\"unknown\":{\"nested\":[1,{\"a\":null}]},\"lineItems\":[],\"customLineItems\":[],\"totalPrice\":{\"currencyCode\":\"EUR\",\"centAmount\":1234}," +
+            "\"cartState\":\"Active\",\"inventoryMode\":\"None\",\"discountCodes\":[],\"taxMode\":\"Platform\",\"customerId\":null,\"locale\":\"de-DE\"}";
+    private final ObjectMapper defaultMapper = SphereJsonUtils.newObjectMapper();
+    private final ObjectMapper generatedMapper = SphereJsonUtils.newObjectMapper().registerModule(new GeneratedJsonDeserializersModule());
+
+    @Test
+    public void product() throws Exception {
+        checkSameResult(readResource("product1.json"), Product.typeReference());
+    }
+
+    @Test
+    public void productProjection() throws Exception {
+        checkSameResult(readResource("product-projection1.json"), ProductProjection.typeReference());
+    }
+
+    @Test
+    public void cartWithUnknownAndNullFields() throws Exception {
+        checkSameResult(CART_JSON, Cart.typeReference());
+    }
+
+    @Test
+    public void acceleratedObjectMapperUsesGeneratedDeserializers() throws Exception {
+        final ObjectMapper acceleratedMapper = SphereJsonUtils.newAcceleratedObjectMapper();
+        final DefaultDeserializationContext context = ((DefaultDeserializationContext) acceleratedMapper.getDeserializationContext())
+                .createInstance(acceleratedMapper.getDeserializationConfig(), null, null);
+        assertThat(context.findRootValueDeserializer(acceleratedMapper.constructType(Order.class)).getClass().getName())
+                .isEqualTo("io.sphere.sdk.orders.OrderImplJsonDeserializer");
+        assertThat(context.findRootValueDeserializer(acceleratedMapper.constructType(ProductProjection.class)).getClass().getName())
+                .isEqualTo("io.sphere.sdk.products.ProductProjectionImplJsonDeserializer");
+    }
+
+    private <T> void checkSameResult(final String json, final TypeReference<T> typeReference) throws IOException {
+        final T expected = defaultMapper.readValue(json, typeReference);
+        final T actual = generatedMapper.readValue(json, typeReference);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(defaultMapper.writeValueAsString(actual)).isEqualTo(defaultMapper.writeValueAsString(expected));
+    }
+
+    private static String readResource(final String resourcePath) throws IOException {
+        try (final InputStream inputStream = GeneratedJsonDeserializersModuleTest.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            return SphereJsonUtils.newObjectMapper().readTree(inputStream).toString();
+        }
+    }
+}
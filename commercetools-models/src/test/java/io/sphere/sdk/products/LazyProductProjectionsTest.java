@@ -0,0 +1,81 @@
+package io.sphere.sdk.products;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.products.queries.ProductProjectionQuery;
+import io.sphere.sdk.products.search.ProductProjectionSearch;
+import io.sphere.sdk.queries.PagedQueryResult;
+import io.sphere.sdk.search.PagedSearchResult;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyProductProjectionsTest {
+    private final ObjectMapper objectMapper = SphereJsonUtils.newObjectMapper();
+
+    @Test
+    public void searchBindsVariantsOnFirstAccess() throws Exception {
+        final String json = pagedResult(readResource("ProductProjectionTest/product-projection-from-search.json"));
+        final ProductProjectionSearch search = ProductProjectionSearch.ofStaged();
+        final ProductProjection expected = search.deserialize(HttpResponse.of(200, json)).head().get();
+        final PagedSearchResult<ProductProjection> result = LazyProductProjections.of(search).deserialize(HttpResponse.of(200, json));
+        final ProductProjection lazy = result.head().get();
+
+        assertThat(lazy).isInstanceOf(LazyProductProjectionImpl.class);
+        assertThat(((LazyProductProjectionImpl) lazy).hasPendingVariants()).isTrue();
+        assertThat(lazy.getName()).isEqualTo(expected.getName());
+        final ProductVariant masterVariant = lazy.getMasterVariant();
+        assertThat(masterVariant.getSku()).isEqualTo(expected.getMasterVariant().getSku());
+        assertThat(masterVariant.getImages()).isEqualTo(expected.getMasterVariant().getImages());
+        assertThat(((LazyProductVariantImpl) masterVariant).hasPendingValues()).isTrue();
+        assertThat(masterVariant.getPrices()).isEqualTo(expected.getMasterVariant().getPrices());
+        assertThat(masterVariant.getAttributes()).isEqualTo(expected.getMasterVariant().getAttributes());
+        assertThat(masterVariant.getAssets()).isEqualTo(expected.getMasterVariant().getAssets());
+        assertThat(((LazyProductVariantImpl) masterVariant).hasPendingValues()).isFalse();
+        assertThat(((LazyProductProjectionImpl) lazy).hasPendingVariants()).isTrue();
+
+        assertThat(lazy.getVariants()).isEqualTo(expected.getVariants());
+        assertThat(((LazyProductProjectionImpl) lazy).hasPendingVariants()).isFalse();
+        assertThat(lazy.getAllVariants()).extracting(variant -> variant.getIdentifier().getProductId()).containsOnly(expected.getId());
+        assertThat(lazy.findMatchingVariants()).extracting(ProductVariant::getId).containsExactly(2, 4);
+        assertThat(lazy.getSearchKeywords()).isEqualTo(expected.getSearchKeywords());
+        assertThat(lazy.getCategoryOrderHints()).isEqualTo(expected.getCategoryOrderHints());
+        assertThat(objectMapper.writeValueAsString(lazy)).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    public void query() throws Exception {
+        final String json = pagedResult(readResource("ProductProjectionTest/product-projection-from-query.json"));
+        final ProductProjectionQuery query = ProductProjectionQuery.ofStaged();
+        final PagedQueryResult<ProductProjection> expected = query.deserialize(HttpResponse.of(200, json));
+        final PagedQueryResult<ProductProjection> result = LazyProductProjections.of(query).deserialize(HttpResponse.of(200, json));
+
+        assertThat(result.getTotal()).isEqualTo(expected.getTotal());
+        assertThat(objectMapper.writeValueAsString(result.head().get())).isEqualTo(objectMapper.writeValueAsString(expected.head().get()));
+    }
+
+    @Test
+    public void lazyProjectionsAreEqualToEachOther() throws Exception {
+        final String json = pagedResult(readResource("product-projection1.json"));
+        final ProductProjectionSearch search = ProductProjectionSearch.ofCurrent();
+        final ProductProjection first = LazyProductProjections.of(search).deserialize(HttpResponse.of(200, json)).head().get();
+        final ProductProjection second = LazyProductProjections.of(search).deserialize(HttpResponse.of(200, json)).head().get();
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    private static String pagedResult(final String projectionJson) {
+        return "{\"offset\":0,\"count\":1,\"total\":1,\"results\":[" + projectionJson + "],\"facets\":{}}";
+    }
+
+    private static String readResource(final String resourcePath) throws IOException {
+        try (final InputStream inputStream = LazyProductProjectionsTest.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            return SphereJsonUtils.newObjectMapper().readTree(inputStream).toString();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.sphere.sdk.products;
+
+import com.neovisionaries.i18n.CountryCode;
+import io.sphere.sdk.channels.Channel;
+import io.sphere.sdk.customergroups.CustomerGroup;
+import io.sphere.sdk.products.search.PriceSelection;
+import io.sphere.sdk.products.search.PriceSelectionBuilder;
+import io.sphere.sdk.utils.MoneyImpl;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriceSelectionTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2017-06-01T12:00:00.000Z");
+
+    private final Price basePrice = PriceBuilder.of(MoneyImpl.ofCents(1000, "EUR")).id("base").build();
+    private final Price usdPrice = PriceBuilder.of(MoneyImpl.ofCents(1100, "USD")).id("usd").build();
+    private final Price germanPrice = PriceBuilder.of(MoneyImpl.ofCents(900, "EUR")).id("de").country(CountryCode.DE).build();
+    private final Price channelPrice = PriceBuilder.of(MoneyImpl.ofCents(800, "EUR")).id("channel")
+            .channel(Channel.referenceOfId("channel-1")).build();
+    private final Price customerGroupPrice = PriceBuilder.of(MoneyImpl.ofCents(700, "EUR")).id("group")
+            .customerGroup(CustomerGroup.referenceOfId("group-1")).build();
+    private final Price germanCustomerGroupPrice = PriceBuilder.of(MoneyImpl.ofCents(600, "EUR")).id("group-de")
+            .customerGroup(CustomerGroup.referenceOfId("group-1")).country(CountryCode.DE).build();
+
+    @Test
+    public void selectsMostSpecificPrice() throws Exception {
+        final ProductVariant variant = variantWithPrices(asList(basePrice, usdPrice, germanPrice, channelPrice,
+                customerGroupPrice, germanCustomerGroupPrice));
+        final PriceSelection selection = PriceSelectionBuilder.ofCurrencyCode("EUR")
+                .priceCountry(CountryCode.DE)
+                .priceChannelId("channel-1")
+                .priceCustomerGroupId("group-1")
+                .build();
+
+        assertThat(variant.findPrice(selection, NOW)).contains(germanCustomerGroupPrice);
+        assertThat(variant.findPrice(PriceSelectionBuilder.of(selection).priceCountry(CountryCode.AT).build(), NOW))
+                .contains(customerGroupPrice);
+        assertThat(variant.findPrice(PriceSelectionBuilder.of(selection).priceCustomerGroupId(null).build(), NOW))
+                .as("channel is checked before country")
+                .contains(channelPrice);
+        assertThat(variant.findPrice(PriceSelectionBuilder.ofCurrencyCode("EUR").priceCountry(CountryCode.DE).build(), NOW))
+                .contains(germanPrice);
+        assertThat(variant.findPrice(PriceSelectionBuilder.ofCurrencyCode("EUR").priceCountry(CountryCode.AT).build(), NOW))
+                .contains(basePrice);
+        assertThat(variant.findPrice(PriceSelectionBuilder.ofCurrencyCode("USD").priceCountry(CountryCode.DE).build(), NOW))
+                .contains(usdPrice);
+    }
+
+    @Test
+    public void noPriceInCurrency() throws Exception {
+        final ProductVariant variant = variantWithPrices(asList(basePrice, germanPrice));
+        assertThat(variant.findPrice(PriceSelectionBuilder.ofCurrencyCode("USD").build(), NOW)).isEmpty();
+        assertThat(variantWithPrices(Collections.emptyList()).findPrice(PriceSelectionBuilder.ofCurrencyCode("EUR").build(), NOW)).isEmpty();
+    }
+
+    @Test
+    public void prefersValidPriceWithValidityDates() throws Exception {
+        final Price salePrice = PriceBuilder.of(MoneyImpl.ofCents(500, "EUR")).id("sale")
+                .validFrom(NOW.minusDays(1)).validUntil(NOW.plusDays(1)).build();
+        final Price expiredPrice = PriceBuilder.of(MoneyImpl.ofCents(400, "EUR")).id("expired")
+                .validFrom(NOW.minusDays(10)).validUntil(NOW.minusDays(1)).build();
+        final ProductVariant variant = variantWithPrices(asList(basePrice, expiredPrice, salePrice));
+        final PriceSelection selection = PriceSelectionBuilder.ofCurrencyCode("EUR").build();
+
+        assertThat(variant.findPrice(selection, NOW)).contains(salePrice);
+        assertThat(variant.findPrice(selection, NOW.minusDays(5))).contains(expiredPrice);
+        assertThat(variant.findPrice(selection, NOW.plusDays(1)))
+                .as("the end of the validity is exclusive")
+                .contains(basePrice);
+        assertThat(variantWithPrices(asList(expiredPrice)).findPrice(selection, NOW)).isEmpty();
+    }
+
+    private static ProductVariant variantWithPrices(final List<Price> prices) {
+        return new ProductVariantImpl(1, "sku", prices, Collections.emptyList(), Collections.emptyList(),
+                null, null, null, null, null, null, null, null);
+    }
+}
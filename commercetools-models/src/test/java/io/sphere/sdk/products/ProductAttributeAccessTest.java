@@ -7,6 +7,7 @@ import io.sphere.sdk.models.*;
 import io.sphere.sdk.producttypes.MetaProductType;
 import io.sphere.sdk.producttypes.ProductType;
 import io.sphere.sdk.products.attributes.Attribute;
+import io.sphere.sdk.products.attributes.AttributeAccess;
 import io.sphere.sdk.products.attributes.AttributeDefinition;
 import io.sphere.sdk.products.attributes.NamedAttributeAccess;
 import io.sphere.sdk.json.SphereJsonUtils;
@@ -39,6 +40,28 @@ public class ProductAttributeAccessTest {
         assertThat(variant.getAttributes()).hasSize(20);
     }
 
+    @Test
+    public void lookupByName() throws Exception {
+        final ProductVariant otherVariant = SphereJsonUtils.readObjectFromResource("product1.json", Product.typeReference())
+                .getMasterData().getCurrent().getMasterVariant();
+        assertThat(variant.hasAttribute(STRING_ATTRIBUTE)).isTrue();
+        assertThat(variant.hasAttribute(notPresentNamedAttributeAccess)).isFalse();
+        assertThat(variant.getAttribute(LOC_STRING_ATTRIBUTE)).isSameAs(variant.getAttributes().stream()
+                .filter(attribute -> attribute.getName().equals(LOC_STRING_ATTRIBUTE)).findFirst().get());
+        assertThat(variant.getAttribute(NOT_PRESENT)).isNull();
+        assertThat(variant).as("the name index is not part of equals").isEqualTo(otherVariant);
+        assertThat(variant.hashCode()).isEqualTo(otherVariant.hashCode());
+    }
+
+    @Test
+    public void duplicateAttributeNamesFindTheFirstAttribute() throws Exception {
+        final AttributeContainer container = AttributeContainer.of(asList(
+                Attribute.of(STRING_ATTRIBUTE, ofString(), "first"),
+                Attribute.of(STRING_ATTRIBUTE, ofString(), "second")));
+        assertThat(container.findAttribute(STRING_ATTRIBUTE, ofString())).contains("first");
+        assertThat(container.getAttribute(STRING_ATTRIBUTE).getValue(ofString())).isEqualTo("first");
+    }
+
     @Test
     public void getterWithJsonAttributeAccess() throws Exception {
         final JsonNode actual = variant.findAttribute(LOC_STRING_ATTRIBUTE, ofJsonNode()).get();
@@ -58,6 +81,25 @@ public class ProductAttributeAccessTest {
                 isEqualTo(LocalizedString.of(GERMAN, "val-loc-string-de", ENGLISH, "val-loc-string-en"));
     }
 
+    @Test
+    public void repeatedReadsWithTheSameAccessReuseTheValue() throws Exception {
+        final LocalizedString value = variant.findAttribute(localizedStringNamedAttributeAccess).get();
+        assertThat(variant.findAttribute(localizedStringNamedAttributeAccess).get()).isSameAs(value);
+
+        final LocalizedString valueOfOtherAccess = variant.findAttribute(LOC_STRING_ATTRIBUTE, ofLocalizedString()).get();
+        assertThat(valueOfOtherAccess).isEqualTo(value).isNotSameAs(value);
+        assertThat(variant.getAttribute(LOC_STRING_ATTRIBUTE).getValue(ofJsonNode()).get("en").asText()).isEqualTo("val-loc-string-en");
+    }
+
+    @Test
+    public void collectionsAreNotSharedAndCanBeModified() throws Exception {
+        final AttributeAccess<Set<String>> access = ofStringSet();
+        final Attribute attribute = Attribute.of("tags", access, new HashSet<>(asList("a", "b")));
+        final Set<String> value = attribute.getValue(access);
+        value.add("c");
+        assertThat(attribute.getValue(access)).isNotSameAs(value).containsOnly("a", "b");
+    }
+
     @Test
     public void attributeNotFound() throws Exception {
         assertThat(variant.findAttribute(notPresentNamedAttributeAccess)).isEmpty();
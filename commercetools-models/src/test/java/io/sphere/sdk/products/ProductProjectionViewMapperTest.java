@@ -0,0 +1,120 @@
+package io.sphere.sdk.products;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.categories.CategoryBuilder;
+import io.sphere.sdk.categories.CategoryTree;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.producttypes.ProductType;
+import io.sphere.sdk.producttypes.ProductTypeLocalRepository;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProductProjectionViewMapperTest {
+    private static final Locale SWISS_GERMAN = new Locale("de", "CH");
+
+    private final ProductType productType = SphereJsonUtils.readObjectFromResource("product-projection1.json", ProductProjection.typeReference())
+            .getProductType().getObj();
+    private final CategoryTree categoryTree = CategoryTree.of(asList(
+            CategoryBuilder.of("category-1", LocalizedString.of(Locale.GERMAN, "Kategorie 1"), LocalizedString.ofEnglish("category-1")).orderHint("0.9").build(),
+            CategoryBuilder.of("category-2", LocalizedString.of(Locale.GERMAN, "Kategorie 2"), LocalizedString.ofEnglish("category-2")).orderHint("0.1").build()));
+
+    @Test
+    public void mapAll() throws Exception {
+        final ProductProjectionViewMapper<String> mapper = ProductProjectionViewMapper.of(asList(SWISS_GERMAN, Locale.ENGLISH),
+                categoryTree, ProductTypeLocalRepository.of(asList(productType)),
+                (product, context) -> context.translate(product.getName()) + " in " + context.getCategories(product).stream()
+                        .map(category -> context.translate(category.getName()))
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+
+        final List<String> views = mapper.mapAll(asList(product("product-1", "category-1", "category-2"), product("product-2", "category-3")));
+
+        assertThat(views).containsExactly("Attribute Integration Spec in Kategorie 1, Kategorie 2", "Attribute Integration Spec in ");
+    }
+
+    @Test
+    public void formatAttributes() throws Exception {
+        final ProductProjectionViewMapper<Map<String, String>> mapper = ProductProjectionViewMapper.of(asList(SWISS_GERMAN, Locale.ENGLISH),
+                categoryTree, ProductTypeLocalRepository.of(asList(productType)),
+                (product, context) -> context.formatAttributes(product, product.getMasterVariant()));
+
+        final ProductProjection product = product("product-1");
+        final Map<String, String> attributes = mapper.map(product);
+
+        assertThat(attributes).containsEntry("loc-string-attribute", "val-loc-string-de")
+                .containsEntry("string-attribute", "val-string-en");
+        final String label = ProductProjectionViewMapper.<String>of(asList(SWISS_GERMAN), categoryTree, ProductTypeLocalRepository.of(asList(productType)),
+                (p, context) -> context.getAttributeLabel(p, "loc-string-attribute") + "|" + context.getAttributeLabel(p, "unknown"))
+                .map(product);
+        assertThat(label).isEqualTo("Localized String DE|unknown");
+    }
+
+    @Test
+    public void orderHints() throws Exception {
+        final ProductProjectionViewMapper<List<String>> mapper = ProductProjectionViewMapper.of(asList(Locale.ENGLISH), categoryTree,
+                ProductTypeLocalRepository.of(asList(productType)),
+                (product, context) -> context.getCategories(product).stream().map(Category::getId).collect(Collectors.toList()));
+        assertThat(mapper.map(product("product-1", "category-1", "category-2"))).containsExactly("category-2", "category-1");
+
+        final List<ProductProjection> products = asList(
+                withOrderHint(product("product-1", "category-1"), "category-1", "0.5"),
+                product("product-2", "category-1"),
+                withOrderHint(product("product-3", "category-1"), "category-1", "0.2"),
+                withOrderHint(product("product-4", "category-1"), "category-2", "0.1"));
+        final List<String> sortedIds = ProductProjectionViewMapper.<List<String>>of(asList(Locale.ENGLISH), categoryTree,
+                ProductTypeLocalRepository.of(asList(productType)),
+                (product, context) -> context.sortByCategoryOrderHints(products, "category-1").stream()
+                        .map(ProductProjection::getId)
+                        .collect(Collectors.toList()))
+                .map(products.get(0));
+        assertThat(sortedIds).containsExactly("product-3", "product-1", "product-2", "product-4");
+    }
+
+    @Test
+    public void parallelMappingKeepsTheOrder() throws Exception {
+        final ProductProjectionViewMapper<String> mapper = ProductProjectionViewMapper.of(asList(Locale.ENGLISH), categoryTree,
+                ProductTypeLocalRepository.of(asList(productType)),
+                (product, context) -> product.getId() + ":" + context.getCategories(product).size());
+        final List<ProductProjection> products = new ArrayList<>();
+        for (int i = 0; i < ProductProjectionViewMapper.PRODUCTS_PER_TASK * 5 + 3; i++) {
+            products.add(i % 2 == 0 ? product("product-" + i, "category-1") : product("product-" + i));
+        }
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            assertThat(mapper.mapAll(products, forkJoinPool)).isEqualTo(mapper.mapAll(products));
+            assertThat(mapper.mapAll(products, forkJoinPool).get(2)).isEqualTo("product-2:1");
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private static ProductProjection withOrderHint(final ProductProjection product, final String categoryId, final String orderHint) {
+        final ObjectNode jsonNode = (ObjectNode) SphereJsonUtils.toJsonNode(product);
+        jsonNode.with("categoryOrderHints").put(categoryId, orderHint);
+        return SphereJsonUtils.readObject(jsonNode, ProductProjection.typeReference());
+    }
+
+    private ProductProjection product(final String id, final String... categoryIds) {
+        final ObjectNode jsonNode = SphereJsonUtils.readObjectFromResource("product-projection1.json", ObjectNode.class);
+        jsonNode.put("id", id);
+        final Iterator<JsonNode> attributes = jsonNode.path("masterVariant").path("attributes").elements();
+        while (attributes.hasNext()) {
+            if (attributes.next().get("name").asText().contains("date-time")) {
+                attributes.remove();// the fixture contains date times without zone
+            }
+        }
+        for (final String categoryId : categoryIds) {
+            jsonNode.withArray("categories").addObject().put("typeId", "category").put("id", categoryId);
+        }
+        return SphereJsonUtils.readObject(jsonNode, ProductProjection.typeReference());
+    }
+}
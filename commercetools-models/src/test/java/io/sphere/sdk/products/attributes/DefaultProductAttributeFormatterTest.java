@@ -0,0 +1,63 @@
+package io.sphere.sdk.products.attributes;
+
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.Reference;
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.products.ProductVariant;
+import io.sphere.sdk.producttypes.ProductType;
+import io.sphere.sdk.producttypes.ProductTypeLocalRepository;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultProductAttributeFormatterTest {
+    private static final List<Locale> LOCALES = asList(Locale.GERMAN, Locale.ENGLISH);
+    private final ProductProjection productProjection = SphereJsonUtils.readObjectFromResource("product-projection1.json", ProductProjection.typeReference());
+    private final ProductVariant variant = productProjection.getMasterVariant();
+    private final Reference<ProductType> productTypeReference = productProjection.getProductType();
+    private final ProductTypeLocalRepository productTypes = ProductTypeLocalRepository.of(singletonList(productTypeReference.getObj()));
+
+    @Test
+    public void formatsAttributesWithTheStepsOfTheProductType() throws Exception {
+        final DefaultProductAttributeFormatter formatter = new DefaultProductAttributeFormatter(productTypes, LOCALES);
+
+        assertThat(format(formatter, "string-attribute")).isEqualTo("val-string-en");
+        assertThat(format(formatter, "loc-string-attribute")).isEqualTo("val-loc-string-de");
+        assertThat(format(formatter, "enum-attribute")).isEqualTo("two-label");
+        assertThat(format(formatter, "set-string-attribute")).isEqualTo("three-set-string, two-set-string");
+        assertThat(format(formatter, "number-attribute")).isEqualTo("2.5");
+        assertThat(format(formatter, "boolean-attribute")).isEqualTo("true");
+    }
+
+    @Test
+    public void guardsAreEvaluatedForEachConverter() throws Exception {
+        final DefaultProductAttributeFormatter integerFormatter = new DefaultProductAttributeFormatter(productTypes, LOCALES) {
+            @Override
+            protected Collection<String> integerAttributes() {
+                return singletonList("number-attribute");
+            }
+        };
+        final DefaultProductAttributeFormatter doubleFormatter = new DefaultProductAttributeFormatter(productTypes, LOCALES);
+
+        assertThat(format(integerFormatter, "number-attribute")).isEqualTo("2");
+        assertThat(format(doubleFormatter, "number-attribute")).isEqualTo("2.5");
+    }
+
+    @Test
+    public void unknownAttributesAndProductTypes() throws Exception {
+        final DefaultProductAttributeFormatter formatter = new DefaultProductAttributeFormatter(productTypes, LOCALES);
+
+        assertThat(formatter.format(Attribute.of("not-present", AttributeAccess.ofString(), "value"), productTypeReference)).isNull();
+        assertThat(formatter.format(variant.getAttribute("string-attribute"), ProductType.referenceOfId("unknown-id"))).isNull();
+    }
+
+    private String format(final DefaultProductAttributeFormatter formatter, final String attributeName) {
+        return formatter.format(variant.getAttribute(attributeName), productTypeReference);
+    }
+}
@@ -0,0 +1,143 @@
+package io.sphere.sdk.products.catalog;
+
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.products.search.ProductProjectionSearchModel;
+import io.sphere.sdk.search.FilterExpression;
+import io.sphere.sdk.search.RangeFacetResult;
+import io.sphere.sdk.search.TermFacetResult;
+import io.sphere.sdk.search.TermStats;
+import io.sphere.sdk.search.model.FacetRange;
+import io.sphere.sdk.search.model.RangeStats;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static io.sphere.sdk.models.DefaultCurrencyUnits.EUR;
+import static io.sphere.sdk.models.DefaultCurrencyUnits.USD;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProductCatalogSnapshotTest {
+    private static final ProductProjectionSearchModel SEARCH_MODEL = ProductProjectionSearchModel.of();
+    private final ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(asList(
+            product("shirt-1", "c1", variant(1, "red", 1000, 40), variant(2, "blue", 1500, 42)),
+            product("shirt-2", "c1", variant(1, "green", 2500, 44)),
+            product("shoe", "c2", variant(1, "red", 5000, 42.5))));
+
+    @Test
+    public void filterAndFacet() throws Exception {
+        final ProductCatalogSelection selection = snapshot.filter(SEARCH_MODEL.filter().categories().id().is("c1"));
+
+        assertThat(selection.getProducts()).extracting(ProductProjection::getId).containsExactly("shirt-1", "shirt-2");
+        final TermFacetResult colors = selection.termFacet(SEARCH_MODEL.facet().allVariants().attribute().ofEnum("color").key().allTerms());
+        assertThat(colors.getTerms()).containsExactly(TermStats.of("blue", 1L), TermStats.of("green", 1L), TermStats.of("red", 1L));
+        final RangeFacetResult prices = selection.rangeFacet(SEARCH_MODEL.facet().allVariants().price().centAmount()
+                .withCountingProducts(true)
+                .onlyRange(asList(FacetRange.of(0L, 1500L), FacetRange.atLeast(1500L))));
+        assertThat(prices.getRanges()).containsExactly(
+                RangeStats.of("0", "1500", 1L, 1L, "1000", "1000", "1000", 1000.0),
+                RangeStats.of("1500", null, 2L, 2L, "1500", "2500", "4000", 2000.0));
+    }
+
+    @Test
+    public void variantsMustMatchAllFilters() throws Exception {
+        final List<FilterExpression<ProductProjection>> redAndExpensive = asList(
+                SEARCH_MODEL.filter().allVariants().attribute().ofEnum("color").key().is("red").get(0),
+                SEARCH_MODEL.filter().allVariants().price().centAmount().isGreaterThanOrEqualTo(1500L).get(0));
+        final List<FilterExpression<ProductProjection>> blueAndCheap = asList(
+                SEARCH_MODEL.filter().allVariants().attribute().ofEnum("color").key().is("blue").get(0),
+                SEARCH_MODEL.filter().allVariants().price().centAmount().isLessThanOrEqualTo(1000L).get(0));
+
+        assertThat(snapshot.filter(redAndExpensive).getProducts()).extracting(ProductProjection::getId).containsExactly("shoe");
+        assertThat(snapshot.filter(blueAndCheap).getProducts()).isEmpty();
+        assertThat(snapshot.filter(redAndExpensive).getVariantCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void numbersWithDecimalPlaces() throws Exception {
+        final ProductCatalogSelection selection = snapshot.all()
+                .filter(SEARCH_MODEL.filter().allVariants().attribute().ofNumber("size").isBetween(new BigDecimal("42"), new BigDecimal("42.5")));
+
+        assertThat(selection.getProducts()).extracting(ProductProjection::getId).containsExactly("shirt-1", "shoe");
+        assertThat(snapshot.filter(SEARCH_MODEL.filter().allVariants().attribute().ofNumber("size").is(new BigDecimal("42.50"))).getProducts())
+                .extracting(ProductProjection::getId).containsExactly("shoe");
+        assertThat(snapshot.all().termFacet(SEARCH_MODEL.facet().allVariants().attribute().ofNumber("size").allTerms()).getTerms())
+                .extracting(TermStats::getTerm).containsExactly("40", "42", "42.5", "44");
+    }
+
+    @Test
+    public void existsMissingAndUnknownPaths() throws Exception {
+        assertThat(snapshot.filter(SEARCH_MODEL.filter().allVariants().attribute().ofEnum("color").key().exists()).getVariantCount()).isEqualTo(4);
+        assertThat(snapshot.filter(SEARCH_MODEL.filter().allVariants().attribute().ofString("unknown").missing()).getVariantCount()).isEqualTo(4);
+        assertThat(snapshot.filter(SEARCH_MODEL.filter().allVariants().attribute().ofString("unknown").is("x")).getProducts()).isEmpty();
+        final TermFacetResult unknownFacet = snapshot.all().termFacet(SEARCH_MODEL.facet().allVariants().attribute().ofString("unknown").allTerms());
+        assertThat(unknownFacet.getMissing()).isEqualTo(4L);
+        assertThat(unknownFacet.getTerms()).isEmpty();
+    }
+
+    @Test
+    public void quotedTerms() throws Exception {
+        final ProductCatalogSnapshot snapshotWithQuotes = ProductCatalogSnapshot.of(asList(product("quotes", "c1", variant(1, "say \\\"hi\\\", bye", 100, 1))));
+
+        assertThat(snapshotWithQuotes.filter(SEARCH_MODEL.filter().allVariants().attribute().ofEnum("color").key().is("say \"hi\", bye")).getProducts())
+                .hasSize(1);
+    }
+
+    @Test
+    public void priceFiltersWithCurrency() throws Exception {
+        final String twoCurrencies = "{\"id\":1,\"prices\":[{\"id\":\"price-eur\",\"value\":{\"currencyCode\":\"EUR\",\"centAmount\":1000}}," +
+                "{\"id\":\"price-usd\",\"value\":{\"currencyCode\":\"USD\",\"centAmount\":5000}}],\"attributes\":[]}";
+        final ProductCatalogSnapshot snapshotWithCurrencies = ProductCatalogSnapshot.of(asList(product("two-currencies", "c1", twoCurrencies)));
+        final FilterExpression<ProductProjection> expensive = SEARCH_MODEL.filter().allVariants().price().centAmount().isGreaterThanOrEqualTo(2000L).get(0);
+
+        assertThat(snapshotWithCurrencies.filter(asList(SEARCH_MODEL.filter().allVariants().price().currency().is(EUR).get(0), expensive)).getProducts())
+                .as("the amount of the USD price must not be used for the EUR filter")
+                .isEmpty();
+        assertThat(snapshotWithCurrencies.filter(asList(SEARCH_MODEL.filter().allVariants().price().currency().is(USD).get(0), expensive)).getProducts())
+                .hasSize(1);
+        assertThat(snapshotWithCurrencies.all().filter(FilterExpression.<ProductProjection>of("variants.price.centAmount.EUR:range(2000 to *)")).getProducts()).isEmpty();
+        assertThat(snapshotWithCurrencies.all().filter(expensive).getProducts()).hasSize(1);
+    }
+
+    @Test
+    public void numbersWhichDoNotFitIntoALong() throws Exception {
+        final ProductCatalogSnapshot snapshotWithLargeNumbers = ProductCatalogSnapshot.of(asList(
+                product("large", "c1", variant(1, "red", 100, new BigDecimal("100000000000000000000"))),
+                product("precise", "c1", variant(1, "red", 100, new BigDecimal("0.1234567"))),
+                product("medium", "c1", variant(1, "red", 100, 10))));
+
+        assertThat(snapshotWithLargeNumbers.filter(SEARCH_MODEL.filter().allVariants().attribute().ofNumber("size").is(new BigDecimal("100000000000000000000")))
+                .getProducts()).extracting(ProductProjection::getId).containsExactly("large");
+        assertThat(snapshotWithLargeNumbers.filter(SEARCH_MODEL.filter().allVariants().attribute().ofNumber("size").is(new BigDecimal("0.123457")))
+                .getProducts()).as("the scale is not rounded").isEmpty();
+        assertThat(snapshotWithLargeNumbers.filter(SEARCH_MODEL.filter().allVariants().attribute().ofNumber("size").isBetween(new BigDecimal("5"), new BigDecimal("50")))
+                .getProducts()).as("ranges compare numbers and not strings").extracting(ProductProjection::getId).containsExactly("medium");
+        assertThat(snapshotWithLargeNumbers.filter(SEARCH_MODEL.filter().allVariants().attribute().ofNumber("size").is(new BigDecimal("10.0")))
+                .getProducts()).extracting(ProductProjection::getId).containsExactly("medium");
+        final RangeFacetResult sizes = snapshotWithLargeNumbers.all().rangeFacet(SEARCH_MODEL.facet().allVariants().attribute().ofNumber("size")
+                .onlyRange(asList(FacetRange.of(new BigDecimal("0"), new BigDecimal("10")), FacetRange.atLeast(new BigDecimal("10")))));
+        assertThat(sizes.getRanges()).containsExactly(
+                RangeStats.of("0", "10", 1L, null, "0.1234567", "0.1234567", "0.1234567", 0.1234567),
+                RangeStats.of("10", null, 2L, null, "10", "100000000000000000000", "100000000000000000010", 5.0000000000000000005E19));
+        assertThat(snapshotWithLargeNumbers.all().termFacet(SEARCH_MODEL.facet().allVariants().attribute().ofNumber("size").allTerms()).getTerms())
+                .extracting(TermStats::getTerm).containsExactly("0.1234567", "10", "100000000000000000000");
+    }
+
+    private static ProductProjection product(final String id, final String categoryId, final String masterVariant, final String... variants) {
+        final String json = format("{\"id\":\"%s\",\"version\":1,\"productType\":{\"typeId\":\"product-type\",\"id\":\"product-type-id\"}," +
+                        "\"name\":{\"en\":\"%s\"},\"slug\":{\"en\":\"%s\"},\"categories\":[{\"typeId\":\"category\",\"id\":\"%s\"}]," +
+                        "\"masterVariant\":%s,\"variants\":[%s],\"hasStagedChanges\":false,\"published\":true," +
+                        "\"createdAt\":\"2017-01-01T00:00:00.000Z\",\"lastModifiedAt\":\"2017-01-01T00:00:00.000Z\"}",
+                id, id, id, categoryId, masterVariant, String.join(",", variants));
+        return SphereJsonUtils.readObject(json, ProductProjection.typeReference());
+    }
+
+    private static String variant(final int id, final String color, final long centAmount, final Number size) {
+        return format("{\"id\":%d,\"prices\":[{\"id\":\"price-%d\",\"value\":{\"currencyCode\":\"EUR\",\"centAmount\":%d}}]," +
+                "\"attributes\":[{\"name\":\"color\",\"value\":{\"key\":\"%s\",\"label\":\"%s\"}},{\"name\":\"size\",\"value\":%s}]}",
+                id, id, centAmount, color, color, size);
+    }
+}
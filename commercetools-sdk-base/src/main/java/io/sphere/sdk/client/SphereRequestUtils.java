@@ -44,4 +44,31 @@ public final class SphereRequestUtils {
             throw new CompletionException(String.format("Could not encode url %s with encoding %s", s, encoding), e);
         }
     }
+
+    /**
+     * Extracts the endpoint of a request, which is the first segment of the request path like "/product-projections"
+     * for "/product-projections/search?text.en=foo", the same as {@link JsonEndpoint#endpoint()}.
+     *
+     * @param sphereRequest the request
+     * @return endpoint path
+     */
+    public static String endpointPath(final SphereRequest<?> sphereRequest) {
+        return endpointPath(sphereRequest.httpRequestIntent());
+    }
+
+    /**
+     * Extracts the endpoint of a request intent, see {@link #endpointPath(SphereRequest)}.
+     *
+     * @param httpRequestIntent the request intent
+     * @return endpoint path
+     */
+    public static String endpointPath(final HttpRequestIntent httpRequestIntent) {
+        final String path = httpRequestIntent.getPath();
+        final int start = path.startsWith("/") ? 1 : 0;
+        int end = start;
+        while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '?') {
+            end++;
+        }
+        return "/" + path.substring(start, end);
+    }
 }
@@ -0,0 +1,20 @@
+package io.sphere.sdk.client;
+
+/**
+ * HTTP code 429 response from the platform, the client sends too many requests.
+ *
+ * The response may contain a "Retry-After" header, see {@link io.sphere.sdk.retry.RetryDelay#ofRetryAfterHeader(java.util.function.Function, java.time.Duration)}.
+ *
+ */
+public class TooManyRequestsException extends ClientErrorException {
+    private static final long serialVersionUID = 0L;
+    private static final int STATUS_CODE = 429;
+
+    public TooManyRequestsException(final String message) {
+        super(message, STATUS_CODE);
+    }
+
+    public TooManyRequestsException() {
+        super(STATUS_CODE);
+    }
+}
@@ -0,0 +1,26 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * Isolates the optional Afterburner dependency, so {@link SphereJsonUtils} can be loaded without it.
+ */
+final class AcceleratedModules {
+    private static final String SDK_PACKAGE_PREFIX = "io.sphere.sdk.";
+
+    private AcceleratedModules() {
+    }
+
+    static ObjectMapper register(final ObjectMapper objectMapper) {
+        try {
+            objectMapper.registerModule(new AfterburnerModule());
+        } catch (final NoClassDefFoundError e) {
+            throw new IllegalStateException("The accelerated object mapper requires com.fasterxml.jackson.module:jackson-module-afterburner on the classpath.", e);
+        }
+        ObjectMapper.findModules(AcceleratedModules.class.getClassLoader()).stream()
+                .filter(module -> module.getClass().getName().startsWith(SDK_PACKAGE_PREFIX))
+                .forEach(objectMapper::registerModule);
+        return objectMapper;
+    }
+}
@@ -3,9 +3,9 @@ package io.sphere.sdk.json;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import io.sphere.sdk.utils.CurrencyUnitCache;
 
 import javax.money.CurrencyUnit;
-import javax.money.Monetary;
 import java.io.IOException;
 
 final class CurrencyUnitDeserializer extends StdScalarDeserializer<CurrencyUnit> {
@@ -18,6 +18,6 @@ final class CurrencyUnitDeserializer extends StdScalarDeserializer<CurrencyUnit>
     @Override
     public CurrencyUnit deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
         final String currencyCode = deserializationContext.readValue(jsonParser, String.class);
-        return Monetary.getCurrency(currencyCode);
+        return CurrencyUnitCache.getCurrency(currencyCode);
     }
 }
@@ -0,0 +1,16 @@
+package io.sphere.sdk.json;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a class with a {@link com.fasterxml.jackson.annotation.JsonCreator} constructor for which the annotation processor
+ * of {@code commercetools-json-processor} generates a streaming deserializer. The deserializer reads the JSON tokens
+ * directly into the constructor arguments instead of using the introspection based bean deserializer.
+ *
+ * <p>The generated deserializers are registered by {@link SphereJsonUtils#newAcceleratedObjectMapper()}.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonDeserializer {
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import io.sphere.sdk.utils.LocaleCache;
 
 import java.io.IOException;
 import java.util.Locale;
@@ -14,6 +15,6 @@ final class LocaleDeserializer extends JsonDeserializer<Locale> {
     @Override
     public Locale deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException, JsonProcessingException {
         final String languageTag = deserializationContext.readValue(jsonParser, String.class);
-        return Locale.forLanguageTag(languageTag);
+        return LocaleCache.forLanguageTag(languageTag);
     }
 }
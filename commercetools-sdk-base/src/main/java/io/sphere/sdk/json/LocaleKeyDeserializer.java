@@ -3,9 +3,9 @@ package io.sphere.sdk.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.KeyDeserializer;
+import io.sphere.sdk.utils.LocaleCache;
 
 import java.io.IOException;
-import java.util.Locale;
 
 final class LocaleKeyDeserializer extends KeyDeserializer {
     public LocaleKeyDeserializer() {
@@ -13,6 +13,6 @@ final class LocaleKeyDeserializer extends KeyDeserializer {
 
     @Override
     public Object deserializeKey(final String key, final DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        return Locale.forLanguageTag(key);
+        return LocaleCache.forLanguageTag(key);
     }
 }
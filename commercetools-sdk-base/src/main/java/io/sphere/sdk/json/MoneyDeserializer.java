@@ -1,13 +1,18 @@
 package io.sphere.sdk.json;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import io.sphere.sdk.utils.CurrencyUnitCache;
 import io.sphere.sdk.utils.MoneyImpl;
 
 import javax.money.MonetaryAmount;
 import java.io.IOException;
 
+/**
+ * Reads the money fields directly from the parser into a {@link io.sphere.sdk.utils.CentMoneyImpl}.
+ */
 final class MoneyDeserializer extends StdScalarDeserializer<MonetaryAmount> {
     private static final long serialVersionUID = 0L;
 
@@ -17,8 +22,28 @@ final class MoneyDeserializer extends StdScalarDeserializer<MonetaryAmount> {
 
     @Override
     public MonetaryAmount deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
-        final MoneyRepresentation moneyRepresentation = deserializationContext.readValue(jsonParser, MoneyRepresentation.class);
-        final String currencyCode = moneyRepresentation.getCurrencyCode();
-        return MoneyImpl.ofCents(moneyRepresentation.getCentAmount(), currencyCode);
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw deserializationContext.mappingException(MonetaryAmount.class, token);
+        }
+        Long centAmount = null;
+        String currencyCode = null;
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            final String fieldName = jsonParser.getCurrentName();
+            final JsonToken valueToken = jsonParser.nextToken();
+            if ("centAmount".equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                centAmount = _parseLong(jsonParser, deserializationContext);
+            } else if ("currencyCode".equals(fieldName)) {
+                currencyCode = jsonParser.getValueAsString();
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        if (centAmount == null || currencyCode == null) {
+            throw deserializationContext.mappingException("Money requires centAmount and currencyCode.");
+        }
+        return MoneyImpl.ofCents(centAmount, CurrencyUnitCache.getCurrency(currencyCode));
     }
 }
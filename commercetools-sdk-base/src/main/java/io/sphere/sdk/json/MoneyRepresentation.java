@@ -2,6 +2,7 @@ package io.sphere.sdk.json;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.sphere.sdk.utils.CentMoneyImpl;
 import org.javamoney.moneta.function.MonetaryUtil;
 
 import javax.money.Monetary;
@@ -47,6 +48,9 @@ final class MoneyRepresentation {
     }
 
     public static long amountToCents(final MonetaryAmount monetaryAmount) {
+        if (monetaryAmount instanceof CentMoneyImpl) {
+            return ((CentMoneyImpl) monetaryAmount).getCentAmount();
+        }
         return monetaryAmount
                 .with(Monetary.getDefaultRounding())
                 .query(MonetaryUtil.minorUnits());
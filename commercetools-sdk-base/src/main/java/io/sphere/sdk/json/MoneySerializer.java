@@ -6,7 +6,6 @@ import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
 
 import javax.money.MonetaryAmount;
 import java.io.IOException;
-import java.math.BigDecimal;
 
 final class MoneySerializer extends StdScalarSerializer<MonetaryAmount> {
     static final long serialVersionUID = 0L;
@@ -18,6 +17,9 @@ final class MoneySerializer extends StdScalarSerializer<MonetaryAmount> {
     @Override
     public void serialize(final MonetaryAmount monetaryAmount, final JsonGenerator jsonGenerator, final SerializerProvider serializerProvider) throws IOException {
         final MoneyRepresentation moneyRepresentation = new MoneyRepresentation(monetaryAmount);
-        jsonGenerator.writeObject(moneyRepresentation);
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeNumberField("centAmount", moneyRepresentation.getCentAmount());
+        jsonGenerator.writeStringField("currencyCode", moneyRepresentation.getCurrencyCode());
+        jsonGenerator.writeEndObject();
     }
 }
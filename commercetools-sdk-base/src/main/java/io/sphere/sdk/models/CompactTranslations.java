@@ -0,0 +1,128 @@
+package io.sphere.sdk.models;
+
+import java.util.*;
+
+/**
+ * Immutable map for the translations of a {@link LocalizedString} with few locales. It stores the locales and the
+ * values in two arrays in insertion order, which needs a fraction of the memory of a hash map and finds a locale
+ * with a few comparisons. Translations with more locales use an unmodifiable {@link LinkedHashMap}.
+ */
+final class CompactTranslations extends AbstractMap<Locale, String> {
+    static final int MAX_SIZE = 4;
+    private static final CompactTranslations EMPTY = new CompactTranslations(new Locale[0], new String[0]);
+
+    private final Locale[] locales;
+    private final String[] values;
+
+    private CompactTranslations(final Locale[] locales, final String[] values) {
+        this.locales = locales;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return locales.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(final Object key) {
+        final int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Set<Entry<Locale, String>> entrySet() {
+        return new AbstractSet<Entry<Locale, String>>() {
+            @Override
+            public Iterator<Entry<Locale, String>> iterator() {
+                return new Iterator<Entry<Locale, String>>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < locales.length;
+                    }
+
+                    @Override
+                    public Entry<Locale, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final Entry<Locale, String> entry = new SimpleImmutableEntry<>(locales[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return locales.length;
+            }
+        };
+    }
+
+    private int indexOf(final Object key) {
+        for (int i = 0; i < locales.length; i++) {
+            if (locales[i] == key) {
+                return i;
+            }
+        }
+        for (int i = 0; i < locales.length; i++) {
+            if (Objects.equals(locales[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Creates an immutable copy of translations.
+     *
+     * @param translations the translations to copy
+     * @return compact copy for up to {@value #MAX_SIZE} locales, otherwise an unmodifiable copy
+     */
+    static Map<Locale, String> copyOf(final Map<Locale, String> translations) {
+        if (translations instanceof CompactTranslations) {
+            return translations;
+        } else if (translations.size() > MAX_SIZE) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(translations));
+        }
+        final Locale[] locales = new Locale[translations.size()];
+        final String[] values = new String[translations.size()];
+        int i = 0;
+        for (final Entry<Locale, String> entry : translations.entrySet()) {
+            locales[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        return of(locales, values, i);
+    }
+
+    /**
+     * Creates translations from arrays which are not modified afterwards.
+     *
+     * @param locales the distinct locales, the array may be longer than the size
+     * @param values the values in the order of the locales
+     * @param size the number of translations
+     * @return compact translations for up to {@value #MAX_SIZE} locales, otherwise an unmodifiable map
+     */
+    static Map<Locale, String> of(final Locale[] locales, final String[] values, final int size) {
+        if (size == 0) {
+            return EMPTY;
+        } else if (size > MAX_SIZE) {
+            final Map<Locale, String> translations = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                translations.put(locales[i], values[i]);
+            }
+            return Collections.unmodifiableMap(translations);
+        }
+        return new CompactTranslations(size == locales.length ? locales : Arrays.copyOf(locales, size),
+                size == values.length ? values : Arrays.copyOf(values, size));
+    }
+}
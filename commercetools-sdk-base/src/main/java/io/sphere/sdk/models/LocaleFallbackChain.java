@@ -0,0 +1,87 @@
+package io.sphere.sdk.models;
+
+import io.sphere.sdk.utils.LocaleCache;
+
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Precomputed order of locales to search a translation with {@link LocalizedString#getTranslation(LocaleFallbackChain)}.
+ *
+ * <p>Like in {@link LocalizedString#getTranslation(Iterable)} each locale with a country is followed by its pure language locale,
+ * so "en_US" falls back to "en". The chain is computed once, duplicates are removed and the locales are canonicalized with
+ * {@link LocaleCache}, so a lookup neither creates locales nor iterates a stream. Instances are immutable and can be shared
+ * between threads, for example one chain per shop locale.</p>
+ *
+ * {@include.example io.sphere.sdk.models.LocalizedStringTest#getTranslationWithLocaleFallbackChain()}
+ */
+public final class LocaleFallbackChain extends Base {
+    private final List<Locale> locales;
+    private final Locale[] fallbackLocales;
+    private final List<Locale> fallbackLocaleList;
+
+    private LocaleFallbackChain(final List<Locale> locales) {
+        this.locales = locales;
+        final Set<Locale> fallbackLocales = new LinkedHashSet<>();
+        for (final Locale locale : locales) {
+            fallbackLocales.add(canonical(locale));
+            fallbackLocales.add(canonical(new Locale(locale.getLanguage())));
+        }
+        this.fallbackLocales = fallbackLocales.toArray(new Locale[fallbackLocales.size()]);
+        this.fallbackLocaleList = Collections.unmodifiableList(Arrays.asList(this.fallbackLocales));
+    }
+
+    /**
+     * Gets the locales this chain has been created with.
+     *
+     * @return unmodifiable list of the locales in the order of preference
+     */
+    public List<Locale> getLocales() {
+        return locales;
+    }
+
+    /**
+     * Gets the locales which are searched in this order, including the pure language fallbacks.
+     *
+     * @return unmodifiable random access list of the locales
+     */
+    public List<Locale> getFallbackLocales() {
+        return fallbackLocaleList;
+    }
+
+    int size() {
+        return fallbackLocales.length;
+    }
+
+    Locale get(final int index) {
+        return fallbackLocales[index];
+    }
+
+    private static Locale canonical(final Locale locale) {
+        final Locale cachedLocale = LocaleCache.forLanguageTag(locale.toLanguageTag());
+        return cachedLocale.equals(locale) ? cachedLocale : locale;
+    }
+
+    /**
+     * Creates a chain for locales in the order of preference.
+     *
+     * @param locales the locales, the first one is the most preferred one
+     * @return chain
+     */
+    public static LocaleFallbackChain of(final Iterable<Locale> locales) {
+        final List<Locale> localeList = new ArrayList<>();
+        locales.forEach(locale -> localeList.add(requireNonNull(locale)));
+        return new LocaleFallbackChain(Collections.unmodifiableList(localeList));
+    }
+
+    /**
+     * Creates a chain for locales in the order of preference.
+     *
+     * @param locales the locales, the first one is the most preferred one
+     * @return chain
+     */
+    public static LocaleFallbackChain of(final Locale ... locales) {
+        return of(Arrays.asList(locales));
+    }
+}
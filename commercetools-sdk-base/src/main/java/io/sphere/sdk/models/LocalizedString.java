@@ -1,10 +1,10 @@
 package io.sphere.sdk.models;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
-import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.sphere.sdk.utils.LocaleCache;
 import io.sphere.sdk.utils.SphereInternalUtils;
 
 import javax.annotation.Nonnull;
@@ -25,8 +25,11 @@ import static java.util.stream.Collectors.joining;
  * A localized string is a object where the keys are {@link Locale}s (HTTP API: ISO language tags),
  * and the values are the corresponding strings used for that language.
  *
+ * <p>Translations with up to four locales are stored in two small arrays instead of a map.</p>
+ *
  * {@include.example io.sphere.sdk.models.LocalizedStringTest#defaultUseCases()}
  */
+@JsonDeserialize(using = LocalizedStringDeserializer.class)
 public final class LocalizedString extends Base {
 
     private static final Comparator<Map.Entry<Locale, String>> BY_LOCALE_COMPARATOR = (left, right) -> left.getKey().toString().compareTo(right.getKey().toString());
@@ -34,10 +37,8 @@ public final class LocalizedString extends Base {
     @JsonIgnore
     private final Map<Locale, String> translations;
 
-    @JsonCreator
     private LocalizedString(final Map<Locale, String> translations) {
-        //the Jackson mapper may passes null here and it is not possible to use an immutable map
-        this.translations = immutableCopyOf(Optional.ofNullable(translations).orElse(Collections.emptyMap()));
+        this.translations = CompactTranslations.copyOf(Optional.ofNullable(translations).orElse(Collections.emptyMap()));
     }
 
     /**
@@ -118,7 +119,7 @@ public final class LocalizedString extends Base {
         requireNonNull(translations);
         return translations.entrySet().stream()
                 .map(localeEntry -> {
-                    final Locale locale = Locale.forLanguageTag(localeEntry.getKey());
+                    final Locale locale = LocaleCache.forLanguageTag(localeEntry.getKey());
                     return LocalizedStringEntry.of(locale, localeEntry.getValue());
                 })
                 .collect(LocalizedString.streamCollector());
@@ -180,7 +181,7 @@ public final class LocalizedString extends Base {
      */
     @Nullable
     public String get(final String languageTag){
-        final Locale locale = Locale.forLanguageTag(languageTag);
+        final Locale locale = LocaleCache.forLanguageTag(languageTag);
         return get(locale);
     }
 
@@ -237,6 +238,26 @@ public final class LocalizedString extends Base {
                 .orElse(null);
     }
 
+    /**
+     * Searches a translation with a precomputed chain of locales, with the same result as {@link #getTranslation(Iterable)}
+     * for {@link LocaleFallbackChain#getLocales()} but without creating objects.
+     *
+     * {@include.example io.sphere.sdk.models.LocalizedStringTest#getTranslationWithLocaleFallbackChain()}
+     *
+     * @param localeFallbackChain the locales to try out
+     * @return a translation matching one of the locales or null
+     */
+    @Nullable
+    public String getTranslation(final LocaleFallbackChain localeFallbackChain) {
+        for (int i = 0; i < localeFallbackChain.size(); i++) {
+            final String match = translations.get(localeFallbackChain.get(i));
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
     /**
      * Creates a new instance where each translation value is transformed with {@code function}.
      *
@@ -321,7 +342,7 @@ public final class LocalizedString extends Base {
      */
     @JsonAnyGetter//@JsonUnwrap supports not maps, but this construct puts map content on top level
     private Map<Locale, String> getTranslations() {
-        return immutableCopyOf(translations);
+        return translations;
     }
 
     @Override
@@ -336,12 +357,6 @@ public final class LocalizedString extends Base {
                 + ")";
     }
 
-    @SuppressWarnings("unused")//used by Jackson JSON mapper
-    @JsonAnySetter
-    private void set(final String languageTag, final String value) {
-        translations.put(Locale.forLanguageTag(languageTag), value);
-    }
-
     /**
      * Creates a container which contains the full Java type information to deserialize this class from JSON.
      *
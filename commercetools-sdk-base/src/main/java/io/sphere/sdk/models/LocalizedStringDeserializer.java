@@ -0,0 +1,61 @@
+package io.sphere.sdk.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.sphere.sdk.utils.LocaleCache;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Reads the translations of a {@link LocalizedString} directly into {@link CompactTranslations} without an intermediate map.
+ */
+final class LocalizedStringDeserializer extends StdDeserializer<LocalizedString> {
+    private static final long serialVersionUID = 0L;
+
+    LocalizedStringDeserializer() {
+        super(LocalizedString.class);
+    }
+
+    @Override
+    public LocalizedString deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw deserializationContext.mappingException(LocalizedString.class, token);
+        }
+        Locale[] locales = new Locale[CompactTranslations.MAX_SIZE];
+        String[] values = new String[CompactTranslations.MAX_SIZE];
+        int size = 0;
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            final Locale locale = LocaleCache.forLanguageTag(jsonParser.getCurrentName());
+            final String value = jsonParser.nextToken() == JsonToken.VALUE_NULL ? null : _parseString(jsonParser, deserializationContext);
+            final int index = indexOf(locales, size, locale);
+            if (index >= 0) {
+                values[index] = value;
+            } else {
+                if (size == locales.length) {
+                    locales = Arrays.copyOf(locales, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                locales[size] = locale;
+                values[size] = value;
+                size++;
+            }
+        }
+        return LocalizedString.of(CompactTranslations.of(locales, values, size));
+    }
+
+    private static int indexOf(final Locale[] locales, final int size, final Locale locale) {
+        for (int i = 0; i < size; i++) {
+            if (locales[i].equals(locale)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
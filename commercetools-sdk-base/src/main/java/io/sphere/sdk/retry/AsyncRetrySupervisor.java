@@ -19,6 +19,31 @@ public interface AsyncRetrySupervisor extends AutoCloseable {
     void close();
 
     static AsyncRetrySupervisor of(final List<RetryRule> retryRules) {
-        return new AsyncRetrySupervisorImpl(retryRules);
+        return of(retryRules, 1);
+    }
+
+    /**
+     * Creates a supervisor which distributes the error handling and the scheduled retries across {@code parallelism} scheduler threads.
+     * Successful results are always passed through on the thread which completed them.
+     *
+     * @param retryRules the rules to apply in the error case
+     * @param parallelism the amount of scheduler threads, at least 1
+     * @return supervisor
+     */
+    static AsyncRetrySupervisor of(final List<RetryRule> retryRules, final int parallelism) {
+        return of(retryRules, parallelism, RetryBudget.ofUnlimited());
+    }
+
+    /**
+     * Creates a supervisor which only retries as long as {@code retryBudget} allows it.
+     * If the budget is exhausted the latest error is passed on instead of retrying.
+     *
+     * @param retryRules the rules to apply in the error case
+     * @param parallelism the amount of scheduler threads, at least 1
+     * @param retryBudget the budget which limits the amount of retries
+     * @return supervisor
+     */
+    static AsyncRetrySupervisor of(final List<RetryRule> retryRules, final int parallelism, final RetryBudget retryBudget) {
+        return new AsyncRetrySupervisorImpl(retryRules, parallelism, retryBudget);
     }
 }
@@ -12,14 +12,24 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySupervisor {
     private static final Logger logger = LoggerFactory.getLogger(AsyncRetrySupervisor.class);
     private final List<RetryRule> retryRules;
-    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    private final ScheduledThreadPoolExecutor[] executors;
+    private final RetryBudget retryBudget;
 
-    AsyncRetrySupervisorImpl(final List<RetryRule> retryRules) {
+    AsyncRetrySupervisorImpl(final List<RetryRule> retryRules, final int parallelism, final RetryBudget retryBudget) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be greater than 0.");
+        }
         this.retryRules = retryRules;
+        this.retryBudget = retryBudget;
+        //threads are started lazily, so unused shards don't cost anything
+        this.executors = IntStream.range(0, parallelism)
+                .mapToObj(i -> new ScheduledThreadPoolExecutor(1))
+                .toArray(ScheduledThreadPoolExecutor[]::new);
     }
 
     @Override
@@ -27,17 +37,18 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
                                                final Function<P, CompletionStage<R>> f,
                                                @Nullable final P parameterObject) {
         final CompletableFuture<R> result = new CompletableFuture<>();
+        retryBudget.recordExecution();
         try {
             final CompletionStage<R> initialCompletionStage = f.apply(parameterObject);
-            initialCompletionStage.whenCompleteAsync((res, firstError) -> {
+            initialCompletionStage.whenComplete((res, firstError) -> {
                 final boolean isErrorCase = firstError != null;
                 if (isErrorCase) {
                     final RetryContextImpl<P, R> retryOperationContext = createFirstRetryOperationContext(firstError, result, f, parameterObject, service);
-                    handle(retryOperationContext);
+                    selectExecutor().execute(() -> handle(retryOperationContext));
                 } else {
                     result.complete(res);
                 }
-            }, executor);
+            });
         } catch (final Throwable e) {//necessary if f.apply() throws directly an exception
             result.completeExceptionally(e);
         }
@@ -46,17 +57,23 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
 
     @Override
     public void close() {
-        executor.shutdownNow();
+        for (final ScheduledThreadPoolExecutor executor : executors) {
+            executor.shutdownNow();
+        }
+    }
+
+    private ScheduledThreadPoolExecutor selectExecutor() {
+        return executors.length == 1 ? executors[0] : executors[ThreadLocalRandom.current().nextInt(executors.length)];
     }
 
     private <P, R> RetryContextImpl<P, R> createFirstRetryOperationContext(final Throwable throwable, final CompletableFuture<R> result, final Function<P, CompletionStage<R>> f, final P parameterObject, final AutoCloseable service) {
         final long attemptCount = 1L;
         final Instant now = Instant.now();
-        return new RetryContextImpl<>(now, attemptCount, throwable, parameterObject, throwable, parameterObject, result, f, service, this::schedule);
+        return new RetryContextImpl<>(now, attemptCount, throwable, parameterObject, throwable, parameterObject, Duration.ZERO, result, f, service, this::schedule);
     }
 
     private void schedule(final Runnable r, final Duration d) {
-        executor.schedule(r, d.toMillis(), TimeUnit.MILLISECONDS);
+        selectExecutor().schedule(r, d.toMillis(), TimeUnit.MILLISECONDS);
     }
 
     private <P, R> void handle(final RetryContextImpl<P, R> retryContext) {
@@ -67,23 +84,26 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
             if (strategyType == StrategyType.STOP) {
                 closeService(retryContext);
             }
+        } else if (!retryBudget.tryAcquireRetry()) {
+            logger.debug("Retry budget exhausted, suppressing retry after attempt {}.", retryContext.getAttempt());
+            retryContext.getResult().completeExceptionally(retryContext.getLatestError());
         } else {
             final Function<P, CompletionStage<R>> function = retryContext.getFunction();
             final Object parameter = retryStrategy.getParameter();
             if (strategyType == StrategyType.RETRY_IMMEDIATELY) {
-                retry(retryContext, function, parameter);
+                retry(retryContext, function, parameter, Duration.ZERO);
             } else if (strategyType == StrategyType.RETRY_SCHEDULED) {
                 final Duration duration = retryStrategy.getDuration();
-                retryContext.schedule(() -> retry(retryContext, function, parameter), duration);
+                retryContext.schedule(() -> retry(retryContext, function, parameter, duration), duration);
             } else {
                 throw new IllegalStateException("illegal state for " + retryStrategy);
             }
         }
     }
 
-    private <P, R> void retry(final RetryContextImpl<P, R> retryContext, final Function<P, CompletionStage<R>> function, final Object parameter) {
+    private <P, R> void retry(final RetryContextImpl<P, R> retryContext, final Function<P, CompletionStage<R>> function, final Object parameter, final Duration delay) {
         final CompletionStage<R> completionStage = forceApply(function, parameter);
-        handleResultAndEnqueueErrorHandlingAgain(completionStage, parameter, retryContext);
+        handleResultAndEnqueueErrorHandlingAgain(completionStage, parameter, delay, retryContext);
     }
 
     private <P, R> void closeService(final RetryContextImpl<P, R> retryContext) {
@@ -99,16 +119,16 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
         return function.apply((P) parameter);
     }
 
-    private <P, R> void handleResultAndEnqueueErrorHandlingAgain(final CompletionStage<R> completionStage, final Object parameter, final RetryContextImpl<P, R> retryOperationContext) {
-        completionStage.whenCompleteAsync((res, error) -> {
+    private <P, R> void handleResultAndEnqueueErrorHandlingAgain(final CompletionStage<R> completionStage, final Object parameter, final Duration delay, final RetryContextImpl<P, R> retryOperationContext) {
+        completionStage.whenComplete((res, error) -> {
             final boolean isErrorCase = error != null;
             if (isErrorCase) {
-                final RetryContextImpl<P, R> nextContext = retryOperationContext.withNewFailedAttempt(error, parameter);
-                handle(nextContext);
+                final RetryContextImpl<P, R> nextContext = retryOperationContext.withNewFailedAttempt(error, parameter, delay);
+                selectExecutor().execute(() -> handle(nextContext));
             } else {
                 retryOperationContext.getResult().complete(res);
             }
-        }, executor);
+        });
     }
 
     private RetryStrategy applyContext(final RetryContext retryContext) {
@@ -0,0 +1,61 @@
+package io.sphere.sdk.retry;
+
+/**
+ * Limits the amount of retries in relation to the amount of original executions, so that retries cannot multiply
+ * the load on a service which is already in trouble.
+ *
+ * <p>The budget is a token bucket: every original execution deposits {@code maxRetryRatio} tokens and every retry
+ * withdraws one token. If there are no tokens left the retry is suppressed and the latest error is passed on.
+ * The bucket holds at most {@code maxBurst} tokens and starts full.</p>
+ *
+ * {@include.example io.sphere.sdk.client.retry.RetryWithBudgetExample}
+ *
+ * @see AsyncRetrySupervisor#of(java.util.List, int, RetryBudget)
+ */
+public interface RetryBudget {
+    /**
+     * Records an original execution and deposits tokens for retries.
+     */
+    void recordExecution();
+
+    /**
+     * Tries to withdraw a token for a retry.
+     *
+     * @return true if the retry is allowed, false if it should be suppressed
+     */
+    boolean tryAcquireRetry();
+
+    /**
+     * The amount of retries which were allowed by this budget so far.
+     *
+     * @return amount of retries
+     */
+    long getRetriesAttempted();
+
+    /**
+     * The amount of retries which were suppressed by this budget so far.
+     *
+     * @return amount of suppressed retries
+     */
+    long getRetriesSuppressed();
+
+    /**
+     * Creates a budget which allows on average {@code maxRetryRatio} retries per original execution.
+     *
+     * @param maxRetryRatio retries per execution, for example 0.1 for 10 percent
+     * @param maxBurst maximal amount of retries which can be saved up
+     * @return budget
+     */
+    static RetryBudget of(final double maxRetryRatio, final long maxBurst) {
+        return new RetryBudgetImpl(maxRetryRatio, maxBurst);
+    }
+
+    /**
+     * Creates a budget which never suppresses retries but still counts them.
+     *
+     * @return budget
+     */
+    static RetryBudget ofUnlimited() {
+        return new RetryBudgetImpl(-1, 0);
+    }
+}
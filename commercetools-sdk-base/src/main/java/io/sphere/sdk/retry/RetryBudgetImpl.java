@@ -0,0 +1,72 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.models.Base;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class RetryBudgetImpl extends Base implements RetryBudget {
+    //tokens are stored as fixed point numbers to allow fractional deposits without locking
+    private static final long SCALE = 1000L;
+    private final long depositPerExecution;
+    private final long capacity;
+    private final boolean unlimited;
+    private final AtomicLong balance;
+    private final LongAdder retriesAttempted = new LongAdder();
+    private final LongAdder retriesSuppressed = new LongAdder();
+
+    RetryBudgetImpl(final double maxRetryRatio, final long maxBurst) {
+        this.unlimited = maxRetryRatio < 0;
+        if (!unlimited && maxBurst < 0) {
+            throw new IllegalArgumentException("Max burst must not be negative.");
+        }
+        this.depositPerExecution = unlimited ? 0 : Math.round(maxRetryRatio * SCALE);
+        this.capacity = Math.max(maxBurst * SCALE, SCALE);
+        this.balance = new AtomicLong(maxBurst * SCALE);
+    }
+
+    @Override
+    public void recordExecution() {
+        if (!unlimited && depositPerExecution > 0) {
+            long current;
+            do {
+                current = balance.get();
+                if (current >= capacity) {
+                    return;
+                }
+            } while (!balance.compareAndSet(current, Math.min(capacity, current + depositPerExecution)));
+        }
+    }
+
+    @Override
+    public boolean tryAcquireRetry() {
+        final boolean acquired = unlimited || withdraw();
+        if (acquired) {
+            retriesAttempted.increment();
+        } else {
+            retriesSuppressed.increment();
+        }
+        return acquired;
+    }
+
+    private boolean withdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    @Override
+    public long getRetriesAttempted() {
+        return retriesAttempted.sum();
+    }
+
+    @Override
+    public long getRetriesSuppressed() {
+        return retriesSuppressed.sum();
+    }
+}
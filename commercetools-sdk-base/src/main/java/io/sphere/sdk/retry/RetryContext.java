@@ -1,6 +1,7 @@
 package io.sphere.sdk.retry;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.time.Instant;
 
 /**
@@ -48,4 +49,13 @@ public interface RetryContext {
      * @return attempt
      */
     Long getAttempt();
+
+    /**
+     * The time which has been waited before the latest attempt, {@link Duration#ZERO} for the first attempt and immediate retries.
+     *
+     * @return delay
+     */
+    default Duration getLatestDelay() {
+        return Duration.ZERO;
+    }
 }
@@ -0,0 +1,74 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.models.SphereException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Computes the time to wait until the next attempt, to be used with {@link RetryAction#ofScheduledRetry(long, Function)}.
+ * The static factory methods provide delays for typical use cases.
+ *
+ * {@include.example io.sphere.sdk.client.retry.RetryWithBudgetExample}
+ */
+@FunctionalInterface
+public interface RetryDelay extends Function<RetryContext, Duration> {
+    @Override
+    Duration apply(RetryContext retryContext);
+
+    /**
+     * Creates a delay which waits always the same amount of time.
+     *
+     * @param duration the time to wait
+     * @return delay
+     */
+    static RetryDelay ofFixed(final Duration duration) {
+        return retryContext -> duration;
+    }
+
+    /**
+     * Creates a delay with "decorrelated jitter": the next delay is a random value between {@code base} and three
+     * times the previous delay, but never more than {@code cap}. This spreads the retries of concurrent requests
+     * so that they don't hit the platform at the same moment.
+     *
+     * @param base the minimal delay and the upper bound for the first delay
+     * @param cap the maximal delay
+     * @return delay
+     */
+    static RetryDelay ofDecorrelatedJitter(final Duration base, final Duration cap) {
+        if (base.isNegative() || base.isZero() || cap.compareTo(base) < 0) {
+            throw new IllegalArgumentException("Base must be positive and cap must not be smaller than base.");
+        }
+        final long baseMillis = base.toMillis();
+        final long capMillis = cap.toMillis();
+        return retryContext -> {
+            final long previousMillis = Math.max(baseMillis, retryContext.getLatestDelay().toMillis());
+            final long upperBound = Math.min(capMillis, previousMillis * 3);
+            final long millis = upperBound > baseMillis ? ThreadLocalRandom.current().nextLong(baseMillis, upperBound + 1) : baseMillis;
+            return Duration.ofMillis(millis);
+        };
+    }
+
+    /**
+     * Creates a delay which honors the "Retry-After" header of the latest error response (for example for 429 or 503),
+     * if there is none it uses {@code fallback}. The delay from the header is limited by {@code cap}.
+     *
+     * @param fallback the delay to use if the latest error contains no "Retry-After" header
+     * @param cap the maximal delay taken from the header
+     * @return delay
+     */
+    static RetryDelay ofRetryAfterHeader(final Function<RetryContext, Duration> fallback, final Duration cap) {
+        return retryContext -> {
+            final Optional<Duration> retryAfter = Optional.of(retryContext.getLatestError())
+                    .filter(error -> error instanceof SphereException)
+                    .map(error -> ((SphereException) error).getHttpResponse())
+                    .flatMap(response -> response.getHeaders().findFlatHeader(RetryDelays.RETRY_AFTER))
+                    .flatMap(RetryDelays::parseRetryAfter);
+            return retryAfter
+                    .map(duration -> duration.compareTo(cap) > 0 ? cap : duration)
+                    .orElseGet(() -> fallback.apply(retryContext));
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package io.sphere.sdk.retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+final class RetryDelays {
+    static final String RETRY_AFTER = "Retry-After";
+
+    private RetryDelays() {
+    }
+
+    /**
+     * Parses the value of a "Retry-After" header which is either an amount of seconds or an HTTP date.
+     *
+     * @param value the header value
+     * @return the time to wait or empty if the value is malformed
+     */
+    static Optional<Duration> parseRetryAfter(final String value) {
+        final String trimmed = value.trim();
+        try {
+            final long seconds = Long.parseLong(trimmed);
+            return seconds >= 0 ? Optional.of(Duration.ofSeconds(seconds)) : Optional.empty();
+        } catch (final NumberFormatException e) {
+            try {
+                final Instant retryAt = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                final Duration duration = Duration.between(Instant.now(), retryAt);
+                return Optional.of(duration.isNegative() ? Duration.ZERO : duration);
+            } catch (final DateTimeParseException dateTimeParseException) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package io.sphere.sdk.utils;
+
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import javax.money.*;
+import java.math.BigDecimal;
+
+/**
+ * {@link MonetaryAmount} which stores the amount in the minor unit of the currency, like the commercetools platform does.
+ *
+ * <p>Creating it needs no {@link BigDecimal}, so deserializing the prices of large product pages is cheap. The sign,
+ * the comparisons and the addition, subtraction and multiplication with other cent amounts of the same currency are
+ * computed with the cents. All other operations delegate to a {@link MoneyImpl} which is created on first use.</p>
+ *
+ * <p>Instances are equal to other monetary amounts with the same currency and the same value.</p>
+ */
+public final class CentMoneyImpl extends Base implements MonetaryAmount {
+    private final long centAmount;
+    private final CurrencyUnit currency;
+    @Nullable
+    private MonetaryAmount money;
+
+    private CentMoneyImpl(final long centAmount, final CurrencyUnit currency) {
+        this.centAmount = centAmount;
+        this.currency = currency;
+    }
+
+    /**
+     * Gets the amount in the minor unit of the currency, for example 1234 for EUR 12.34.
+     *
+     * @return the cent amount
+     */
+    public long getCentAmount() {
+        return centAmount;
+    }
+
+    @Override
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public NumberValue getNumber() {
+        return money().getNumber();
+    }
+
+    @Override
+    public MonetaryContext getContext() {
+        return money().getContext();
+    }
+
+    @Override
+    public <R> R query(final MonetaryQuery<R> query) {
+        return money().query(query);
+    }
+
+    @Override
+    public MonetaryAmount with(final MonetaryOperator operator) {
+        return money().with(operator);
+    }
+
+    @Override
+    public MonetaryAmountFactory<? extends MonetaryAmount> getFactory() {
+        return money().getFactory();
+    }
+
+    @Override
+    public boolean isGreaterThan(final MonetaryAmount amount) {
+        final Long otherCentAmount = centAmountOfSameCurrency(amount);
+        return otherCentAmount != null ? centAmount > otherCentAmount : money().isGreaterThan(amount);
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(final MonetaryAmount amount) {
+        final Long otherCentAmount = centAmountOfSameCurrency(amount);
+        return otherCentAmount != null ? centAmount >= otherCentAmount : money().isGreaterThanOrEqualTo(amount);
+    }
+
+    @Override
+    public boolean isLessThan(final MonetaryAmount amount) {
+        final Long otherCentAmount = centAmountOfSameCurrency(amount);
+        return otherCentAmount != null ? centAmount < otherCentAmount : money().isLessThan(amount);
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(final MonetaryAmount amount) {
+        final Long otherCentAmount = centAmountOfSameCurrency(amount);
+        return otherCentAmount != null ? centAmount <= otherCentAmount : money().isLessThanOrEqualTo(amount);
+    }
+
+    @Override
+    public boolean isEqualTo(final MonetaryAmount amount) {
+        final Long otherCentAmount = centAmountOfSameCurrency(amount);
+        return otherCentAmount != null ? centAmount == otherCentAmount : money().isEqualTo(amount);
+    }
+
+    @Override
+    public boolean isNegative() {
+        return centAmount < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return centAmount <= 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return centAmount > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return centAmount >= 0;
+    }
+
+    @Override
+    public boolean isZero() {
+        return centAmount == 0;
+    }
+
+    @Override
+    public int signum() {
+        return Long.signum(centAmount);
+    }
+
+    @Override
+    public MonetaryAmount add(final MonetaryAmount amount) {
+        final Long otherCentAmount = centAmountOfSameCurrency(amount);
+        if (otherCentAmount != null) {
+            try {
+                return of(Math.addExact(centAmount, otherCentAmount), currency);
+            } catch (final ArithmeticException e) {
+                //handled by the delegate
+            }
+        }
+        return money().add(amount);
+    }
+
+    @Override
+    public MonetaryAmount subtract(final MonetaryAmount amount) {
+        final Long otherCentAmount = centAmountOfSameCurrency(amount);
+        if (otherCentAmount != null) {
+            try {
+                return of(Math.subtractExact(centAmount, otherCentAmount), currency);
+            } catch (final ArithmeticException e) {
+                //handled by the delegate
+            }
+        }
+        return money().subtract(amount);
+    }
+
+    @Override
+    public MonetaryAmount multiply(final long multiplicand) {
+        try {
+            return of(Math.multiplyExact(centAmount, multiplicand), currency);
+        } catch (final ArithmeticException e) {
+            return money().multiply(multiplicand);
+        }
+    }
+
+    @Override
+    public MonetaryAmount multiply(final double multiplicand) {
+        return money().multiply(multiplicand);
+    }
+
+    @Override
+    public MonetaryAmount multiply(final Number multiplicand) {
+        return money().multiply(multiplicand);
+    }
+
+    @Override
+    public MonetaryAmount divide(final long divisor) {
+        return money().divide(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divide(final double divisor) {
+        return money().divide(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divide(final Number divisor) {
+        return money().divide(divisor);
+    }
+
+    @Override
+    public MonetaryAmount remainder(final long divisor) {
+        return money().remainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount remainder(final double divisor) {
+        return money().remainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount remainder(final Number divisor) {
+        return money().remainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(final long divisor) {
+        return money().divideAndRemainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(final double divisor) {
+        return money().divideAndRemainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(final Number divisor) {
+        return money().divideAndRemainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(final long divisor) {
+        return money().divideToIntegralValue(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(final double divisor) {
+        return money().divideToIntegralValue(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(final Number divisor) {
+        return money().divideToIntegralValue(divisor);
+    }
+
+    @Override
+    public MonetaryAmount scaleByPowerOfTen(final int power) {
+        return money().scaleByPowerOfTen(power);
+    }
+
+    @Override
+    public MonetaryAmount abs() {
+        return centAmount >= 0 ? this : negate();
+    }
+
+    @Override
+    public MonetaryAmount negate() {
+        return centAmount != Long.MIN_VALUE ? of(-centAmount, currency) : money().negate();
+    }
+
+    @Override
+    public MonetaryAmount plus() {
+        return this;
+    }
+
+    @Override
+    public MonetaryAmount stripTrailingZeros() {
+        return money().stripTrailingZeros();
+    }
+
+    @Override
+    public int compareTo(final MonetaryAmount o) {
+        final Long otherCentAmount = centAmountOfSameCurrency(o);
+        return otherCentAmount != null ? Long.compare(centAmount, otherCentAmount) : money().compareTo(o);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof CentMoneyImpl) {
+            final CentMoneyImpl other = (CentMoneyImpl) obj;
+            return centAmount == other.centAmount && currency.equals(other.currency);
+        }
+        return obj instanceof MonetaryAmount && money().equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return money().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return money().toString();
+    }
+
+    @Nullable
+    private Long centAmountOfSameCurrency(final MonetaryAmount amount) {
+        if (amount instanceof CentMoneyImpl) {
+            final CentMoneyImpl other = (CentMoneyImpl) amount;
+            if (currency.equals(other.currency)) {
+                return other.centAmount;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the delegate for the operations which are not computed with cents. Concurrent first calls may create
+     * multiple equal instances, which is harmless since they are immutable.
+     */
+    private MonetaryAmount money() {
+        MonetaryAmount result = money;
+        if (result == null) {
+            result = MoneyImpl.of(BigDecimal.valueOf(centAmount, currency.getDefaultFractionDigits()), currency);
+            money = result;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a monetary amount from the amount in the minor unit of a currency.
+     *
+     * @param centAmount the amount in the minor unit, for example 1234 for EUR 12.34
+     * @param currency the currency which must have a minor unit
+     * @return monetary amount
+     */
+    public static CentMoneyImpl of(final long centAmount, final CurrencyUnit currency) {
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("The currency " + currency + " has no minor unit.");
+        }
+        return new CentMoneyImpl(centAmount, currency);
+    }
+}
@@ -0,0 +1,29 @@
+package io.sphere.sdk.utils;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the currencies looked up by {@link Monetary#getCurrency(String, String...)}, which asks all currency
+ * providers for each call. Only known currencies are cached, so the size is limited by the currencies of the providers.
+ */
+public final class CurrencyUnitCache {
+    private static final ConcurrentMap<String, CurrencyUnit> CURRENCIES = new ConcurrentHashMap<>();
+
+    private CurrencyUnitCache() {
+    }
+
+    /**
+     * Gets a currency by its code.
+     *
+     * @param currencyCode the ISO 4217 currency code, for example "EUR" or "USD"
+     * @return the currency
+     * @throws javax.money.UnknownCurrencyException if the currency is not known
+     */
+    public static CurrencyUnit getCurrency(final String currencyCode) {
+        final CurrencyUnit cachedCurrency = CURRENCIES.get(currencyCode);
+        return cachedCurrency != null ? cachedCurrency : CURRENCIES.computeIfAbsent(currencyCode, Monetary::getCurrency);
+    }
+}
@@ -0,0 +1,38 @@
+package io.sphere.sdk.utils;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizes the locales of language tags, so parsing the many localized fields of products and categories
+ * neither parses the same tag again nor keeps duplicate {@link Locale} instances.
+ *
+ * <p>At most {@value #MAX_SIZE} tags are cached, further tags are parsed for each call.</p>
+ */
+public final class LocaleCache {
+    static final int MAX_SIZE = 512;
+    private static final ConcurrentMap<String, Locale> LOCALES = new ConcurrentHashMap<>();
+
+    private LocaleCache() {
+    }
+
+    /**
+     * Gets the locale of a language tag like {@link Locale#forLanguageTag(String)} does.
+     *
+     * @param languageTag the language tag, for example "de-DE"
+     * @return the canonical locale instance
+     */
+    public static Locale forLanguageTag(final String languageTag) {
+        final Locale cachedLocale = LOCALES.get(languageTag);
+        if (cachedLocale != null) {
+            return cachedLocale;
+        }
+        final Locale locale = Locale.forLanguageTag(languageTag);
+        if (LOCALES.size() >= MAX_SIZE) {
+            return locale;
+        }
+        final Locale previous = LOCALES.putIfAbsent(languageTag, locale);
+        return previous != null ? previous : locale;
+    }
+}
@@ -265,7 +265,7 @@ public final class MoneyImpl extends Base implements MonetaryAmount {
     }
 
     private static CurrencyUnit createCurrencyByCode(final String currencyCode) {
-        return Monetary.getCurrency(currencyCode);
+        return CurrencyUnitCache.getCurrency(currencyCode);
     }
 
     public static MonetaryAmount of(final String amount, final CurrencyUnit currencyUnit) {
@@ -287,8 +287,16 @@ public final class MoneyImpl extends Base implements MonetaryAmount {
         return ofCents(centAmount, createCurrencyByCode(currencyCode));
     }
 
+    /**
+     * Creates a {@link MonetaryAmount} from a cent amount without creating a {@link BigDecimal}.
+     *
+     * @param centAmount the amount in the minor unit of the currency, for example 1234 for EUR 12.34
+     * @param currencyUnit the currency
+     * @return amount
+     * @see CentMoneyImpl
+     */
     public static MonetaryAmount ofCents(final long centAmount, final CurrencyUnit currencyUnit) {
-        return of(new BigDecimal(centAmount).divide(new BigDecimal(10).pow(currencyUnit.getDefaultFractionDigits())), currencyUnit);
+        return CentMoneyImpl.of(centAmount, currencyUnit);
     }
 
     public static MonetaryAmount of(final String value, final String currencyCode) {
@@ -296,6 +304,9 @@ public final class MoneyImpl extends Base implements MonetaryAmount {
     }
 
     public static Long centAmountOf(@Nonnull final MonetaryAmount monetaryAmount) {
+        if (monetaryAmount instanceof CentMoneyImpl) {
+            return ((CentMoneyImpl) monetaryAmount).getCentAmount();
+        }
         return monetaryAmount.query(MonetaryUtil.minorUnits());
     }
 }
@@ -3,8 +3,12 @@ package io.sphere.sdk.json;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.utils.CentMoneyImpl;
+import io.sphere.sdk.utils.MoneyImpl;
 import org.junit.Test;
 
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
@@ -28,6 +32,20 @@ public class SphereJsonUtilsTest {
         assertThat(DateTimeFormatter.ISO_INSTANT.format(actual)).isEqualTo("2001-09-11T14:00:00Z");
     }
 
+    @Test
+    public void deserializeMoneyWithUnknownFields() throws Exception {
+        final String json = "{\"type\":\"centPrecision\",\"currencyCode\":\"EUR\",\"centAmount\":123456,\"fractionDigits\":2}";
+        final MonetaryAmount actual = SphereJsonUtils.readObject(json, MonetaryAmount.class);
+        assertThat(actual).isInstanceOf(CentMoneyImpl.class).isEqualTo(MoneyImpl.of(new BigDecimal("1234.56"), "EUR"));
+        assertThat(SphereJsonUtils.toJsonString(actual)).isEqualTo("{\"centAmount\":123456,\"currencyCode\":\"EUR\"}");
+    }
+
+    @Test
+    public void serializeMoneyRoundsToCents() throws Exception {
+        final MonetaryAmount amount = MoneyImpl.of(new BigDecimal("12.345"), "EUR");
+        assertThat(SphereJsonUtils.toJsonString(amount)).isEqualTo("{\"centAmount\":1234,\"currencyCode\":\"EUR\"}");
+    }
+
     @Test
     public void prettyPrint() throws Exception {
         final String jsonString = "{\"de\":\"Hundefutter\",\"en\":\"dog food\"}";
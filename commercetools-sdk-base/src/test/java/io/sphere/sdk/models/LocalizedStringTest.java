@@ -180,6 +180,25 @@ public class LocalizedStringTest {
                 .isNull();
     }
 
+    @Test
+    public void getTranslationWithLocaleFallbackChain() {
+        final LocalizedString ls = LocalizedString
+                .of(Locale.GERMAN, "de")
+                .plus(Locale.ENGLISH, "en")
+                .plus(Locale.US, "en_US");
+        final LocaleFallbackChain chain = LocaleFallbackChain.of(Locale.UK, Locale.US, Locale.GERMAN);
+
+        assertThat(chain.getFallbackLocales()).containsExactly(Locale.UK, Locale.ENGLISH, Locale.US, Locale.GERMAN);
+        assertThat(ls.getTranslation(chain))
+                .isEqualTo(ls.getTranslation(chain.getLocales()))
+                .isEqualTo("en");
+        assertThat(ls.getTranslation(LocaleFallbackChain.of(Locale.US, Locale.ENGLISH))).isEqualTo("en_US");
+        assertThat(ls.getTranslation(LocaleFallbackChain.of(new Locale("de", "AT")))).isEqualTo("de");
+        assertThat(ls.getTranslation(LocaleFallbackChain.of(Locale.FRENCH))).isNull();
+        assertThat(SphereJsonUtils.readObject(DOG_FOOD_JSON, LocalizedString.class).getTranslation(LocaleFallbackChain.of(Locale.US)))
+                .isEqualTo("dog food");
+    }
+
     @Test
     public void returnPresentLocales() throws Exception {
         assertThat(LOCALIZED_STRING.getLocales()).isEqualTo(new HashSet<>(asList(Locale.GERMAN, Locale.ENGLISH)));
@@ -352,4 +371,32 @@ public class LocalizedStringTest {
                 .plus(Locale.ITALIAN, "Giacche");
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    public void deserializeManyLocalesAndNullValues() {
+        final String json = "{\"de\":\"Jacken\",\"en\":\"Jackets\",\"it\":\"Giacche\",\"fr\":\"Vestes\",\"es\":\"Chaquetas\",\"nl\":null}";
+        final LocalizedString localizedString = SphereJsonUtils.readObject(json, LocalizedString.class);
+        assertThat(localizedString.getLocales()).containsExactly(Locale.GERMAN, Locale.ENGLISH, Locale.ITALIAN, Locale.FRENCH,
+                Locale.forLanguageTag("es"), Locale.forLanguageTag("nl"));
+        assertThat(localizedString.get("es")).isEqualTo("Chaquetas");
+        assertThat(localizedString.get(Locale.forLanguageTag("nl"))).isNull();
+        assertThat(SphereJsonUtils.toJsonString(localizedString)).isEqualTo(json);
+    }
+
+    @Test
+    public void compactAndMapBasedTranslationsAreEqual() {
+        final LocalizedString compact = SphereJsonUtils.readObject(DOG_FOOD_JSON, LocalizedString.class);
+        final Map<Locale, String> translations = new HashMap<>();
+        translations.put(Locale.ENGLISH, "dog food");
+        translations.put(Locale.GERMAN, "Hundefutter");
+        assertThat(compact).isEqualTo(LocalizedString.of(translations));
+        assertThat(compact.hashCode()).isEqualTo(LocalizedString.of(translations).hashCode());
+    }
+
+    @Test
+    public void deserializedLocalesAreShared() {
+        final LocalizedString first = SphereJsonUtils.readObject(FULL_LOCALE_JSON_STRING, LocalizedString.class);
+        final LocalizedString second = SphereJsonUtils.readObject(FULL_LOCALE_JSON_STRING, LocalizedString.class);
+        assertThat(first.getLocales().iterator().next()).isSameAs(second.getLocales().iterator().next());
+    }
 }
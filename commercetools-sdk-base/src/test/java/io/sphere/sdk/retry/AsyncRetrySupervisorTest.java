@@ -5,6 +5,7 @@ import org.junit.Test;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import static java.util.Collections.singletonList;
@@ -101,6 +102,41 @@ public class AsyncRetrySupervisorTest {
         }
     }
 
+    @Test
+    public void successfulResultsCompleteOnTheCallingThread() throws Exception {
+        final CompletableFuture<Integer> serviceResult = new CompletableFuture<>();
+        try (final Service service = new ServiceImpl()) {
+            try(final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(Collections.emptyList(), 4)) {
+                final CompletionStage<Thread> completingThread = supervisor
+                        .supervise(service, s -> serviceResult, "bar")
+                        .thenApply(i -> Thread.currentThread());
+                final Thread thread = new Thread(() -> serviceResult.complete(3));
+                thread.start();
+                thread.join();
+                assertThat(completingThread.toCompletableFuture().join()).isSameAs(thread);
+            }
+        }
+    }
+
+    @Test
+    public void scheduledRetryWithMultipleSchedulerThreads() throws Exception {
+        try (final Service service = new Failing2TimesServiceImpl()) {
+            final RetryAction op = RetryAction.ofScheduledRetry(3, o -> Duration.ofMillis(o.getAttempt() * 100));
+            final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofAlwaysTrue(), op));
+            try(final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules, 4)) {
+                final CompletionStage<Integer> bar = supervisor.supervise(service, service::apply, "bar");
+                assertThat(waitAndGet(bar)).isEqualTo(3);
+                assertThat(service.isClosed()).isFalse();
+            }
+        }
+    }
+
+    @Test
+    public void parallelismMustBePositive() throws Exception {
+        assertThatThrownBy(() -> AsyncRetrySupervisor.of(Collections.emptyList(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private Integer waitAndGet(final CompletionStage<Integer> bar) {
         return bar.toCompletableFuture().join();
     }
@@ -0,0 +1,69 @@
+package io.sphere.sdk.retry;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class RetryBudgetTest {
+    @Test
+    public void startsWithBurstAndSuppressesAfterwards() {
+        final RetryBudget budget = RetryBudget.of(0.5, 2);
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+        assertThat(budget.getRetriesAttempted()).isEqualTo(2);
+        assertThat(budget.getRetriesSuppressed()).isEqualTo(1);
+    }
+
+    @Test
+    public void executionsDepositTokensAccordingToRatio() {
+        final RetryBudget budget = RetryBudget.of(0.5, 0);
+        budget.recordExecution();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+        budget.recordExecution();
+        budget.recordExecution();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+    }
+
+    @Test
+    public void depositsAreLimitedByBurst() {
+        final RetryBudget budget = RetryBudget.of(1, 2);
+        for (int i = 0; i < 100; i++) {
+            budget.recordExecution();
+        }
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+    }
+
+    @Test
+    public void unlimitedBudgetCountsRetries() {
+        final RetryBudget budget = RetryBudget.ofUnlimited();
+        for (int i = 0; i < 100; i++) {
+            assertThat(budget.tryAcquireRetry()).isTrue();
+        }
+        assertThat(budget.getRetriesAttempted()).isEqualTo(100);
+        assertThat(budget.getRetriesSuppressed()).isEqualTo(0);
+    }
+
+    @Test
+    public void supervisorPassesErrorIfBudgetIsExhausted() throws Exception {
+        try (final Service service = new Failing2TimesServiceImpl()) {
+            final RetryBudget budget = RetryBudget.of(0, 1);
+            final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofAlwaysTrue(), RetryAction.ofImmediateRetries(3)));
+            try (final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules, 1, budget)) {
+                final CompletionStage<Integer> result = supervisor.supervise(service, service::apply, "bar");
+                final Throwable throwable = catchThrowable(() -> result.toCompletableFuture().join());
+                assertThat(throwable.getCause()).hasMessage(Failing2TimesServiceImpl.ERROR_MESSAGE);
+                assertThat(budget.getRetriesAttempted()).isEqualTo(1);
+                assertThat(budget.getRetriesSuppressed()).isEqualTo(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.client.ServiceUnavailableException;
+import io.sphere.sdk.http.HttpHeaders;
+import io.sphere.sdk.http.HttpResponse;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RetryDelayTest {
+    private static final Duration FALLBACK = Duration.ofMillis(100);
+    private static final Duration CAP = Duration.ofSeconds(60);
+
+    @Test
+    public void decorrelatedJitterStaysWithinBounds() {
+        final Duration base = Duration.ofMillis(100);
+        final Duration cap = Duration.ofSeconds(2);
+        final RetryDelay delay = RetryDelay.ofDecorrelatedJitter(base, cap);
+        Duration latestDelay = Duration.ZERO;
+        for (int i = 0; i < 1000; i++) {
+            final Duration next = delay.apply(getRetryContext(new ServiceUnavailableException(), latestDelay));
+            assertThat(next).isGreaterThanOrEqualTo(base).isLessThanOrEqualTo(cap);
+            assertThat(next.toMillis()).isLessThanOrEqualTo(Math.max(base.toMillis(), latestDelay.toMillis()) * 3);
+            latestDelay = next;
+        }
+    }
+
+    @Test
+    public void decorrelatedJitterValidatesBounds() {
+        assertThatThrownBy(() -> RetryDelay.ofDecorrelatedJitter(Duration.ofSeconds(2), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void retryAfterInSeconds() {
+        assertThat(retryAfterDelay("7")).isEqualTo(Duration.ofSeconds(7));
+    }
+
+    @Test
+    public void retryAfterAsHttpDate() {
+        final String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        assertThat(retryAfterDelay(date)).isGreaterThan(Duration.ofSeconds(20)).isLessThanOrEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void retryAfterIsCapped() {
+        assertThat(retryAfterDelay("3600")).isEqualTo(CAP);
+    }
+
+    @Test
+    public void retryAfterFallbackForMalformedHeader() {
+        assertThat(retryAfterDelay("soon")).isEqualTo(FALLBACK);
+    }
+
+    @Test
+    public void retryAfterFallbackWithoutResponse() {
+        final RetryDelay delay = RetryDelay.ofRetryAfterHeader(RetryDelay.ofFixed(FALLBACK), CAP);
+        assertThat(delay.apply(getRetryContext(new ServiceUnavailableException(), Duration.ZERO))).isEqualTo(FALLBACK);
+    }
+
+    private static Duration retryAfterDelay(final String headerValue) {
+        final ServiceUnavailableException exception = new ServiceUnavailableException();
+        exception.setUnderlyingHttpResponse(HttpResponse.of(503, HttpHeaders.of("Retry-After", headerValue)));
+        final RetryDelay delay = RetryDelay.ofRetryAfterHeader(RetryDelay.ofFixed(FALLBACK), CAP);
+        return delay.apply(getRetryContext(exception, Duration.ZERO));
+    }
+
+    private static RetryContextImpl<Object, Object> getRetryContext(final Throwable latestError, final Duration latestDelay) {
+        return new RetryContextImpl<>(null, 1L, latestError, null, latestError, null, latestDelay, null, null, null, null);
+    }
+}
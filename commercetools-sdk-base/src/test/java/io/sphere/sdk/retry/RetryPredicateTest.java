@@ -24,6 +24,6 @@ public class RetryPredicateTest {
     }
 
     private RetryContextImpl<Object, Object> getRetryContext(final Throwable latestError) {
-        return new RetryContextImpl<>(null, null, null, null, latestError, null, null, null, null, null);
+        return new RetryContextImpl<>(null, null, null, null, latestError, null, null, null, null, null, null);
     }
 }
\ No newline at end of file
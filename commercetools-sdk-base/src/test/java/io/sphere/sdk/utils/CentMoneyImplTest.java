@@ -0,0 +1,67 @@
+package io.sphere.sdk.utils;
+
+import org.junit.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CentMoneyImplTest {
+    private static final CurrencyUnit EUR = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit JPY = Monetary.getCurrency("JPY");
+
+    @Test
+    public void equalToBigDecimalBasedAmount() {
+        final MonetaryAmount cents = CentMoneyImpl.of(123456, EUR);
+        final MonetaryAmount decimal = MoneyImpl.of(new BigDecimal("1234.56"), EUR);
+        assertThat(cents).isEqualTo(decimal);
+        assertThat(decimal).isEqualTo(cents);
+        assertThat(cents.hashCode()).isEqualTo(decimal.hashCode());
+        assertThat(cents.getNumber().numberValue(BigDecimal.class)).isEqualByComparingTo("1234.56");
+        assertThat(cents).isNotEqualTo(CentMoneyImpl.of(123456, Monetary.getCurrency("USD")));
+    }
+
+    @Test
+    public void currencyWithoutFractionDigits() {
+        assertThat(CentMoneyImpl.of(500, JPY)).isEqualTo(MoneyImpl.of(500, JPY));
+    }
+
+    @Test
+    public void arithmeticWithCents() {
+        final CentMoneyImpl amount = CentMoneyImpl.of(1050, EUR);
+        assertThat(amount.add(CentMoneyImpl.of(50, EUR))).isEqualTo(CentMoneyImpl.of(1100, EUR)).isInstanceOf(CentMoneyImpl.class);
+        assertThat(amount.subtract(CentMoneyImpl.of(2000, EUR))).isEqualTo(CentMoneyImpl.of(-950, EUR));
+        assertThat(amount.multiply(3)).isEqualTo(CentMoneyImpl.of(3150, EUR));
+        assertThat(amount.negate().abs()).isEqualTo(amount);
+        assertThat(amount.add(MoneyImpl.of(new BigDecimal("0.005"), EUR))).isEqualTo(MoneyImpl.of(new BigDecimal("10.505"), EUR));
+        assertThat(amount.divide(2)).isEqualTo(MoneyImpl.of(new BigDecimal("5.25"), EUR));
+        assertThat(CentMoneyImpl.of(Long.MAX_VALUE, EUR).signum()).isEqualTo(1);
+    }
+
+    @Test
+    public void comparisons() {
+        final CentMoneyImpl small = CentMoneyImpl.of(100, EUR);
+        final CentMoneyImpl large = CentMoneyImpl.of(200, EUR);
+        assertThat(small.isLessThan(large)).isTrue();
+        assertThat(large.isGreaterThanOrEqualTo(small)).isTrue();
+        assertThat(small.compareTo(large)).isNegative();
+        assertThat(small.isGreaterThan(MoneyImpl.of(new BigDecimal("0.99"), EUR))).isTrue();
+        assertThat(small.isEqualTo(MoneyImpl.of(1, EUR))).isTrue();
+        assertThatThrownBy(() -> small.isLessThan(CentMoneyImpl.of(100, JPY))).isInstanceOf(javax.money.MonetaryException.class);
+    }
+
+    @Test
+    public void centAmountOf() {
+        assertThat(MoneyImpl.centAmountOf(MoneyImpl.ofCents(-42, EUR))).isEqualTo(-42);
+        assertThat(MoneyImpl.centAmountOf(MoneyImpl.of(new BigDecimal("0.42"), EUR))).isEqualTo(42);
+    }
+
+    @Test
+    public void currencyUnitsAreCached() {
+        assertThat(CurrencyUnitCache.getCurrency("EUR")).isEqualTo(EUR).isSameAs(CurrencyUnitCache.getCurrency("EUR"));
+        assertThatThrownBy(() -> CurrencyUnitCache.getCurrency("XYZ")).isInstanceOf(javax.money.UnknownCurrencyException.class);
+    }
+}